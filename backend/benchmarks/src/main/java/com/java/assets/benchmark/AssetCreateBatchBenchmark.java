@@ -0,0 +1,133 @@
+package com.java.assets.benchmark;
+
+import com.java.assets.cache.AssetCache;
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.service.AssetCreateBatcher;
+import com.java.assets.service.AssetService;
+import com.java.assets.service.AssetServiceImpl;
+import com.java.assets.stats.AssetStatsCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Eşzamanlı addAsset throughput'u: her create kendi insert'iyle (perRequest) ve group commit ile (coalesced).
+ * Repository Mongo'yu taklit eder: ağ gecikmesi (rttMicros, paralel) + sunucuda komut başına opCostMicros
+ * ve doküman başına perDocMicros iş, sunucu tarafında en fazla serverSlots komut aynı anda işlenir.
+ * Gerçek değerler ortama göre değişir; bu benchmark farkın nereden geldiğini (komut sayısı) gösterir.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class AssetCreateBatchBenchmark {
+
+    @Param({"perRequest", "coalesced"})
+    public String mode;
+
+    // maxWaitMicros ve flushers sadece coalesced modda kullanılır
+    @Param({"0", "1000"})
+    public long maxWaitMicros;
+
+    @Param({"64"})
+    public int maxBatchSize;
+
+    @Param({"1", "2"})
+    public int flushers;
+
+    @Param({"500"})
+    public long rttMicros;
+
+    @Param({"100"})
+    public long opCostMicros;
+
+    @Param({"10"})
+    public long perDocMicros;
+
+    @Param({"4"})
+    public int serverSlots;
+
+    private final AtomicLong serials = new AtomicLong();
+
+    private Semaphore server;
+    private AssetCreateBatcher batcher;
+    private AssetService service;
+
+    @Setup
+    public void setUp() {
+        server = new Semaphore(serverSlots, true);
+        AssetStore repository = simulatedRepository();
+        batcher = "coalesced".equals(mode)
+                ? new AssetCreateBatcher(repository, maxBatchSize, Duration.ofNanos(maxWaitMicros * 1000), flushers)
+                : AssetCreateBatcher.disabled();
+        batcher.start();
+        service = new AssetServiceImpl(repository, AssetCache.disabled(), AssetStatsCounters.disabled(),
+                SerialNoIndex.disabled(), batcher);
+    }
+
+    @TearDown
+    public void tearDown() {
+        batcher.stop();
+    }
+
+    @Benchmark
+    public Asset addAsset() {
+        long n = serials.incrementAndGet();
+        return service.addAsset(new Asset(null, "Asset " + n, "SN-" + n, LocalDate.of(2026, 1, 1), "Computer"));
+    }
+
+    private AssetStore simulatedRepository() {
+        return (AssetStore) Proxy.newProxyInstance(
+                AssetStore.class.getClassLoader(),
+                new Class<?>[]{AssetStore.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "insert" -> {
+                        roundTrip(1);
+                        yield args[0];
+                    }
+                    case "insertUnordered" -> {
+                        roundTrip(((List<?>) args[0]).size());
+                        yield List.of();
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "SimulatedAssetRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private void roundTrip(int documents) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(rttMicros / 2));
+        server.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(opCostMicros + perDocMicros * documents));
+        } finally {
+            server.release();
+        }
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(rttMicros / 2));
+    }
+}
@@ -0,0 +1,100 @@
+package com.java.assets.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.model.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asset JSON serialization/deserialization (application.properties'teki Jackson ayarlarıyla).
+ * serializeListProjected: fields=name,serialNo ile okunmuş liste (projection dışı alanlar null,
+ * ProjectedAsset olduğu için JSON'a yazılmaz). Payload boyutları setup'ta yazdırılır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetJsonBenchmark {
+
+    private static final TypeReference<List<Asset>> ASSET_LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "10000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private Asset asset;
+    private List<Asset> assets;
+    private List<Asset> projectedAssets;
+    private byte[] assetJson;
+    private byte[] assetsJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        asset = BenchmarkData.asset(42);
+        assets = BenchmarkData.assets(listSize);
+        // Kayıtlı dokümanlardaki gibi version ve lastModified dolu
+        Instant now = Instant.now();
+        assets.forEach(a -> {
+            a.setVersion(1L);
+            a.setLastModified(now);
+        });
+        // Controller'daki gibi: projection'lı okuma + ProjectedAsset (null alanlar yazılmaz)
+        AssetFields fields = AssetFields.parse("name,serialNo");
+        projectedAssets = assets.stream()
+                .map(fields::project)
+                .map(fields::view)
+                .toList();
+        assetJson = objectMapper.writeValueAsBytes(asset);
+        assetsJson = objectMapper.writeValueAsBytes(assets);
+        System.out.printf("%nPayload (listSize=%d): all fields %d bytes, fields=name,serialNo %d bytes%n",
+                listSize, assetsJson.length, objectMapper.writeValueAsBytes(projectedAssets).length);
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() throws Exception {
+        return objectMapper.writeValueAsBytes(asset);
+    }
+
+    @Benchmark
+    public Asset deserializeSingle() throws Exception {
+        return objectMapper.readValue(assetJson, Asset.class);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(assets);
+    }
+
+    @Benchmark
+    public byte[] serializeListProjected() throws Exception {
+        return objectMapper.writeValueAsBytes(projectedAssets);
+    }
+
+    @Benchmark
+    public List<Asset> deserializeList() throws Exception {
+        return objectMapper.readValue(assetsJson, ASSET_LIST);
+    }
+}
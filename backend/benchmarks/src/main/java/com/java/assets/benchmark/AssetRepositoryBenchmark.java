@@ -0,0 +1,146 @@
+package com.java.assets.benchmark;
+
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetRepository;
+import com.java.assets.repository.AssetRepositoryCustomImpl;
+import com.java.assets.repository.AssetStore;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AssetRepository okuma/yazma gecikmesi, lokal Mongo'ya karşı.
+ * Bağlantı: -Dassets.bench.mongodb.uri (varsayılan mongodb://localhost:27017/assets_bench).
+ * Veritabanı her çalıştırmada silinip seed edilir, uygulama verisine dokunmaz.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetRepositoryBenchmark {
+
+    // Liste ekranlarının kullandığı fieldset
+    static final AssetFields LIST_VIEW = AssetFields.parse("name,serialNo");
+
+    @Param({"10000"})
+    public int seedSize;
+
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private AssetStore repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String uri = System.getProperty("assets.bench.mongodb.uri", "mongodb://localhost:27017/assets_bench");
+        mongoClient = MongoClients.create(uri);
+        String database = uri.substring(uri.lastIndexOf('/') + 1).split("\\?")[0];
+        mongoTemplate = new MongoTemplate(mongoClient, database);
+        mongoTemplate.getDb().drop();
+
+        // Uygulamadaki @Indexed/@CompoundIndex/@TextIndexed tanımlarının aynısı
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        IndexOperations indexOps = mongoTemplate.indexOps(Asset.class);
+        IndexResolver.create(mappingContext).resolveIndexFor(Asset.class).forEach(indexOps::ensureIndex);
+
+        mongoTemplate.insert(BenchmarkData.assets(seedSize), Asset.class);
+        repository = new MongoRepositoryFactory(mongoTemplate).getRepository(AssetRepository.class,
+                RepositoryFragments.just(new AssetRepositoryCustomImpl(mongoTemplate)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+
+    private String randomId() {
+        return BenchmarkData.asset(ThreadLocalRandom.current().nextInt(seedSize)).getId();
+    }
+
+    @Benchmark
+    public Optional<Asset> findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public Optional<Asset> findBySerialNo() {
+        return repository.findBySerialNo("SN-" + ThreadLocalRandom.current().nextInt(seedSize));
+    }
+
+    @Benchmark
+    public Page<Asset> findAllPaginated_deepPage() {
+        return repository.findAll(PageRequest.of(seedSize / 20 - 1, 10));
+    }
+
+    @Benchmark
+    public List<Asset> findByIdGreaterThan_keyset() {
+        return repository.findByIdGreaterThan(BenchmarkData.asset(seedSize - 20).getId(),
+                PageRequest.of(0, 11, Sort.by("id")));
+    }
+
+    @Benchmark
+    public Page<Asset> search_prefix() {
+        return repository.search(new AssetSearchCriteria("asset 12", "Monitor", false),
+                PageRequest.of(0, 10, Sort.by("name").and(Sort.by("id"))), AssetFields.all());
+    }
+
+    @Benchmark
+    public Page<Asset> findPage_allFields() {
+        return repository.search(new AssetSearchCriteria(), PageRequest.of(0, 1000), AssetFields.all());
+    }
+
+    @Benchmark
+    public Page<Asset> findPage_projected() {
+        return repository.search(new AssetSearchCriteria(), PageRequest.of(0, 1000), LIST_VIEW);
+    }
+
+    @Benchmark
+    public Optional<Asset> findAndSet() {
+        return repository.findAndSet(randomId(), Map.of("name", "Renamed " + writeSequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Asset insertAndRemove() {
+        long n = writeSequence.incrementAndGet();
+        Asset asset = BenchmarkData.asset(0);
+        asset.setId(null);
+        asset.setSerialNo("BENCH-" + n);
+        Asset saved = repository.insert(asset);
+        repository.findAndRemove(saved.getId());
+        return saved;
+    }
+}
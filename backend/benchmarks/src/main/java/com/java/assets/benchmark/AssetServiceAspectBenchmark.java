@@ -0,0 +1,105 @@
+package com.java.assets.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.java.assets.aspect.LoggingAspect;
+import com.java.assets.cache.AssetCache;
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.service.AssetService;
+import com.java.assets.service.AssetCreateBatcher;
+import com.java.assets.service.AssetServiceImpl;
+import com.java.assets.stats.AssetStatsCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssetServiceImpl çağrılarının LoggingAspect proxy'si ile ve proxy'siz maliyeti.
+ * Repository bellekte sabit cevap döner, yani sadece service + aspect + timer + log maliyeti ölçülür.
+ * logLevel=INFO uygulamadaki varsayılan davranış (timer var, log yok), DEBUG çağrı başına log'ların açık olduğu durumdur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetServiceAspectBenchmark {
+
+    @Param({"INFO", "DEBUG"})
+    public String logLevel;
+
+    private AssetService plain;
+    private AssetService advised;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("com.java.assets")).setLevel(Level.toLevel(logLevel));
+
+        Asset asset = BenchmarkData.asset(1);
+        AssetStore repository = stubRepository(asset);
+        plain = new AssetServiceImpl(repository, AssetCache.disabled(), AssetStatsCounters.disabled(), SerialNoIndex.disabled(),
+                AssetCreateBatcher.disabled());
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                new AssetServiceImpl(repository, AssetCache.disabled(), AssetStatsCounters.disabled(), SerialNoIndex.disabled(),
+                AssetCreateBatcher.disabled()));
+        proxyFactory.addAspect(new LoggingAspect(new SimpleMeterRegistry()));
+        advised = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public Asset getAssetById_plain() {
+        return plain.getAssetById("1");
+    }
+
+    @Benchmark
+    public Asset getAssetById_aspect() {
+        return advised.getAssetById("1");
+    }
+
+    @Benchmark
+    public List<Asset> getAllAssets_plain() {
+        return plain.getAllAssets(AssetFields.all());
+    }
+
+    @Benchmark
+    public List<Asset> getAllAssets_aspect() {
+        return advised.getAllAssets(AssetFields.all());
+    }
+
+    // Mockito yerine JDK proxy: stub'ın kendi maliyeti ölçümü kirletmesin
+    private static AssetStore stubRepository(Asset asset) {
+        List<Asset> all = List.of(asset);
+        return (AssetStore) Proxy.newProxyInstance(
+                AssetStore.class.getClassLoader(),
+                new Class<?>[]{AssetStore.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById", "findBySerialNo" -> Optional.of(asset);
+                    case "findAll" -> all;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubAssetRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
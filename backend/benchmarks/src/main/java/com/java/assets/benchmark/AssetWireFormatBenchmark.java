@@ -0,0 +1,101 @@
+package com.java.assets.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.java.assets.model.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Liste cevabının wire formatları: JSON, gzip'li JSON (server.compression), Smile, CBOR, gzip'li CBOR.
+ * encode/decode CPU süresi ölçülür, kablodaki byte sayısı setup'ta yazdırılır.
+ * Mapper'lar uygulamadaki gibi kurulur (ISO tarihler, MessageConverterConfig).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetWireFormatBenchmark {
+
+    private static final TypeReference<List<Asset>> ASSET_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1000", "100000"})
+    public int listSize;
+
+    @Param({"json", "json+gzip", "smile", "cbor", "cbor+gzip"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private boolean gzip;
+    private List<Asset> assets;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        String mapper = format.replace("+gzip", "");
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (mapper.equals("smile")) {
+            builder.factory(new SmileFactory());
+        } else if (mapper.equals("cbor")) {
+            builder.factory(new CBORFactory());
+        }
+        objectMapper = builder.build();
+        gzip = format.endsWith("+gzip");
+
+        assets = BenchmarkData.assets(listSize);
+        Instant now = Instant.now();
+        assets.forEach(asset -> {
+            asset.setVersion(1L);
+            asset.setLastModified(now);
+        });
+        encoded = encode();
+        System.out.printf("%nWire size (%s, listSize=%d): %d bytes (%.1f bytes/asset)%n",
+                format, listSize, encoded.length, encoded.length / (double) listSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(encoded == null ? 8192 : encoded.length);
+        // Tomcat'in varsayılan gzip seviyesi (Deflater.DEFAULT_COMPRESSION) ile aynı
+        try (OutputStream out = gzip ? new GZIPOutputStream(buffer, 8192) : buffer) {
+            objectMapper.writeValue(out, assets);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public List<Asset> decode() throws IOException {
+        InputStream in = new ByteArrayInputStream(encoded);
+        try (InputStream body = gzip ? new GZIPInputStream(in, 8192) : in) {
+            return objectMapper.readValue(body, ASSET_LIST);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.java.assets.benchmark;
+
+import com.java.assets.model.Asset;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark'larda kullanılan sentetik asset'ler
+ */
+final class BenchmarkData {
+
+    static final List<String> CATEGORIES = List.of("Computer", "Peripheral", "Monitor", "Network", "Mobile", "Other");
+
+    private BenchmarkData() {
+    }
+
+    static Asset asset(int i) {
+        return new Asset(
+                String.format("%024x", i),
+                "Asset " + i,
+                "SN-" + i,
+                LocalDate.of(2024, 1, 1).plusDays(i % 1000),
+                CATEGORIES.get(i % CATEGORIES.size()));
+    }
+
+    static List<Asset> assets(int count) {
+        return IntStream.range(0, count).mapToObj(BenchmarkData::asset).toList();
+    }
+}
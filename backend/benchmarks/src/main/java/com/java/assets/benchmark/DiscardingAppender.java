@@ -0,0 +1,15 @@
+package com.java.assets.benchmark;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * Log mesajını formatlayıp atar (gerçek appender'ın CPU maliyeti, disk/konsol I/O'su olmadan)
+ */
+public class DiscardingAppender extends AppenderBase<ILoggingEvent> {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.getFormattedMessage();
+    }
+}
@@ -0,0 +1,127 @@
+package com.java.assets.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Çalışan bir backend'e karşı kapalı döngü HTTP yük testi: N eşzamanlı istemci, her biri
+ * cevap gelir gelmez bir sonraki isteği atar. Throughput ve p50/p99/p99.9 gecikme yazdırılır.
+ *
+ * Aynı makinede backend'i VIRTUAL_THREADS=false ve true ile ayrı ayrı başlatıp aynı
+ * parametrelerle çalıştırarak platform thread havuzu ile virtual thread modu karşılaştırılır.
+ *
+ * java -Dload.concurrency=1000 -cp target/benchmarks.jar com.java.assets.benchmark.HttpLoadTest
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.url", "http://localhost:8080");
+        int concurrency = Integer.getInteger("load.concurrency", 1000);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration", 30));
+        List<URI> targets = Arrays.stream(System.getProperty("load.paths",
+                        "/api/assets/paginated?page=0&size=20,/api/assets/stats").split(","))
+                .map(path -> URI.create(baseUrl + path.trim()))
+                .toList();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("Warmup %ds, %d clients...%n", warmup.toSeconds(), concurrency);
+        run(client, targets, concurrency, warmup);
+        System.out.printf("Measuring %ds, %d clients, targets %s%n", duration.toSeconds(), concurrency, targets);
+        Result result = run(client, targets, concurrency, duration);
+        result.print(duration);
+    }
+
+    private static Result run(HttpClient client, List<URI> targets, int concurrency, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders[i] = recorder;
+            int offset = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    int n = offset;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(targets.get(n++ % targets.size()))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        recorder.record(System.nanoTime() - start);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return new Result(recorders, errors.get());
+    }
+
+    // Worker başına ayrı dizi: kayıt sırasında paylaşılan state yok
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+    }
+
+    private record Result(LatencyRecorder[] recorders, long errors) {
+
+        void print(Duration duration) {
+            long[] all = Arrays.stream(recorders)
+                    .flatMapToLong(r -> Arrays.stream(r.values, 0, r.size))
+                    .sorted()
+                    .toArray();
+            if (all.length == 0) {
+                System.out.println("No requests completed");
+                return;
+            }
+            System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                    all.length, errors, all.length / (double) duration.toSeconds());
+            System.out.printf("p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                    millis(percentile(all, 0.50)), millis(percentile(all, 0.99)),
+                    millis(percentile(all, 0.999)), millis(all[all.length - 1]));
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.java.assets.benchmark;
+
+import com.java.assets.repository.memory.InMemoryAssetRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gömülü asset store'un (memory profili) açılış süresi: aynı veri snapshot'tan ya da sadece write log'dan.
+ * Setup iki dizine aynı yazmaları yapar (her asset bir insert + bir update): biri checkpoint sonrası
+ * (snapshot + boş log), diğeri checkpoint'siz (tüm kayıtlar log'da, asset başına iki kayıt).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class InMemoryStoreBenchmark {
+
+    @Param({"1000000"})
+    public int assets;
+
+    private Path snapshotDir;
+    private Path logDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshotDir = Files.createTempDirectory("asset-store-snapshot");
+        logDir = Files.createTempDirectory("asset-store-log");
+        fill(snapshotDir, true);
+        fill(logDir, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(snapshotDir);
+        FileSystemUtils.deleteRecursively(logDir);
+    }
+
+    @Benchmark
+    public long recoverFromSnapshot() throws IOException {
+        return recover(snapshotDir);
+    }
+
+    @Benchmark
+    public long recoverFromLog() throws IOException {
+        return recover(logDir);
+    }
+
+    private long recover(Path directory) throws IOException {
+        try (InMemoryAssetRepository repository = InMemoryAssetRepository.open(directory, false)) {
+            return repository.count();
+        }
+    }
+
+    private void fill(Path directory, boolean checkpoint) throws IOException {
+        try (InMemoryAssetRepository repository = InMemoryAssetRepository.open(directory, false)) {
+            for (int i = 0; i < assets; i++) {
+                repository.insert(BenchmarkData.asset(i));
+            }
+            for (int i = 0; i < assets; i++) {
+                repository.findAndSet(BenchmarkData.asset(i).getId(), Map.of("name", "Updated " + i));
+            }
+            if (checkpoint) {
+                repository.checkpoint();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.java.assets.benchmark;
+
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.model.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * SerialNoIndex lookup'ı (var olan serial: id ile / sadece var mı, olmayan serial) ve aynı verinin
+ * HashMap<String, String> hali.
+ * Bellek karşılaştırması setup'ta yazdırılır: index dizilerinin boyutu ve HashMap'in GC sonrası heap farkı.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SerialNoIndexBenchmark {
+
+    private static final int PROBES = 4096;
+
+    @Param({"1000000"})
+    public int serials;
+
+    private SerialNoIndex index;
+    private Map<String, String> hashMap;
+    private String[] present;
+    private String[] absent;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new SerialNoIndex(0.01);
+        Iterator<Asset> scan = IntStream.range(0, serials).mapToObj(BenchmarkData::asset).iterator();
+        index.rebuild(serials, scan);
+
+        long before = usedHeap();
+        hashMap = new HashMap<>();
+        IntStream.range(0, serials).mapToObj(BenchmarkData::asset)
+                .forEach(asset -> hashMap.put(asset.getSerialNo(), asset.getId()));
+        long hashMapBytes = usedHeap() - before;
+
+        Random random = new Random(42);
+        present = new String[PROBES];
+        absent = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            present[i] = "SN-" + random.nextInt(serials);
+            absent[i] = "NX-" + random.nextInt(serials);
+        }
+        long falsePositives = IntStream.range(0, PROBES).filter(i -> index.contains(absent[i])).count();
+        System.out.printf("%nMemory per %d serials: index %.1f MB (%.1f bytes/serial), HashMap<String, String> %.1f MB"
+                        + " (%.1f bytes/serial); absent serials reported present: %d/%d%n",
+                serials, index.memoryBytes() / 1e6, index.memoryBytes() / (double) serials,
+                hashMapBytes / 1e6, hashMapBytes / (double) serials, falsePositives, PROBES);
+    }
+
+    @Benchmark
+    public String indexHit() {
+        return index.findId(present[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean indexContainsHit() {
+        return index.contains(present[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public String indexMiss() {
+        return index.findId(absent[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public String hashMapHit() {
+        return hashMap.get(present[next++ & (PROBES - 1)]);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,72 @@
+package com.java.assets.benchmark;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Time-to-first-request: backend'i ayrı bir process olarak başlatır, startup.url ilk cevabı
+ * (status fark etmez) verene kadar geçen süreyi ölçer, process'i kapatır. startup.runs kez tekrarlar,
+ * her koşuyu ve min/medyanı yazdırır. JVM + Spring açılışı + ilk request'in kendisi dahildir.
+ *
+ * java -Dstartup.command="java -jar ../target/assets-0.0.1-SNAPSHOT-exec.jar" \
+ *      -cp target/benchmarks.jar com.java.assets.benchmark.StartupTimer
+ */
+public class StartupTimer {
+
+    public static void main(String[] args) throws Exception {
+        String command = System.getProperty("startup.command");
+        if (command == null) {
+            throw new IllegalArgumentException("startup.command is required");
+        }
+        URI url = URI.create(System.getProperty("startup.url", "http://localhost:8080/api/assets/paginated?page=0&size=20"));
+        int runs = Integer.getInteger("startup.runs", 5);
+        Duration timeout = Duration.ofSeconds(Integer.getInteger("startup.timeout", 120));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        List<String> argv = Arrays.asList(command.trim().split("\\s+"));
+        System.out.printf("Command: %s%nURL: %s%n", command, url);
+
+        long[] millis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            millis[run] = timeToFirstResponse(client, argv, url, timeout);
+            System.out.printf("run %d: %d ms%n", run + 1, millis[run]);
+        }
+        Arrays.sort(millis);
+        System.out.printf("time-to-first-request min=%d ms median=%d ms%n", millis[0], millis[runs / 2]);
+    }
+
+    private static long timeToFirstResponse(HttpClient client, List<String> argv, URI url, Duration timeout)
+            throws Exception {
+        Process process = new ProcessBuilder(argv)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(url).timeout(timeout).GET().build();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Process exited with " + process.exitValue());
+                }
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return (System.nanoTime() - start) / 1_000_000;
+                } catch (ConnectException ex) {
+                    // Port henüz açılmadı
+                    Thread.sleep(5);
+                }
+            }
+            throw new IllegalStateException("No response within " + timeout);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+}
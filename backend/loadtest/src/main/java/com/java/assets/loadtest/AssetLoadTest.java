@@ -0,0 +1,146 @@
+package com.java.assets.loadtest;
+
+import com.java.assets.AssetsApplication;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.bson.types.ObjectId;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tekrarlanabilir yük testi: lokal bir mongod başlatır (ya da load.mongodb.uri'yi kullanır),
+ * load.partitions > 1 ise her partition için ayrı bir mongod (assets.partitions ile dağıtılmış kurulum),
+ * backend'i aynı JVM'de rastgele bir portta açar, load.seed kadar sentetik asset yükler ve
+ * /api/assets senaryolarını sabit varış hızında (load.rate) çalıştırır.
+ * Sonuç: konsolda percentile tablosu, load.report-dir altında summary.csv + .hgrm dosyaları.
+ *
+ * Uygulama ayarları da system property olarak verilebilir (ör. -Dassets.cache.enabled=false).
+ */
+public class AssetLoadTest {
+
+    static final String DATABASE = "assets_loadtest";
+    static final int SEED_BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        // Virgülle ayrılmış birden fazla uri: her biri bir partition
+        String mongoUris = System.getProperty("load.mongodb.uri");
+        int partitions = Integer.getInteger("load.partitions", 1);
+        int seed = Integer.getInteger("load.seed", 10_000);
+        double rate = Double.parseDouble(System.getProperty("load.rate", "500"));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration", 60));
+        Map<Scenario, Integer> mix = parseMix(System.getProperty("load.mix",
+                "list:1,paginated:20,by_id:50,create:10,update:13,delete:6"));
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 2_000);
+        Path reportDir = Path.of(System.getProperty("load.report-dir", "target/loadtest"));
+
+        List<TransitionWalker.ReachedState<RunningMongodProcess>> mongods = new ArrayList<>();
+        List<String> uris = new ArrayList<>();
+        if (mongoUris == null) {
+            System.out.printf("Starting %d local mongod (downloaded on first run)...%n", partitions);
+            for (int i = 0; i < partitions; i++) {
+                TransitionWalker.ReachedState<RunningMongodProcess> mongod = Mongod.instance().start(Version.Main.V7_0);
+                mongods.add(mongod);
+                uris.add("mongodb://" + mongod.current().getServerAddress());
+            }
+        } else {
+            Arrays.stream(mongoUris.split(",")).map(String::trim).forEach(uris::add);
+        }
+        try (ConfigurableApplicationContext context = startBackend(uris)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            IdPool ids = new IdPool(seed(context.getBean(AssetStore.class), seed));
+            System.out.printf("Backend on port %d, seeded %d assets into %s on %d partition(s)%n", port, seed,
+                    DATABASE, uris.size());
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            FixedRateDriver driver = new FixedRateDriver(client, URI.create("http://localhost:" + port), ids, mix,
+                    maxInFlight);
+
+            System.out.printf(Locale.ROOT, "Warmup %ds at %.0f req/s...%n", warmup.toSeconds(), rate);
+            driver.run(rate, warmup);
+            System.out.printf(Locale.ROOT, "Measuring %ds at %.0f req/s, mix %s%n", duration.toSeconds(), rate, mix);
+            LoadReport.write(driver.run(rate, duration), rate, reportDir);
+        } finally {
+            mongods.forEach(TransitionWalker.ReachedState::close);
+        }
+    }
+
+    private static ConfigurableApplicationContext startBackend(List<String> mongoUris) {
+        Map<String, Object> properties = new HashMap<>(Map.of(
+                "spring.data.mongodb.uri", mongoUris.get(0),
+                // Uygulama verisine dokunulmaz, test veritabanı her çalıştırmada sıfırlanır
+                // (partition uri'lerinde veritabanı yoksa bu kullanılır)
+                "spring.data.mongodb.database", DATABASE,
+                "server.port", "0",
+                "spring.devtools.restart.enabled", "false"));
+        if (mongoUris.size() > 1) {
+            properties.put("assets.partitions.enabled", "true");
+            properties.put("assets.partitions.uris", String.join(",", mongoUris));
+        }
+        return new SpringApplicationBuilder(AssetsApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    // Index'ler uygulama açılışında oluşturuldu; sadece doküman'lar silinip yeniden yazılır.
+    // Repository üzerinden: partition'lı kurulumda asset'ler partition'lara dağıtılır
+    static List<String> seed(AssetStore repository, int count) {
+        repository.deleteAll();
+        List<String> ids = new ArrayList<>(count);
+        List<Asset> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        Instant now = Instant.now();
+        LocalDate firstDate = LocalDate.now().minusYears(3);
+        for (int i = 0; i < count; i++) {
+            String id = new ObjectId().toHexString();
+            Asset asset = new Asset(id, "Seed asset " + i, "SEED-" + i, firstDate.plusDays(i % 1095),
+                    Scenario.CATEGORIES.get(i % Scenario.CATEGORIES.size()));
+            asset.setVersion(0L);
+            asset.setLastModified(now);
+            batch.add(asset);
+            ids.add(id);
+            if (batch.size() == SEED_BATCH_SIZE || i == count - 1) {
+                repository.insertUnordered(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    // "by_id:50,create:10" → senaryo ağırlıkları
+    static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no scenario with a positive weight: " + mix);
+        }
+        return weights;
+    }
+}
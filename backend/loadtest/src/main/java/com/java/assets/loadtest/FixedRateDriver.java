@@ -0,0 +1,114 @@
+package com.java.assets.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Açık döngü (sabit varış hızı) yük üretici: istekler cevap beklenmeden, 1/rate aralıklarla
+ * gönderilir. Gecikme isteğin PLANLANAN gönderim zamanından ölçülür; servis yavaşlarsa
+ * kuyrukta bekleme süresi de sonuca girer (coordinated omission yok).
+ *
+ * maxInFlight dolduysa istek gönderilmez ve "dropped" sayılır: üretici sınırsız büyümez,
+ * düşen istek sayısı da sonuçta görünür.
+ */
+final class FixedRateDriver {
+
+    private final HttpClient client;
+    private final URI base;
+    private final IdPool ids;
+    private final Map<Scenario, Integer> mix;
+    private final int totalWeight;
+    private final int maxInFlight;
+
+    FixedRateDriver(HttpClient client, URI base, IdPool ids, Map<Scenario, Integer> mix, int maxInFlight) {
+        this.client = client;
+        this.base = base;
+        this.ids = ids;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.maxInFlight = maxInFlight;
+    }
+
+    Result run(double rate, Duration duration) throws InterruptedException {
+        Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+        mix.keySet().forEach(scenario -> recorders.put(scenario, new Recorder(3)));
+        int scenarios = Scenario.values().length;
+        AtomicLongArray errors = new AtomicLongArray(scenarios);
+        AtomicLongArray dropped = new AtomicLongArray(scenarios);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = pick();
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet(scenario.ordinal());
+                continue;
+            }
+            HttpRequest request = scenario.request(base, ids).timeout(Scenario.TIMEOUT).build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        recorders.get(scenario).recordValue(System.nanoTime() - intended);
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet(scenario.ordinal());
+                        } else {
+                            scenario.onSuccess(response.body(), ids);
+                        }
+                        inFlight.release();
+                    });
+        }
+        // Süre bitiminde gönderilmiş isteklerin cevapları da sayılır
+        if (!inFlight.tryAcquire(maxInFlight, Scenario.TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+            System.err.println("Some requests did not complete before the drain timeout");
+        }
+
+        Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+        recorders.forEach((scenario, recorder) -> histograms.put(scenario, recorder.getIntervalHistogram()));
+        return new Result(duration, histograms, errors, dropped);
+    }
+
+    private Scenario pick() {
+        int n = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            n -= entry.getValue();
+            if (n < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty scenario mix");
+    }
+
+    record Result(Duration duration, Map<Scenario, Histogram> histograms,
+                  AtomicLongArray errors, AtomicLongArray dropped) {
+
+        long errors(Scenario scenario) {
+            return errors.get(scenario.ordinal());
+        }
+
+        long dropped(Scenario scenario) {
+            return dropped.get(scenario.ordinal());
+        }
+    }
+}
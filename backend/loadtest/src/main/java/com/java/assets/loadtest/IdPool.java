@@ -0,0 +1,44 @@
+package com.java.assets.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Yük sırasında var olan asset id'leri. take() silinecek id'yi havuzdan çıkarır
+ * (aynı asset iki kez silinip 404 sayılmasın); O(1) swap-remove.
+ */
+final class IdPool {
+
+    private final List<String> ids;
+
+    IdPool(Collection<String> initial) {
+        this.ids = new ArrayList<>(initial);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+
+    synchronized void add(String id) {
+        ids.add(id);
+    }
+
+    synchronized String random() {
+        return ids.isEmpty() ? "missing" : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    synchronized String take() {
+        if (ids.isEmpty()) {
+            return "missing";
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        String id = ids.get(index);
+        String last = ids.remove(ids.size() - 1);
+        if (index < ids.size()) {
+            ids.set(index, last);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,81 @@
+package com.java.assets.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Senaryo başına throughput + p50/p90/p99/p99.9/max tablosu (konsol), ayrıca report dizinine:
+ * summary.csv (build'ler arası karşılaştırma için) ve her senaryonun .hgrm percentile dağılımı
+ * (HdrHistogram plotter ile çizilebilir). Değerler milisaniye.
+ */
+final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String HEADER = "scenario,requests,errors,dropped,throughput_rps,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms";
+
+    private LoadReport() {
+    }
+
+    static void write(FixedRateDriver.Result result, double rate, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> rows = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (Map.Entry<Scenario, Histogram> entry : result.histograms().entrySet()) {
+            Scenario scenario = entry.getKey();
+            Histogram histogram = entry.getValue();
+            total.add(histogram);
+            totalErrors += result.errors(scenario);
+            totalDropped += result.dropped(scenario);
+            rows.add(row(scenario.name().toLowerCase(Locale.ROOT), histogram,
+                    result.errors(scenario), result.dropped(scenario), result));
+            writeDistribution(directory.resolve(scenario.name().toLowerCase(Locale.ROOT) + ".hgrm"), histogram);
+        }
+        rows.add(row("all", total, totalErrors, totalDropped, result));
+        writeDistribution(directory.resolve("all.hgrm"), total);
+        Files.write(directory.resolve("summary.csv"), prepend(HEADER, rows));
+
+        System.out.printf(Locale.ROOT, "%nTarget rate %.0f req/s for %ds%n", rate, result.duration().toSeconds());
+        System.out.printf("%-10s %9s %7s %8s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "dropped", "req/s", "p50", "p90", "p99", "p99.9", "max");
+        for (String row : rows) {
+            System.out.printf("%-10s %9s %7s %8s %10s %9s %9s %9s %9s %9s%n", (Object[]) row.split(","));
+        }
+        System.out.println("Latencies in ms. Reports written to " + directory.toAbsolutePath());
+    }
+
+    private static String row(String name, Histogram histogram, long errors, long dropped,
+                              FixedRateDriver.Result result) {
+        double seconds = result.duration().toMillis() / 1000.0;
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                name, histogram.getTotalCount(), errors, dropped, histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private static List<String> prepend(String header, List<String> rows) {
+        List<String> lines = new ArrayList<>(rows.size() + 1);
+        lines.add(header);
+        lines.addAll(rows);
+        return lines;
+    }
+}
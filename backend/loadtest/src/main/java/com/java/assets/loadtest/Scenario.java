@@ -0,0 +1,94 @@
+package com.java.assets.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /api/assets üzerindeki yük senaryoları. Her istek bir senaryo seçer; by-id/update/delete
+ * IdPool'daki mevcut id'leri kullanır, create'in döndürdüğü id havuza eklenir.
+ */
+enum Scenario {
+
+    LIST {
+        @Override
+        HttpRequest.Builder request(URI base, IdPool ids) {
+            return HttpRequest.newBuilder(base.resolve("/api/assets?fields=name,serialNo")).GET();
+        }
+    },
+    PAGINATED {
+        @Override
+        HttpRequest.Builder request(URI base, IdPool ids) {
+            int page = ThreadLocalRandom.current().nextInt(Math.max(1, ids.size() / 20));
+            return HttpRequest.newBuilder(base.resolve("/api/assets/paginated?page=" + page + "&size=20")).GET();
+        }
+    },
+    BY_ID {
+        @Override
+        HttpRequest.Builder request(URI base, IdPool ids) {
+            return HttpRequest.newBuilder(base.resolve("/api/assets/" + ids.random())).GET();
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest.Builder request(URI base, IdPool ids) {
+            long n = SEQUENCE.incrementAndGet();
+            String body = "{\"name\":\"Load asset " + n + "\",\"serialNo\":\"LOAD-" + RUN + "-" + n + "\","
+                    + "\"assignDate\":\"" + LocalDate.now() + "\",\"category\":\"" + randomCategory() + "\"}";
+            return json(HttpRequest.newBuilder(base.resolve("/api/assets")), "POST", body);
+        }
+
+        @Override
+        void onSuccess(String body, IdPool ids) {
+            Matcher id = ID.matcher(body);
+            if (id.find()) {
+                ids.add(id.group(1));
+            }
+        }
+    },
+    UPDATE {
+        @Override
+        HttpRequest.Builder request(URI base, IdPool ids) {
+            String body = "{\"category\":\"" + randomCategory() + "\"}";
+            return json(HttpRequest.newBuilder(base.resolve("/api/assets/" + ids.random())), "PATCH", body);
+        }
+    },
+    DELETE {
+        @Override
+        HttpRequest.Builder request(URI base, IdPool ids) {
+            return HttpRequest.newBuilder(base.resolve("/api/assets/" + ids.take())).DELETE();
+        }
+    };
+
+    static final List<String> CATEGORIES = List.of("Computer", "Peripheral", "Monitor", "Network", "Mobile", "Other");
+
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    // Aynı veritabanına karşı tekrar çalıştırmada serialNo çakışmasın
+    private static final String RUN = Long.toString(System.currentTimeMillis(), 36);
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    abstract HttpRequest.Builder request(URI base, IdPool ids);
+
+    /**
+     * 2xx cevaptan sonra (create yeni id'yi havuza ekler)
+     */
+    void onSuccess(String body, IdPool ids) {
+    }
+
+    static String randomCategory() {
+        return CATEGORIES.get(ThreadLocalRandom.current().nextInt(CATEGORIES.size()));
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+}
@@ -0,0 +1,21 @@
+package com.java.assets.reactive;
+
+import com.java.assets.exception.GlobalExceptionHandler;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+
+/**
+ * Asset API'nin WebFlux + reactive Mongo varyantı.
+ * Model, DTO ve exception'lar backend modülünden gelir; sadece bu paket taranır,
+ * servlet tarafındaki controller/service bean'leri yüklenmez.
+ * Blocking MongoClient (reactive starter classpath'e sync driver'ı da getirir) oluşturulmaz.
+ */
+@SpringBootApplication(exclude = {MongoAutoConfiguration.class, MongoDataAutoConfiguration.class})
+public class ReactiveAssetsApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveAssetsApplication.class, args);
+    }
+}
@@ -0,0 +1,62 @@
+package com.java.assets.reactive.controller;
+
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.model.Asset;
+import com.java.assets.reactive.service.ReactiveAssetService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AssetController'ın non-blocking karşılığı, aynı path'ler ve status kodları.
+ * Liste endpoint'leri Flux döner: JSON array de NDJSON da eleman eleman,
+ * client'ın okuma hızında yazılır.
+ */
+@RestController
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+public class ReactiveAssetController {
+
+    private final ReactiveAssetService assetService;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Asset> getAllAssets() {
+        return assetService.getAllAssets();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Asset> getAssetById(@PathVariable String id) {
+        return assetService.getAssetById(id);
+    }
+
+    @GetMapping("/by-serial/{serialNo}")
+    public Mono<Asset> getAssetBySerialNo(@PathVariable String serialNo) {
+        return assetService.getAssetBySerialNo(serialNo);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Asset> addAsset(@Valid @RequestBody Asset asset) {
+        return assetService.addAsset(asset);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<Asset> updateAsset(@PathVariable String id, @Valid @RequestBody Asset asset) {
+        return assetService.updateAsset(id, asset);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<Asset> patchAsset(@PathVariable String id, @Valid @RequestBody AssetPatch patch) {
+        return assetService.patchAsset(id, patch);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteAsset(@PathVariable String id) {
+        return assetService.deleteAsset(id);
+    }
+}
@@ -0,0 +1,41 @@
+package com.java.assets.reactive.exception;
+
+import com.java.assets.exception.ErrorResponse;
+import com.java.assets.exception.GlobalExceptionHandler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GlobalExceptionHandler'ın tüm eşlemeleri aynen geçerlidir;
+ * burada sadece WebFlux'a özgü exception tipleri eklenir.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler extends GlobalExceptionHandler {
+
+    // Validation hataları - MVC'deki MethodArgumentNotValidException ile aynı cevap formatı
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleBindErrors(WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    // Okunamayan body, bilinmeyen route vs. - kendi status'u ile döner, 500'e düşmez
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex) {
+        return ResponseEntity
+                .status(ex.getStatusCode())
+                .body(new ErrorResponse(ex.getStatusCode().value(), ex.getReason()));
+    }
+}
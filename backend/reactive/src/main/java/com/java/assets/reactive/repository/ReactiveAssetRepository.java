@@ -0,0 +1,11 @@
+package com.java.assets.reactive.repository;
+
+import com.java.assets.model.Asset;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAssetRepository extends ReactiveMongoRepository<Asset, String>, ReactiveAssetRepositoryCustom {
+
+    // serialNo unique index'i üzerinden tek doküman
+    Mono<Asset> findBySerialNo(String serialNo);
+}
@@ -0,0 +1,21 @@
+package com.java.assets.reactive.repository;
+
+import com.java.assets.model.Asset;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface ReactiveAssetRepositoryCustom {
+
+    /**
+     * Verilen alanları tek findAndModify ile set eder (version ve lastModified dahil), güncellenmiş dokümanı döner.
+     * Asset yoksa boş Mono döner.
+     */
+    Mono<Asset> findAndSet(String id, Map<String, Object> fields);
+
+    /**
+     * Tek round trip'te siler ve silinen dokümanı döner; asset yoksa boş Mono döner.
+     * Silme başarılıysa /changes için AssetTombstone yazılır.
+     */
+    Mono<Asset> findAndRemove(String id);
+}
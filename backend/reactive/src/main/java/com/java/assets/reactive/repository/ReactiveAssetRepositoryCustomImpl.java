@@ -0,0 +1,39 @@
+package com.java.assets.reactive.repository;
+
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ReactiveAssetRepositoryCustomImpl implements ReactiveAssetRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Asset> findAndSet(String id, Map<String, Object> fields) {
+        Update update = new Update();
+        fields.forEach(update::set);
+        // Servlet tarafıyla aynı: version artar, lastModified delta sync için güncellenir
+        update.inc("version", 1).set("lastModified", Instant.now());
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Asset.class);
+    }
+
+    @Override
+    public Mono<Asset> findAndRemove(String id) {
+        return mongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), Asset.class)
+                .flatMap(removed -> mongoTemplate.save(new AssetTombstone(id, Instant.now())).thenReturn(removed));
+    }
+}
@@ -0,0 +1,23 @@
+package com.java.assets.reactive.service;
+
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.model.Asset;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAssetService {
+
+    Flux<Asset> getAllAssets();
+
+    Mono<Asset> getAssetById(String id);
+
+    Mono<Asset> getAssetBySerialNo(String serialNo);
+
+    Mono<Asset> addAsset(Asset asset);
+
+    Mono<Asset> updateAsset(String id, Asset asset);
+
+    Mono<Asset> patchAsset(String id, AssetPatch patch);
+
+    Mono<Void> deleteAsset(String id);
+}
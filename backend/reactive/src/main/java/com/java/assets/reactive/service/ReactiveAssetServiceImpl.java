@@ -0,0 +1,104 @@
+package com.java.assets.reactive.service;
+
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.exception.AssetNotFoundException;
+import com.java.assets.exception.DuplicateSerialNoException;
+import com.java.assets.model.Asset;
+import com.java.assets.reactive.repository.ReactiveAssetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AssetServiceImpl ile aynı semantik: duplicate kontrolünü serialNo unique index'i yapar,
+ * update/patch tek findAndModify'dır. Hatalar aynı exception tipleriyle Mono.error olarak döner.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveAssetServiceImpl implements ReactiveAssetService {
+
+    private final ReactiveAssetRepository assetRepository;
+
+    @Override
+    public Flux<Asset> getAllAssets() {
+        // Driver cursor'dan subscriber'ın talebi kadar okur (backpressure)
+        return assetRepository.findAll();
+    }
+
+    @Override
+    public Mono<Asset> getAssetById(String id) {
+        return assetRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new AssetNotFoundException(id)));
+    }
+
+    @Override
+    public Mono<Asset> getAssetBySerialNo(String serialNo) {
+        return assetRepository.findBySerialNo(serialNo)
+                .switchIfEmpty(Mono.error(() -> AssetNotFoundException.bySerialNo(serialNo)));
+    }
+
+    @Override
+    public Mono<Asset> addAsset(Asset asset) {
+        asset.setLastModified(Instant.now());
+        return assetRepository.insert(asset)
+                .onErrorMap(DuplicateKeyException.class, ex -> duplicateSerialNo(asset.getSerialNo(), ex));
+    }
+
+    @Override
+    public Mono<Asset> updateAsset(String id, Asset updatedAsset) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", updatedAsset.getName());
+        fields.put("serialNo", updatedAsset.getSerialNo());
+        fields.put("assignDate", updatedAsset.getAssignDate());
+        if (updatedAsset.getCategory() != null) {
+            fields.put("category", updatedAsset.getCategory());
+        }
+        return setFields(id, fields);
+    }
+
+    @Override
+    public Mono<Asset> patchAsset(String id, AssetPatch patch) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (patch.getName() != null) {
+            fields.put("name", patch.getName());
+        }
+        if (patch.getSerialNo() != null) {
+            fields.put("serialNo", patch.getSerialNo());
+        }
+        if (patch.getAssignDate() != null) {
+            fields.put("assignDate", patch.getAssignDate());
+        }
+        if (patch.getCategory() != null) {
+            fields.put("category", patch.getCategory());
+        }
+        if (fields.isEmpty()) {
+            return getAssetById(id);
+        }
+        return setFields(id, fields);
+    }
+
+    @Override
+    public Mono<Void> deleteAsset(String id) {
+        return assetRepository.findAndRemove(id)
+                .switchIfEmpty(Mono.error(() -> new AssetNotFoundException(id)))
+                .then();
+    }
+
+    private Mono<Asset> setFields(String id, Map<String, Object> fields) {
+        return assetRepository.findAndSet(id, fields)
+                .switchIfEmpty(Mono.error(() -> new AssetNotFoundException(id)))
+                .onErrorMap(DuplicateKeyException.class,
+                        ex -> duplicateSerialNo((String) fields.get("serialNo"), ex));
+    }
+
+    private static DuplicateSerialNoException duplicateSerialNo(String serialNo, Throwable cause) {
+        return new DuplicateSerialNoException(
+                "Asset with serialNo '" + serialNo + "' already exists!", cause);
+    }
+}
@@ -0,0 +1,73 @@
+package com.java.assets.reactive.controller;
+
+import com.java.assets.exception.AssetNotFoundException;
+import com.java.assets.exception.DuplicateSerialNoException;
+import com.java.assets.model.Asset;
+import com.java.assets.reactive.service.ReactiveAssetService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Servlet backend'deki GlobalExceptionHandler ile aynı status kodları ve cevap formatı
+@WebFluxTest(ReactiveAssetController.class)
+class ReactiveAssetControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveAssetService assetService;
+
+    @Test
+    @DisplayName("GET /{id} → should return 404 with ErrorResponse when missing")
+    void getAssetById_shouldReturn404() {
+        when(assetService.getAssetById("404")).thenReturn(Mono.error(new AssetNotFoundException("404")));
+
+        webTestClient.get().uri("/api/assets/404")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Asset not found with id: 404");
+    }
+
+    @Test
+    @DisplayName("POST → should return field errors for an invalid asset")
+    void addAsset_shouldReturnValidationErrors() {
+        webTestClient.post().uri("/api/assets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "X"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Name must be between 2-100 characters")
+                .jsonPath("$.serialNo").isEqualTo("Serial number cannot be empty");
+
+        verifyNoInteractions(assetService);
+    }
+
+    @Test
+    @DisplayName("POST → should return 409 for a duplicate serialNo")
+    void addAsset_shouldReturn409() {
+        when(assetService.addAsset(any(Asset.class)))
+                .thenReturn(Mono.error(new DuplicateSerialNoException("Asset with serialNo 'SN001' already exists!")));
+
+        webTestClient.post().uri("/api/assets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("name", "Laptop", "serialNo", "SN001", "assignDate", "2026-02-17"))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409);
+    }
+}
@@ -0,0 +1,99 @@
+package com.java.assets.reactive.service;
+
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.exception.AssetNotFoundException;
+import com.java.assets.exception.DuplicateSerialNoException;
+import com.java.assets.model.Asset;
+import com.java.assets.reactive.repository.ReactiveAssetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAssetServiceImplTest {
+
+    @Mock
+    private ReactiveAssetRepository assetRepository;
+
+    @InjectMocks
+    private ReactiveAssetServiceImpl assetService;
+
+    private Asset testAsset;
+
+    @BeforeEach
+    void setUp() {
+        testAsset = new Asset("1", "Laptop Dell XPS", "SN001", LocalDate.of(2026, 2, 17), "Computer");
+    }
+
+    @Test
+    @DisplayName("getAllAssets → should emit only as many assets as requested")
+    void getAllAssets_shouldRespectBackpressure() {
+        Asset second = new Asset("2", "Monitor LG", "SN002", LocalDate.of(2026, 2, 18), "Monitor");
+        when(assetRepository.findAll()).thenReturn(Flux.just(testAsset, second));
+
+        StepVerifier.create(assetService.getAllAssets(), 1)
+                .expectNext(testAsset)
+                .thenRequest(1)
+                .expectNext(second)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getAssetById → should error with AssetNotFoundException when missing")
+    void getAssetById_shouldErrorWhenMissing() {
+        when(assetRepository.findById("404")).thenReturn(Mono.empty());
+
+        StepVerifier.create(assetService.getAssetById("404"))
+                .expectErrorMatches(ex -> ex instanceof AssetNotFoundException
+                        && ex.getMessage().equals("Asset not found with id: 404"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("addAsset → should map unique index violation to DuplicateSerialNoException")
+    void addAsset_shouldMapDuplicateKey() {
+        when(assetRepository.insert(testAsset)).thenReturn(Mono.error(new DuplicateKeyException("E11000")));
+
+        StepVerifier.create(assetService.addAsset(testAsset))
+                .expectError(DuplicateSerialNoException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("patchAsset → should set only the provided fields")
+    void patchAsset_shouldSetOnlyProvidedFields() {
+        Asset renamed = new Asset("1", "Laptop Dell XPS 15", "SN001", LocalDate.of(2026, 2, 17), "Computer");
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Mono.just(renamed));
+
+        StepVerifier.create(assetService.patchAsset("1", new AssetPatch("Laptop Dell XPS 15", null, null, null)))
+                .expectNext(renamed)
+                .verifyComplete();
+
+        verify(assetRepository).findAndSet("1", Map.of("name", "Laptop Dell XPS 15"));
+    }
+
+    @Test
+    @DisplayName("deleteAsset → should error with AssetNotFoundException when missing")
+    void deleteAsset_shouldErrorWhenMissing() {
+        when(assetRepository.findAndRemove("404")).thenReturn(Mono.empty());
+
+        StepVerifier.create(assetService.deleteAsset("404"))
+                .expectError(AssetNotFoundException.class)
+                .verify();
+    }
+}
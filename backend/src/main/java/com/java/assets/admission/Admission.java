@@ -0,0 +1,15 @@
+package com.java.assets.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controller metodunun admission sınıfı. Yoksa HTTP metodundan çıkarılır: GET → READ, diğerleri → WRITE
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+    AdmissionClass value();
+}
@@ -0,0 +1,13 @@
+package com.java.assets.admission;
+
+/**
+ * Ayrı eşzamanlılık limiti olan endpoint grupları: yavaşlayan bir grup diğerlerinin kapasitesini tüketmez
+ */
+public enum AdmissionClass {
+    // Tek asset / sayfa okumaları
+    READ,
+    // Tüm koleksiyon listesi, stream, export, import, arama, istatistik, toplu işlemler
+    HEAVY,
+    // Tekil create/update/delete
+    WRITE
+}
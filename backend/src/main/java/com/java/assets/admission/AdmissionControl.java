@@ -0,0 +1,77 @@
+package com.java.assets.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Admission sınıfı başına limiter'lar ve reddedilen isteklere önerilen Retry-After süresi
+ */
+public class AdmissionControl implements MeterBinder {
+
+    private final Map<AdmissionClass, AdmissionLimiter> limiters;
+    private final Duration retryAfter;
+
+    public AdmissionControl(Map<AdmissionClass, AdmissionLimiter> limiters, Duration retryAfter) {
+        this.limiters = new EnumMap<>(limiters);
+        this.retryAfter = retryAfter;
+    }
+
+    private AdmissionControl() {
+        this.limiters = new EnumMap<>(AdmissionClass.class);
+        this.retryAfter = Duration.ZERO;
+    }
+
+    /**
+     * Kapalıyken interceptor kaydedilmez, her istek kabul edilir
+     */
+    public static AdmissionControl disabled() {
+        return new AdmissionControl();
+    }
+
+    public boolean isEnabled() {
+        return !limiters.isEmpty();
+    }
+
+    public AdmissionLimiter limiter(AdmissionClass admissionClass) {
+        return limiters.get(admissionClass);
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((admissionClass, limiter) -> {
+            Tags tags = Tags.of("class", admissionClass.name().toLowerCase(Locale.ROOT));
+            Gauge.builder("assets.admission.limit", limiter, AdmissionLimiter::getLimit)
+                    .description("Current concurrency limit")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("assets.admission.in.flight", limiter, AdmissionLimiter::getInFlight)
+                    .description("Admitted requests being processed")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("assets.admission.queued", limiter, AdmissionLimiter::getQueued)
+                    .description("Requests waiting for a permit")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("assets.admission.shed", limiter, AdmissionLimiter::getRejectedQueueFull)
+                    .description("Requests rejected with 503")
+                    .tags(tags.and("reason", "queue_full"))
+                    .register(registry);
+            FunctionCounter.builder("assets.admission.shed", limiter, AdmissionLimiter::getRejectedTimeout)
+                    .description("Requests rejected with 503")
+                    .tags(tags.and("reason", "queue_timeout"))
+                    .register(registry);
+        });
+    }
+}
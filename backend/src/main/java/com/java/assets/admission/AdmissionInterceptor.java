@@ -0,0 +1,106 @@
+package com.java.assets.admission;
+
+import com.java.assets.exception.ServiceOverloadedException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controller çağrılmadan önce isteğin sınıfına göre izin alır; alamazsa ServiceOverloadedException (503).
+ *
+ * İzin cevap bitince bırakılır. Stream/export gibi async cevaplarda bu, ilk dispatch'in sonu değil
+ * async işlemin tamamlanmasıdır (AsyncListener); async dispatch'te tekrar izin alınmaz.
+ */
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionInterceptor(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!(handler instanceof HandlerMethod method) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        AdmissionClass admissionClass = classify(method, request);
+        AdmissionLimiter limiter = admissionControl.limiter(admissionClass);
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException(admissionClass, admissionControl.getRetryAfter());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.getAsyncContext().addListener(permit);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!request.isAsyncStarted() && request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            permit.release();
+        }
+    }
+
+    static AdmissionClass classify(HandlerMethod method, HttpServletRequest request) {
+        Admission admission = method.getMethodAnnotation(Admission.class);
+        if (admission != null) {
+            return admission.value();
+        }
+        HttpMethod httpMethod = HttpMethod.valueOf(request.getMethod());
+        return HttpMethod.GET.equals(httpMethod) || HttpMethod.HEAD.equals(httpMethod)
+                ? AdmissionClass.READ
+                : AdmissionClass.WRITE;
+    }
+
+    // Bir kez bırakılır (hem afterCompletion hem AsyncListener çağrılabilir)
+    private static final class Permit implements AsyncListener {
+
+        private final AdmissionLimiter limiter;
+        private final long admittedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AdmissionLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - admittedAt);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.java.assets.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Bir admission sınıfının eşzamanlılık limiti + sınırlı bekleme kuyruğu.
+ *
+ * Limit doluysa istek en fazla maxQueueWait kuyrukta bekler; kuyruk da doluysa ya da süre dolarsa
+ * hemen reddedilir (shed). Böylece Mongo yavaşladığında istekler Tomcat'te birikip hep birlikte
+ * timeout olmaz; kabul edilenler normal sürede biter.
+ *
+ * adaptive=true iken limit gözlenen gecikmeye göre ayarlanır (gradient): kısa vadeli ortalama
+ * gecikme uzun vadeli tabanın tolerance katını aşarsa limit orantılı düşer, aşmıyorsa ve limit
+ * gerçekten kullanılıyorsa √limit kadar büyür. Kalıcı bir yavaşlamada taban da yavaşça yukarı kayar.
+ *
+ * synchronized yerine ReentrantLock: virtual thread'ler beklerken carrier thread pin'lenmez.
+ */
+public class AdmissionLimiter {
+
+    // Kısa vade ~son 10, uzun vade ~son 500 isteğin üstel ortalaması
+    static final double SHORT_WEIGHT = 0.1;
+    static final double LONG_WEIGHT = 0.002;
+    // Yeni limit hedefe her örnekte bu oranda yaklaşır
+    static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long maxQueueWaitNanos;
+    private final double tolerance;
+    private final boolean adaptive;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+
+    // lock altında
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private double shortLatency;
+    private double longLatency;
+
+    public AdmissionLimiter(int initialLimit, int minLimit, int maxLimit, int queueSize, Duration maxQueueWait,
+                            double tolerance, boolean adaptive) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueSize = queueSize;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.tolerance = tolerance;
+        this.adaptive = adaptive;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * false: istek reddedilmeli. true dönerse release() mutlaka çağrılmalıdır
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= queueSize) {
+                rejectedQueueFull.increment();
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = maxQueueWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        rejectedTimeout.increment();
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * latencyNanos: kabulden cevabın bitişine kadar geçen süre (kuyrukta bekleme hariç)
+     */
+    public void release(long latencyNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (adaptive) {
+                adjustLimit(latencyNanos);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustLimit(long latencyNanos) {
+        if (longLatency == 0) {
+            shortLatency = latencyNanos;
+            longLatency = latencyNanos;
+            return;
+        }
+        shortLatency += (latencyNanos - shortLatency) * SHORT_WEIGHT;
+        longLatency += (latencyNanos - longLatency) * LONG_WEIGHT;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+        // Limitin yarısı bile kullanılmıyorsa büyütmek için kanıt yok
+        double headroom = inFlight + 1 >= limit / 2 ? Math.sqrt(limit) : 0;
+        double target = limit * gradient + headroom;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit + (target - limit) * SMOOTHING));
+    }
+
+    public int getLimit() {
+        return read(() -> (int) limit);
+    }
+
+    public int getInFlight() {
+        return read(() -> inFlight);
+    }
+
+    public int getQueued() {
+        return read(() -> queued);
+    }
+
+    public long getRejectedQueueFull() {
+        return rejectedQueueFull.sum();
+    }
+
+    public long getRejectedTimeout() {
+        return rejectedTimeout.sum();
+    }
+
+    private int read(IntSupplier value) {
+        lock.lock();
+        try {
+            return value.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,16 +1,46 @@
 package com.java.assets.aspect;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller ve service method'larını Micrometer timer'ları ile ölçer (nanosaniye).
+ *
+ * Metrikler: assets.controller ve assets.service, tag'ler class / method / exception.
+ * Percentile histogram'ları application.properties'teki
+ * management.metrics.distribution.* ayarlarıyla açılır.
+ * Timer'lar method başına bir kez oluşturulur, sıcak yolda sadece map lookup + record kalır.
+ * Çağrı başına log sadece DEBUG seviyesinde yazılır.
+ */
 @Slf4j
 @Aspect
 @Component
 public class LoggingAspect {
 
+    public static final String CONTROLLER_TIMER = "assets.controller";
+    public static final String SERVICE_TIMER = "assets.service";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> controllerTimers = new ConcurrentHashMap<>();
+    private final Map<Method, MethodTimers> serviceTimers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     // Sadece service katmanını izle
     @Pointcut("execution(* com.java.assets.service.*.*(..))")
     public void serviceLayer() {}
@@ -19,41 +49,81 @@ public class LoggingAspect {
     @Pointcut("execution(* com.java.assets.controller.*.*(..))")
     public void controllerLayer() {}
 
-    // Method başlamadan önce logla
-    @Before("serviceLayer()")
-    public void logBefore(JoinPoint joinPoint) {
-        log.info("→ Calling: {}.{}()",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName());
+    @Around("controllerLayer()")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, CONTROLLER_TIMER, controllerTimers);
+    }
+
+    @Around("serviceLayer()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, SERVICE_TIMER, serviceTimers);
     }
 
-    // Method başarıyla bitince logla
-    @AfterReturning(pointcut = "serviceLayer()", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        log.info("✓ Completed: {}.{}()",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName());
+    private Object time(ProceedingJoinPoint joinPoint, String name, Map<Method, MethodTimers> timers)
+            throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            long duration = System.nanoTime() - start;
+            timers(joinPoint, name, timers).success.record(duration, TimeUnit.NANOSECONDS);
+            if (log.isDebugEnabled()) {
+                log.debug("⏱ {}.{}() executed in {} µs",
+                        joinPoint.getSignature().getDeclaringTypeName(),
+                        joinPoint.getSignature().getName(),
+                        TimeUnit.NANOSECONDS.toMicros(duration));
+            }
+            return result;
+        } catch (Throwable exception) {
+            long duration = System.nanoTime() - start;
+            timers(joinPoint, name, timers).failure(exception.getClass()).record(duration, TimeUnit.NANOSECONDS);
+            if (log.isDebugEnabled()) {
+                log.debug("✗ Exception in: {}.{}() → {}",
+                        joinPoint.getSignature().getDeclaringTypeName(),
+                        joinPoint.getSignature().getName(),
+                        exception.getMessage());
+            }
+            throw exception;
+        }
     }
 
-    // Hata olunca logla
-    @AfterThrowing(pointcut = "serviceLayer()", throwing = "exception")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable exception) {
-        log.error("✗ Exception in: {}.{}() → {}",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                exception.getMessage());
+    private MethodTimers timers(ProceedingJoinPoint joinPoint, String name, Map<Method, MethodTimers> timers) {
+        Signature signature = joinPoint.getSignature();
+        Method method = ((MethodSignature) signature).getMethod();
+        MethodTimers existing = timers.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        return timers.computeIfAbsent(method, m -> new MethodTimers(name,
+                signature.getDeclaringType().getSimpleName(), signature.getName()));
     }
 
-    // Execution time ölç
-    @Around("controllerLayer()")
-    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long duration = System.currentTimeMillis() - start;
-        log.info("⏱ {}.{}() executed in {} ms",
-                joinPoint.getSignature().getDeclaringTypeName(),
-                joinPoint.getSignature().getName(),
-                duration);
-        return result;
+    // Method başına başarılı çağrı timer'ı + exception tipine göre hata timer'ları
+    private final class MethodTimers {
+
+        private final String name;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private MethodTimers(String name, String className, String methodName) {
+            this.name = name;
+            this.className = className;
+            this.methodName = methodName;
+            this.success = timer(NO_EXCEPTION);
+        }
+
+        private Timer failure(Class<?> exceptionType) {
+            return failures.computeIfAbsent(exceptionType, type -> timer(type.getSimpleName()));
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder(name)
+                    .description("Execution time of " + name.substring(name.lastIndexOf('.') + 1) + " methods")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
     }
 }
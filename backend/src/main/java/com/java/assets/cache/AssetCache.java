@@ -0,0 +1,159 @@
+package com.java.assets.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.java.assets.dto.AssetCacheStats;
+import com.java.assets.model.Asset;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * id ve serialNo lookup'ları için node-local read-through cache.
+ *
+ * byId: id → Asset. Aynı key için tek yükleme yapılır: ilk gelen boş bir future'ı atomik
+ * olarak cache'e koyar ve veritabanı çağrısını lock DIŞINDA, kendi thread'inde yapar
+ * (virtual thread'lerde I/O sırasında carrier thread pin'lenmez), diğerleri future'ı bekler.
+ * evict() devam eden yüklemenin future'ını da siler, böylece yazmadan önce okunmuş
+ * eski bir değer eviction'dan sonra cache'e geri konamaz.
+ *
+ * idBySerialNo: serialNo → id. Sadece işaretçidir, her hit'te yüklenen asset'in
+ * serialNo'su kontrol edilir; eşleşmezse işaretçi atılıp veritabanına gidilir.
+ * Bu yüzden update/delete sadece id ile evict etmek yeterlidir.
+ *
+ * Negatif sonuçlar (bulunamadı) cache'lenmez.
+ * MeterBinder olduğu için hit/miss/eviction sayıları actuator metriklerine de bağlanır (cache.* metrikleri).
+ */
+public class AssetCache implements MeterBinder {
+
+    private final AsyncCache<String, Asset> byId;
+    private final Cache<String, String> idBySerialNo;
+
+    public AssetCache(long maximumSize, Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.idBySerialNo = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private AssetCache() {
+        this.byId = null;
+        this.idBySerialNo = null;
+    }
+
+    /**
+     * Cache kapalıyken her çağrı doğrudan loader'a gider
+     */
+    public static AssetCache disabled() {
+        return new AssetCache();
+    }
+
+    public boolean isEnabled() {
+        return byId != null;
+    }
+
+    public Optional<Asset> getById(String id, Function<String, Optional<Asset>> loader) {
+        if (!isEnabled()) {
+            return loader.apply(id);
+        }
+        CompletableFuture<Asset> loading = new CompletableFuture<>();
+        CompletableFuture<Asset> future = byId.get(id, (key, executor) -> loading);
+        if (future != loading) {
+            return Optional.ofNullable(join(future));
+        }
+        try {
+            // null ile tamamlanan future Caffeine tarafından otomatik silinir
+            Asset asset = loader.apply(id).orElse(null);
+            loading.complete(asset);
+            return Optional.ofNullable(asset);
+        } catch (RuntimeException ex) {
+            byId.asMap().remove(id, loading);
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public Optional<Asset> getBySerialNo(String serialNo,
+                                         Function<String, Optional<Asset>> idLoader,
+                                         Function<String, Optional<Asset>> serialNoLoader) {
+        if (!isEnabled()) {
+            return serialNoLoader.apply(serialNo);
+        }
+        String id = idBySerialNo.getIfPresent(serialNo);
+        if (id != null) {
+            Optional<Asset> asset = getById(id, idLoader);
+            if (asset.isPresent() && serialNo.equals(asset.get().getSerialNo())) {
+                return asset;
+            }
+            // Asset silinmiş ya da serialNo'su değişmiş
+            idBySerialNo.invalidate(serialNo);
+        }
+        Optional<Asset> loaded = serialNoLoader.apply(serialNo);
+        loaded.ifPresent(asset -> idBySerialNo.put(serialNo, asset.getId()));
+        return loaded;
+    }
+
+    /**
+     * Yazma işleminden SONRA çağrılmalıdır
+     */
+    public void evict(String id) {
+        if (isEnabled()) {
+            byId.synchronous().invalidate(id);
+        }
+    }
+
+    public void clear() {
+        if (isEnabled()) {
+            byId.synchronous().invalidateAll();
+            idBySerialNo.invalidateAll();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (isEnabled()) {
+            CaffeineCacheMetrics.monitor(registry, byId.synchronous(), "assets.byId");
+            CaffeineCacheMetrics.monitor(registry, idBySerialNo, "assets.idBySerialNo");
+        }
+    }
+
+    public List<AssetCacheStats> stats() {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        return List.of(toStats("byId", byId.synchronous()), toStats("idBySerialNo", idBySerialNo));
+    }
+
+    // Bekleyen okuyucular yükleyen thread'in exception'ını aynen görür
+    private static Asset join(CompletableFuture<Asset> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static AssetCacheStats toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new AssetCacheStats(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,442 @@
+package com.java.assets.cache;
+
+import com.java.assets.model.Asset;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Tüm koleksiyonun serialNo → id index'i (node-local, bellekte).
+ *
+ * Önce Bloom filter'a bakılır: "yok" cevabı kesindir ve tablo hiç okunmaz (filter CPU cache'ine sığar).
+ * Filter "olabilir" derse open addressing tabloya bakılır. Tabloda serialNo'nun kendisi değil 64 bit
+ * hash'i, id olarak ObjectId'nin 12 byte'ı tutulur (String yok; Bloom filter dahil serial başına ~30 byte). Hash
+ * çakışma olasılığı n²/2^65 (1M serial için ~3e-8); by-serial okumasında yüklenen asset'in
+ * serialNo'su yine de kontrol edilir.
+ *
+ * Index SerialNoIndexRefresher tarafından veritabanından kurulur, sonra bu node'daki yazmalarla
+ * güncel tutulur; diğer node'lardaki yazmalar bir sonraki yeniden kurulumda görünür.
+ * Yeniden kurulum sırasında gelen yazmalar kaydedilip yeni tabloya da uygulanır.
+ */
+public class SerialNoIndex implements MeterBinder {
+
+    // Bloom filter bu kadar eleman için boyutlanır; sonra eklenenler false positive oranını artırır
+    static final double BLOOM_HEADROOM = 1.5;
+    static final int MIN_CAPACITY = 1 << 16;
+
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder bloomRejections = new LongAdder();
+
+    // lock altında
+    private Table table;
+    private List<Consumer<Table>> pending;
+
+    public SerialNoIndex(double falsePositiveRate) {
+        this(true, falsePositiveRate);
+    }
+
+    private SerialNoIndex(boolean enabled, double falsePositiveRate) {
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Kapalıyken serialNo sorguları veritabanına gider
+     */
+    public static SerialNoIndex disabled() {
+        return new SerialNoIndex(false, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * İlk kurulum bitene kadar false: çağıran taraf veritabanına gitmelidir
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return table != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * assets: id + serialNo içeren (projection'lı) tam tarama; expectedCount Bloom filter boyutu içindir
+     */
+    public void rebuild(long expectedCount, Iterator<Asset> assets) {
+        if (!enabled) {
+            return;
+        }
+        write(() -> pending = new ArrayList<>());
+        try {
+            Table rebuilt = new Table(expectedCount, falsePositiveRate);
+            while (assets.hasNext()) {
+                Asset asset = assets.next();
+                if (asset.getSerialNo() != null) {
+                    rebuilt.put(asset.getSerialNo(), asset.getId());
+                }
+            }
+            write(() -> {
+                pending.forEach(change -> change.accept(rebuilt));
+                table = rebuilt;
+            });
+        } finally {
+            write(() -> pending = null);
+        }
+    }
+
+    /**
+     * null: bu serialNo'da asset yok
+     */
+    public String findId(String serialNo) {
+        long hash = hash(serialNo);
+        lock.readLock().lock();
+        try {
+            lookups.increment();
+            if (!table.bloom.mightContain(hash)) {
+                bloomRejections.increment();
+                return null;
+            }
+            return table.get(hash);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * findId ile aynı, ama id String'i üretilmez (serials/exists)
+     */
+    public boolean contains(String serialNo) {
+        long hash = hash(serialNo);
+        lock.readLock().lock();
+        try {
+            lookups.increment();
+            if (!table.bloom.mightContain(hash)) {
+                bloomRejections.increment();
+                return false;
+            }
+            return table.containsKey(hash);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onAdded(Asset asset) {
+        apply(table -> table.put(asset.getSerialNo(), asset.getId()));
+    }
+
+    public void onSerialNoChanged(String id, String previousSerialNo, String serialNo) {
+        if (!Objects.equals(previousSerialNo, serialNo)) {
+            apply(table -> {
+                if (previousSerialNo != null) {
+                    table.remove(previousSerialNo);
+                }
+                table.put(serialNo, id);
+            });
+        }
+    }
+
+    public void onDeleted(Asset asset) {
+        apply(table -> table.remove(asset.getSerialNo()));
+    }
+
+    /**
+     * Toplu silmede serialNo'lar bilinmez; tablo yerinde taranır, eşleşen slot'lar backward shift ile silinir
+     * (yeniden hash ve yeni dizi yok, slot başına String üretilmez)
+     */
+    public void onDeletedIds(Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            Set<String> deleted = new HashSet<>(ids);
+            apply(table -> table.removeIds(deleted));
+        }
+    }
+
+    public long size() {
+        return read(table -> (long) table.size, 0L);
+    }
+
+    /**
+     * Tablo + Bloom filter dizilerinin boyutu (nesne başlıkları hariç)
+     */
+    public long memoryBytes() {
+        return read(Table::memoryBytes, 0L);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        Gauge.builder("assets.serial.index.size", this, SerialNoIndex::size)
+                .description("Serial numbers in the in-memory index")
+                .register(registry);
+        Gauge.builder("assets.serial.index.memory", this, SerialNoIndex::memoryBytes)
+                .description("Heap used by the serial number index")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("assets.serial.index.lookups", lookups, LongAdder::sum)
+                .description("Serial number lookups answered from memory")
+                .register(registry);
+        FunctionCounter.builder("assets.serial.index.bloom.rejections", bloomRejections, LongAdder::sum)
+                .description("Lookups answered 'absent' by the Bloom filter alone")
+                .register(registry);
+    }
+
+    private void apply(Consumer<Table> change) {
+        if (!enabled) {
+            return;
+        }
+        write(() -> {
+            if (table != null) {
+                change.accept(table);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        });
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T read(Function<Table, T> reader, T empty) {
+        lock.readLock().lock();
+        try {
+            return table == null ? empty : reader.apply(table);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // FNV-1a (char'lar üzerinden) + murmur3 fmix64; 0 boş slot işaretidir
+    static long hash(String serialNo) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < serialNo.length(); i++) {
+            h = (h ^ serialNo.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * Linear probing, yük faktörü en fazla %75. Silmede backward shift (tombstone yok).
+     * ObjectId olmayan id'ler (client'ın verdiği) ayrı, küçük bir map'te tutulur.
+     */
+    private static final class Table {
+
+        private final BloomFilter bloom;
+        private long[] keys;
+        private long[] idHigh;
+        private int[] idLow;
+        private int capacity;
+        private int size;
+        private final Map<Long, String> otherIds = new HashMap<>();
+
+        Table(long expectedCount, double falsePositiveRate) {
+            long expected = Math.max(MIN_CAPACITY, (long) (expectedCount * BLOOM_HEADROOM));
+            this.bloom = new BloomFilter(expected, falsePositiveRate);
+            // %70 dolulukla başlar: yeniden kurulumdan sonraki eklemeler hemen resize gerektirmez
+            allocate((int) Math.min(Math.max(16, expectedCount * 10 / 7 + 1), Integer.MAX_VALUE - 8));
+        }
+
+        void put(String serialNo, String id) {
+            long key = hash(serialNo);
+            bloom.put(key);
+            if (!ObjectId.isValid(id)) {
+                remove(key);
+                otherIds.put(key, id);
+                return;
+            }
+            otherIds.remove(key);
+            if ((size + 1) * 4L > keys.length * 3L) {
+                resize();
+            }
+            byte[] bytes = new ObjectId(id).toByteArray();
+            int slot = slot(key);
+            if (keys[slot] == 0) {
+                size++;
+            }
+            keys[slot] = key;
+            idHigh[slot] = high(bytes);
+            idLow[slot] = ((bytes[8] & 0xff) << 24) | ((bytes[9] & 0xff) << 16) | ((bytes[10] & 0xff) << 8)
+                    | (bytes[11] & 0xff);
+        }
+
+        boolean containsKey(long key) {
+            return keys[slot(key)] != 0 || otherIds.containsKey(key);
+        }
+
+        String get(long key) {
+            int slot = slot(key);
+            if (keys[slot] != 0) {
+                return toId(idHigh[slot], idLow[slot]);
+            }
+            return otherIds.get(key);
+        }
+
+        void remove(String serialNo) {
+            remove(hash(serialNo));
+        }
+
+        void removeIds(Set<String> ids) {
+            otherIds.values().removeIf(ids::contains);
+            // Önce id'nin ilk 8 byte'ı sıralı dizide aranır; sadece eşleşen slot'lar için String üretilir
+            long[] highs = ids.stream()
+                    .filter(ObjectId::isValid)
+                    .mapToLong(id -> high(new ObjectId(id).toByteArray()))
+                    .sorted()
+                    .toArray();
+            if (highs.length == 0) {
+                return;
+            }
+            // Backward shift silinen slot'a sadece sonraki (ya da başa sarmış, zaten bakılmış) elemanları taşır:
+            // silmeden sonra aynı slot'a tekrar bakılır
+            int slot = 0;
+            while (slot < capacity) {
+                if (keys[slot] != 0 && Arrays.binarySearch(highs, idHigh[slot]) >= 0
+                        && ids.contains(toId(idHigh[slot], idLow[slot]))) {
+                    remove(keys[slot]);
+                } else {
+                    slot++;
+                }
+            }
+        }
+
+        long memoryBytes() {
+            return bloom.sizeInBytes() + (long) keys.length * (Long.BYTES + Long.BYTES + Integer.BYTES);
+        }
+
+        private void remove(long key) {
+            otherIds.remove(key);
+            int slot = slot(key);
+            if (keys[slot] == 0) {
+                return;
+            }
+            size--;
+            // Backward shift: boşluktan sonraki zincir elemanları kendi yerlerine doğru kaydırılır
+            int gap = slot;
+            int next = next(gap);
+            while (keys[next] != 0) {
+                int home = home(keys[next]);
+                if (distance(home, next) >= distance(gap, next)) {
+                    keys[gap] = keys[next];
+                    idHigh[gap] = idHigh[next];
+                    idLow[gap] = idLow[next];
+                    gap = next;
+                }
+                next = next(next);
+            }
+            keys[gap] = 0;
+        }
+
+        // key'in bulunduğu ya da ekleneceği slot
+        private int slot(long key) {
+            int slot = home(key);
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = next(slot);
+            }
+            return slot;
+        }
+
+        // Multiply-shift ile [0, capacity): kapasite 2'nin kuvveti olmak zorunda değil, tablo tam boyutlanır
+        private int home(long key) {
+            return (int) (((mix(key) >>> 32) * capacity) >>> 32);
+        }
+
+        private int next(int slot) {
+            return slot + 1 == capacity ? 0 : slot + 1;
+        }
+
+        private int distance(int from, int to) {
+            return to >= from ? to - from : to + capacity - from;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldHigh = idHigh;
+            int[] oldLow = idLow;
+            allocate((int) Math.min(keys.length * 3L / 2, Integer.MAX_VALUE - 8));
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    insert(oldKeys[i], oldHigh[i], oldLow[i]);
+                }
+            }
+        }
+
+        private void insert(long key, long high, int low) {
+            int slot = slot(key);
+            keys[slot] = key;
+            idHigh[slot] = high;
+            idLow[slot] = low;
+            size++;
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            idHigh = new long[capacity];
+            idLow = new int[capacity];
+            this.capacity = capacity;
+            size = 0;
+        }
+
+        private static long high(byte[] objectId) {
+            long high = 0;
+            for (int i = 0; i < 8; i++) {
+                high = (high << 8) | (objectId[i] & 0xff);
+            }
+            return high;
+        }
+
+        // Bloom filter hash'in alt/üst 32 bit'ini kullanır; tablo slot'u için bit'ler yeniden karıştırılır
+        private static long mix(long key) {
+            return Long.rotateLeft(key * 0x9e3779b97f4a7c15L, 17);
+        }
+
+        private static String toId(long high, int low) {
+            byte[] bytes = new byte[12];
+            for (int i = 7; i >= 0; i--) {
+                bytes[i] = (byte) high;
+                high >>>= 8;
+            }
+            bytes[8] = (byte) (low >>> 24);
+            bytes[9] = (byte) (low >>> 16);
+            bytes[10] = (byte) (low >>> 8);
+            bytes[11] = (byte) low;
+            return new ObjectId(bytes).toHexString();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.java.assets.cache;
+
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * SerialNoIndex'i açılışta ve her resyncInterval'da streaming tarama ile arka planda yeniden kurar.
+ * Kurulum bitene kadar sorgular veritabanına gider; başarısız kurulum bir sonraki turda tekrarlanır.
+ */
+@Slf4j
+public class SerialNoIndexRefresher implements SmartLifecycle {
+
+    private final SerialNoIndex index;
+    private final AssetStore assetRepository;
+    private final Duration resyncInterval;
+
+    private ScheduledExecutorService executor;
+
+    public SerialNoIndexRefresher(SerialNoIndex index, AssetStore assetRepository, Duration resyncInterval) {
+        this.index = index;
+        this.assetRepository = assetRepository;
+        this.resyncInterval = resyncInterval;
+    }
+
+    @Override
+    public void start() {
+        if (!index.isEnabled()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "serial-index-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refresh, 0, resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    void refresh() {
+        long start = System.nanoTime();
+        try (Stream<Asset> assets = assetRepository.streamSerialNos()) {
+            index.rebuild(assetRepository.count(), assets.iterator());
+            log.info("Serial number index rebuilt - {} serials, {} KB, {} ms", index.size(),
+                    index.memoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Serial number index rebuild failed, retrying in {}", resyncInterval, ex);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.java.assets.config;
+
+import com.java.assets.admission.AdmissionClass;
+import com.java.assets.admission.AdmissionControl;
+import com.java.assets.admission.AdmissionInterceptor;
+import com.java.assets.admission.AdmissionLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionConfig(AdmissionProperties properties) {
+        this.admissionControl = createAdmissionControl(properties);
+    }
+
+    @Bean
+    public AdmissionControl admissionControl() {
+        return admissionControl;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (admissionControl.isEnabled()) {
+            // SSE bağlantıları uzun ömürlü, limit slotlarını tutmamalı
+            registry.addInterceptor(new AdmissionInterceptor(admissionControl))
+                    .addPathPatterns("/api/assets", "/api/assets/**")
+                    .excludePathPatterns("/api/assets/events");
+        }
+    }
+
+    private static AdmissionControl createAdmissionControl(AdmissionProperties properties) {
+        if (!properties.isEnabled()) {
+            return AdmissionControl.disabled();
+        }
+        Map<AdmissionClass, AdmissionLimiter> limiters = new EnumMap<>(AdmissionClass.class);
+        for (AdmissionClass admissionClass : AdmissionClass.values()) {
+            AdmissionProperties.Limit limit = properties.getLimits()
+                    .getOrDefault(admissionClass, new AdmissionProperties.Limit());
+            limiters.put(admissionClass, new AdmissionLimiter(limit.getInitialLimit(), limit.getMinLimit(),
+                    limit.getMaxLimit(), limit.getQueueSize(), limit.getMaxQueueWait(), limit.getTolerance(),
+                    properties.isAdaptive()));
+        }
+        return new AdmissionControl(limiters, properties.getRetryAfter());
+    }
+}
@@ -0,0 +1,35 @@
+package com.java.assets.config;
+
+import com.java.assets.admission.AdmissionClass;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * /api/assets/** için admission control (load shedding).
+ * enabled=false: her istek doğrudan controller'a gider
+ * enabled=true: her sınıf (read/heavy/write) kendi limiti ve kuyruğuyla sınırlanır, fazlası 503 + Retry-After alır
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.admission")
+public class AdmissionProperties {
+    private boolean enabled = false;
+    // false: limitler initialLimit'te sabit kalır
+    private boolean adaptive = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Map<AdmissionClass, Limit> limits = new EnumMap<>(AdmissionClass.class);
+
+    @Data
+    public static class Limit {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 100;
+        private int queueSize = 50;
+        private Duration maxQueueWait = Duration.ofMillis(500);
+        // Kısa vadeli gecikme uzun vadelinin bu katını aşınca limit düşer
+        private double tolerance = 2.0;
+    }
+}
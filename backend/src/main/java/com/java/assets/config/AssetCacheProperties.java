@@ -0,0 +1,17 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * getAssetById / serialNo lookup cache ayarları
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.cache")
+public class AssetCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
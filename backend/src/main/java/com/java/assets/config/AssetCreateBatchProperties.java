@@ -0,0 +1,22 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * POST /api/assets için write coalescing (group commit).
+ * enabled=false: her create kendi insert'iyle yazılır
+ * enabled=true: eşzamanlı create'ler maxBatchSize'a kadar ya da maxWait boyunca toplanıp tek bulk insert'le yazılır
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.create-batch")
+public class AssetCreateBatchProperties {
+    private boolean enabled = false;
+    private int maxBatchSize = 256;
+    // İlk istekten sonra batch'in dolması için beklenecek en uzun süre; 0: sadece yazma sürerken birikenler birleşir
+    private Duration maxWait = Duration.ZERO;
+    // Aynı anda yazılan batch sayısı
+    private int flushers = 2;
+}
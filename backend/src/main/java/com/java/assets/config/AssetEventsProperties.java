@@ -0,0 +1,26 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * /api/assets/events (SSE) ayarları.
+ * Change stream replica set gerektirir; tek node için: mongod --replSet rs0 ve bir kez rs.initiate()
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.events")
+public class AssetEventsProperties {
+    private boolean enabled = false;
+    // Client başına bekleyen event sınırı; dolarsa buffer atılır ve "resync" gönderilir
+    private int clientBufferSize = 256;
+    // Last-Event-ID ile yeniden bağlananlara tekrar gönderilebilen son event sayısı
+    private int replaySize = 10000;
+    private int senderThreads = 4;
+    // Tek bir yazma bu süreyi aşarsa (client okumuyor, socket dolu) client kapatılır
+    private Duration writeTimeout = Duration.ofSeconds(10);
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    // EventSource süre dolunca Last-Event-ID ile kendiliğinden yeniden bağlanır
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,20 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * memory profilindeki gömülü asset store (InMemoryAssetRepository).
+ * dataDir boşsa kalıcılık yoktur, veri uygulama kapanınca kaybolur.
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.memory-store")
+public class AssetMemoryStoreProperties {
+    private String dataDir;
+    // true: her yazma fsync'lenmeden dönmez; false: en fazla syncInterval kadarlık yazma kaybolabilir
+    private boolean syncWrites = false;
+    private Duration syncInterval = Duration.ofMillis(100);
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,43 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asset'lerin birden fazla Mongo veritabanına dağıtılması (PartitionedAssetRepository).
+ * enabled=false: tek veritabanı (spring.data.mongodb.uri)
+ * enabled=true: her uri bir partition; sıraları partition numarasıdır, değiştirilirse asset'ler taşınmalıdır
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.partitions")
+public class AssetPartitionProperties {
+    private boolean enabled = false;
+    // mongodb://host:port/veritabanı - veritabanı verilmemişse spring.data.mongodb.database
+    private List<String> uris = new ArrayList<>();
+    private Strategy strategy = Strategy.SERIAL_NO;
+    // strategy=CATEGORY: category → partition numarası; listede olmayanlar category hash'iyle dağıtılır
+    private Map<String, Integer> categories = new HashMap<>();
+    // Node başına id → partition önbelleği (kayıt başına ~100 byte); önbellekte olmayan id tüm partition'lara
+    // sorulur
+    private long routeCacheSize = 100_000;
+    // Scatter-gather sorgularını paralel çalıştıran thread sayısı
+    private int scatterThreads = 16;
+    // strategy=CATEGORY: bu süreden eski, sahibi yazılmamış serialNo kaydı başka bir asset'e devredilebilir
+    private Duration claimGrace = Duration.ofMinutes(1);
+    // strategy=CATEGORY: asset_serial_claims koleksiyonunun bulunduğu partition (her create / serialNo değişikliği
+    // ve silme buraya bir yazma yapar)
+    private int claimsPartition = 0;
+
+    public enum Strategy {
+        // serialNo hash'i: unique index partition içinde yeterli
+        SERIAL_NO,
+        // categories eşlemesi: serialNo unique'liği claims-partition'daki asset_serial_claims koleksiyonuyla
+        CATEGORY
+    }
+}
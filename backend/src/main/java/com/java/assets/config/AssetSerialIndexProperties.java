@@ -0,0 +1,21 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bellekteki serialNo index'i (by-serial ve serials/exists).
+ * enabled=false: her sorgu veritabanına gider
+ * enabled=true: açılışta arka planda kurulur, bu node'un yazmalarıyla güncel tutulur,
+ * diğer node'lardan gelen yazmalar için resyncInterval'da bir yeniden kurulur. Index'te olmayan serial
+ * veritabanına sorulur (başka bir node'da oluşturulmuş olabilir)
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.serial-index")
+public class AssetSerialIndexProperties {
+    private boolean enabled = false;
+    private Duration resyncInterval = Duration.ofMinutes(5);
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,19 @@
+package com.java.assets.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Dashboard istatistik ayarları.
+ * incremental=false: her istekte $facet aggregation
+ * incremental=true: yazma işlemlerinde güncellenen node-local sayaçlar,
+ * diğer node'lardan gelen yazmalar için resyncInterval'da bir yeniden kurulur
+ */
+@Data
+@ConfigurationProperties(prefix = "assets.stats")
+public class AssetStatsProperties {
+    private boolean incremental = false;
+    private Duration resyncInterval = Duration.ofMinutes(5);
+}
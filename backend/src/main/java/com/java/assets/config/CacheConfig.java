@@ -0,0 +1,19 @@
+package com.java.assets.config;
+
+import com.java.assets.cache.AssetCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AssetCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public AssetCache assetCache(AssetCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            return AssetCache.disabled();
+        }
+        return new AssetCache(properties.getMaximumSize(), properties.getTtl());
+    }
+}
@@ -0,0 +1,21 @@
+package com.java.assets.config;
+
+import com.java.assets.repository.AssetStore;
+import com.java.assets.service.AssetCreateBatcher;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AssetCreateBatchProperties.class)
+public class CreateBatchConfig {
+
+    @Bean
+    public AssetCreateBatcher assetCreateBatcher(AssetCreateBatchProperties properties, AssetStore assetRepository) {
+        if (!properties.isEnabled()) {
+            return AssetCreateBatcher.disabled();
+        }
+        return new AssetCreateBatcher(assetRepository, properties.getMaxBatchSize(), properties.getMaxWait(),
+                properties.getFlushers());
+    }
+}
@@ -0,0 +1,28 @@
+package com.java.assets.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.assets.events.AssetChangeStreamWatcher;
+import com.java.assets.events.AssetEventHub;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@Configuration
+@EnableConfigurationProperties(AssetEventsProperties.class)
+@ConditionalOnProperty(prefix = "assets.events", name = "enabled", havingValue = "true")
+public class EventsConfig {
+
+    @Bean(destroyMethod = "close")
+    public AssetEventHub assetEventHub(ObjectMapper objectMapper, AssetEventsProperties properties) {
+        return new AssetEventHub(objectMapper, properties.getClientBufferSize(), properties.getReplaySize(),
+                properties.getEmitterTimeout(), properties.getWriteTimeout(), properties.getSenderThreads(),
+                properties.getHeartbeatInterval());
+    }
+
+    @Bean
+    public AssetChangeStreamWatcher assetChangeStreamWatcher(MongoTemplate mongoTemplate, AssetEventHub assetEventHub) {
+        return new AssetChangeStreamWatcher(mongoTemplate, assetEventHub);
+    }
+}
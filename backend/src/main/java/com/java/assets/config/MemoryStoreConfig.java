@@ -0,0 +1,38 @@
+package com.java.assets.config;
+
+import com.java.assets.repository.memory.AssetStoreCheckpointer;
+import com.java.assets.repository.memory.InMemoryAssetRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * memory profili: AssetStore Mongo yerine gömülü store'dan gelir
+ * (Mongo auto-configuration'ı application-memory.properties'te kapatılır)
+ */
+@Configuration
+@Profile("memory")
+@EnableConfigurationProperties(AssetMemoryStoreProperties.class)
+public class MemoryStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public InMemoryAssetRepository assetRepository(AssetMemoryStoreProperties properties) throws IOException {
+        if (!StringUtils.hasText(properties.getDataDir())) {
+            return InMemoryAssetRepository.transientStore();
+        }
+        return InMemoryAssetRepository.open(Path.of(properties.getDataDir()), properties.isSyncWrites());
+    }
+
+    // dataDir yoksa sync/checkpoint bir şey yapmaz
+    @Bean
+    public AssetStoreCheckpointer assetStoreCheckpointer(InMemoryAssetRepository assetRepository,
+                                                         AssetMemoryStoreProperties properties) {
+        return new AssetStoreCheckpointer(assetRepository, properties.getSyncInterval(),
+                properties.getSnapshotInterval());
+    }
+}
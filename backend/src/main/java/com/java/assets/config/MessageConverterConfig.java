@@ -0,0 +1,32 @@
+package com.java.assets.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Accept: application/cbor ve application/x-jackson-smile için binary converter'lar.
+ *
+ * Spring MVC bunları classpath'te görünce kendi varsayılan mapper'ıyla da ekler; burada
+ * Boot'un builder'ı (spring.jackson.* ayarları, modüller) ile kurulur ki JSON ile aynı alanlar
+ * aynı biçimde yazılsın. Boot bean converter'ları varsayılanın yerine koyar, JSON sırası korunur:
+ * Accept verilmezse cevap yine JSON'dur.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // Smile tekrar eden alan adlarını geri referansla yazar (varsayılan açık)
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
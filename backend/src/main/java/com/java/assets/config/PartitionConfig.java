@@ -0,0 +1,119 @@
+package com.java.assets.config;
+
+import com.java.assets.repository.AssetIndexInitializer;
+import com.java.assets.repository.AssetSearchKeys;
+import com.java.assets.repository.partition.AssetPartitioner;
+import com.java.assets.repository.partition.CategoryPartitioner;
+import com.java.assets.repository.partition.MongoAssetPartitions;
+import com.java.assets.repository.partition.MongoSerialNoClaims;
+import com.java.assets.repository.partition.PartitionedAssetRepository;
+import com.java.assets.repository.partition.SerialNoClaims;
+import com.java.assets.repository.partition.SerialNoPartitioner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * assets.partitions.enabled=true: AssetService'e Spring Data'nın tek veritabanlı repository'si yerine
+ * partition'lara yönlendiren PartitionedAssetRepository verilir (@Primary).
+ * Change stream (assets.events) varsayılan veritabanını izler, partition'lı kurulumda desteklenmez: ikisi birlikte
+ * açıksa uygulama açılmaz.
+ */
+@Slf4j
+@Configuration
+@Profile("!memory")
+@EnableConfigurationProperties(AssetPartitionProperties.class)
+@ConditionalOnProperty(prefix = "assets.partitions", name = "enabled", havingValue = "true")
+public class PartitionConfig {
+
+    @Bean(destroyMethod = "close")
+    public MongoAssetPartitions mongoAssetPartitions(AssetPartitionProperties properties,
+                                                     MongoProperties mongoProperties,
+                                                     MappingMongoConverter mongoConverter,
+                                                     ApplicationContext applicationContext,
+                                                     @Value("${assets.events.enabled:false}") boolean eventsEnabled) {
+        if (properties.getUris().isEmpty()) {
+            throw new IllegalStateException("assets.partitions.uris must list at least one MongoDB URI");
+        }
+        if (eventsEnabled) {
+            throw new IllegalStateException("assets.events.enabled=true is not supported with "
+                    + "assets.partitions.enabled=true: the change stream only watches the default database");
+        }
+        return new MongoAssetPartitions(properties.getUris(), mongoProperties.getMongoClientDatabase(),
+                mongoConverter, EntityCallbacks.create(applicationContext));
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public PartitionedAssetRepository partitionedAssetRepository(MongoAssetPartitions partitions,
+                                                                 AssetPartitionProperties properties) {
+        int count = properties.getUris().size();
+        AssetPartitioner partitioner;
+        SerialNoClaims claims = null;
+        if (properties.getStrategy() == AssetPartitionProperties.Strategy.CATEGORY) {
+            int claimsPartition = properties.getClaimsPartition();
+            if (claimsPartition < 0 || claimsPartition >= count) {
+                throw new IllegalStateException("assets.partitions.claims-partition must be between 0 and "
+                        + (count - 1) + ", got " + claimsPartition);
+            }
+            partitioner = new CategoryPartitioner(count, properties.getCategories());
+            claims = new MongoSerialNoClaims(partitions.templates().get(claimsPartition));
+        } else {
+            partitioner = new SerialNoPartitioner(count);
+        }
+        log.info("Asset partitions: {} databases, strategy {}", count, properties.getStrategy());
+        return new PartitionedAssetRepository(partitions.repositories(), partitioner, claims,
+                properties.getRouteCacheSize(), properties.getScatterThreads(), properties.getClaimGrace());
+    }
+
+    // auto-index-creation partition template'lerini kapsamaz; açıksa index'ler açılışta, kapalıysa
+    // (fast-startup) arka planda oluşturulur
+    @Bean
+    public AssetIndexInitializer assetIndexInitializer(MongoAssetPartitions partitions,
+                                                       MongoMappingContext mappingContext) {
+        return new AssetIndexInitializer(partitions.templates(), mappingContext, !mappingContext.isAutoIndexCreation());
+    }
+
+    @Bean
+    public AssetSearchKeys assetSearchKeys(ObjectProvider<MongoAssetPartitions> partitions) {
+        return new AssetSearchKeys(() -> partitions.getObject().templates());
+    }
+
+    // CATEGORY'ye geçilen mevcut veride serialNo kayıtları yoksa bir kez doldurulur (arka planda)
+    @EventListener(ApplicationReadyEvent.class)
+    public void claimExistingSerialNos(ApplicationReadyEvent event) {
+        PartitionedAssetRepository repository = event.getApplicationContext().getBean(PartitionedAssetRepository.class);
+        if (!repository.claimsSerialNos()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                long assets = repository.count();
+                if (repository.claimCount() >= assets) {
+                    return;
+                }
+                long start = System.nanoTime();
+                long conflicts = repository.claimExisting();
+                log.info("Claimed serialNos of {} existing assets in {} ms, {} conflicts", assets,
+                        (System.nanoTime() - start) / 1_000_000, conflicts);
+            } catch (RuntimeException ex) {
+                log.error("Claiming existing serialNos failed", ex);
+            }
+        }, "asset-serial-claims");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
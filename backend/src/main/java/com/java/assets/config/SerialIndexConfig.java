@@ -0,0 +1,27 @@
+package com.java.assets.config;
+
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.cache.SerialNoIndexRefresher;
+import com.java.assets.repository.AssetStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AssetSerialIndexProperties.class)
+public class SerialIndexConfig {
+
+    @Bean
+    public SerialNoIndex serialNoIndex(AssetSerialIndexProperties properties) {
+        if (!properties.isEnabled()) {
+            return SerialNoIndex.disabled();
+        }
+        return new SerialNoIndex(properties.getFalsePositiveRate());
+    }
+
+    @Bean
+    public SerialNoIndexRefresher serialNoIndexRefresher(SerialNoIndex serialNoIndex, AssetStore assetRepository,
+                                                         AssetSerialIndexProperties properties) {
+        return new SerialNoIndexRefresher(serialNoIndex, assetRepository, properties.getResyncInterval());
+    }
+}
@@ -0,0 +1,44 @@
+package com.java.assets.config;
+
+import com.java.assets.controller.AssetController;
+import com.java.assets.repository.AssetIndexInitializer;
+import com.java.assets.repository.AssetSearchKeys;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+
+    // fast-startup profilinde (auto-index-creation=false) index'ler açılıştan sonra arka planda oluşturulur.
+    // Partition'lı kurulumda PartitionConfig her partition için ayrısını oluşturur
+    @Bean
+    @Profile("!memory")
+    @ConditionalOnExpression("!${spring.data.mongodb.auto-index-creation:false} && !${assets.partitions.enabled:false}")
+    public AssetIndexInitializer assetIndexInitializer(MongoTemplate mongoTemplate, MongoMappingContext mappingContext) {
+        return new AssetIndexInitializer(mongoTemplate, mappingContext, true);
+    }
+
+    // q= önek aramasının küçük harfli kopyaları; partition'lı kurulumda PartitionConfig'te
+    @Bean
+    @Profile("!memory")
+    @ConditionalOnProperty(prefix = "assets.partitions", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public AssetSearchKeys assetSearchKeys(ObjectProvider<MongoTemplate> mongoTemplate) {
+        return new AssetSearchKeys(() -> List.of(mongoTemplate.getObject()));
+    }
+
+    // spring.main.lazy-initialization=true iken (fast-startup profili) ilk request'in yolu yine açılışta
+    // oluşturulur: controller → service → cache/stats → repository → MongoTemplate
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AssetController.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.java.assets.config;
+
+import com.java.assets.stats.AssetStatsCounters;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AssetStatsProperties.class)
+public class StatsConfig {
+
+    @Bean
+    public AssetStatsCounters assetStatsCounters(AssetStatsProperties properties) {
+        if (!properties.isIncremental()) {
+            return AssetStatsCounters.disabled();
+        }
+        return new AssetStatsCounters(properties.getResyncInterval());
+    }
+}
@@ -5,7 +5,10 @@ import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
+// Sadece /v3/api-docs ilk istendiğinde gerekir
+@Lazy
 @Configuration
 public class SwaggerConfig {
 
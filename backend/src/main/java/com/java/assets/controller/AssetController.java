@@ -1,6 +1,28 @@
 package com.java.assets.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.assets.admission.Admission;
+import com.java.assets.admission.AdmissionClass;
+import com.java.assets.cache.AssetCache;
+import com.java.assets.dto.AssetBulkResult;
+import com.java.assets.dto.AssetBulkSelection;
+import com.java.assets.dto.AssetBulkUpdate;
+import com.java.assets.dto.AssetCacheStats;
+import com.java.assets.dto.AssetChanges;
+import com.java.assets.dto.AssetCollectionVersion;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetSerialNos;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.dto.BulkImportResult;
+import com.java.assets.dto.CursorPage;
+import com.java.assets.export.AssetExportWriter;
+import com.java.assets.export.ExportFormat;
+import com.java.assets.importer.AssetImportParser;
 import com.java.assets.model.Asset;
+import com.java.assets.service.AssetImportService;
 import com.java.assets.service.AssetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,11 +33,26 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @Tag(name = "Asset Management", description = "Asset CRUD operations")
 @RestController
@@ -23,13 +60,76 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AssetController {
 
+    private static final String FIELDS_DESCRIPTION =
+            "Comma-separated fields to return, e.g. name,serialNo (id is always included); default all";
+    private static final String PARTITIONED_TOTAL_NOTE = "With partitioned storage totalElements and totalPages are "
+            + "approximate: an asset moving between partitions may briefly be counted twice";
+
     private final AssetService assetService;
+    private final AssetImportService assetImportService;
+    private final AssetImportParser assetImportParser;
+    private final AssetCache assetCache;
+    private final AssetExportWriter assetExportWriter;
+    private final ObjectMapper objectMapper;
 
-    @Operation(summary = "Get all assets", description = "Returns list of all assets")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved")
+    @Operation(summary = "Get all assets",
+            description = "Returns list of all assets as JSON, CBOR (application/cbor) or Smile "
+                    + "(application/x-jackson-smile) depending on Accept. Honours If-None-Match")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Collection not modified")
+    })
+    @Admission(AdmissionClass.HEAVY)
     @GetMapping
-    public ResponseEntity<List<Asset>> getAllAssets() {
-        return ResponseEntity.ok(assetService.getAllAssets());
+    public ResponseEntity<List<Asset>> getAllAssets(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+            WebRequest request) {
+        AssetFields projection = AssetFields.parse(fields);
+        // Versiyon listeden ÖNCE okunur: arada bir yazma olursa ETag eski kalır, sonraki istek yine 200 alır.
+        // Last-Modified gönderilmez / If-Modified-Since'e bakılmaz: geç commit edilen eski damgalı bir yazma
+        // max(lastModified)'ı ilerletmez, sadece ETag'deki yazma sayacı bunu yakalar
+        AssetCollectionVersion version = assetService.getCollectionVersion();
+        if (request.checkNotModified(version.toETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(view(assetService.getAllAssets(projection), projection));
+    }
+
+    @Operation(summary = "Changes since a point in time",
+            description = "Assets added/updated and ids deleted since the given instant (ISO-8601). "
+                    + "Pass the returned 'until' as the next 'since'; fullResync=true means reload everything")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved")
+    @Admission(AdmissionClass.HEAVY)
+    @GetMapping("/changes")
+    public ResponseEntity<AssetChanges> getChanges(
+            @Parameter(description = "Previous 'until' value, omit for the first sync")
+            @RequestParam(required = false) Instant since) {
+        return ResponseEntity.ok(assetService.getChanges(since));
+    }
+
+    @Operation(summary = "Stream all assets",
+            description = "Streams every asset as newline-delimited JSON straight from the database cursor")
+    @ApiResponse(responseCode = "200", description = "Successfully streamed")
+    @Admission(AdmissionClass.HEAVY)
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAssets(
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        AssetFields projection = AssetFields.parse(fields);
+        // Her doküman cursor'dan okundukça yazılır, liste hiç oluşturulmaz
+        StreamingResponseBody body = out -> {
+            try (Stream<Asset> assets = assetService.streamAllAssets(projection)) {
+                for (Asset asset : (Iterable<Asset>) assets::iterator) {
+                    out.write(objectMapper.writeValueAsBytes(projection.view(asset)));
+                    out.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Operation(summary = "Get asset by ID")
@@ -40,7 +140,46 @@ public class AssetController {
     @GetMapping("/{id}")
     public ResponseEntity<Asset> getAssetById(
             @Parameter(description = "Asset ID") @PathVariable String id) {
-        return ResponseEntity.ok(assetService.getAssetById(id));
+        return versioned(assetService.getAssetById(id));
+    }
+
+    @Operation(summary = "Get asset by serial number")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Asset found"),
+        @ApiResponse(responseCode = "404", description = "Asset not found")
+    })
+    @GetMapping("/by-serial/{serialNo}")
+    public ResponseEntity<Asset> getAssetBySerialNo(
+            @Parameter(description = "Serial number") @PathVariable String serialNo) {
+        return versioned(assetService.getAssetBySerialNo(serialNo));
+    }
+
+    @Operation(summary = "Check which serial numbers exist",
+            description = "Returns serialNo → true/false in request order; answered from memory when "
+                    + "assets.serial-index.enabled=true, otherwise with one query per 1000 serials")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Existence per serial number"),
+        @ApiResponse(responseCode = "400", description = "Empty list, blank serial or more than 10000 serials")
+    })
+    @Admission(AdmissionClass.READ)
+    @PostMapping("/serials/exists")
+    public ResponseEntity<Map<String, Boolean>> serialNosExist(@Valid @RequestBody AssetSerialNos request) {
+        return ResponseEntity.ok(assetService.serialNosExist(request.getSerialNos()));
+    }
+
+    @Operation(summary = "Dashboard statistics",
+            description = "Total, added this month/week, latest asset and counts per category")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved")
+    @Admission(AdmissionClass.HEAVY)
+    @GetMapping("/stats")
+    public ResponseEntity<AssetStats> getStats() {
+        return ResponseEntity.ok(assetService.getStats());
+    }
+
+    @Operation(summary = "Asset cache statistics", description = "Hit/miss/eviction counters of the lookup cache")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<AssetCacheStats>> getCacheStats() {
+        return ResponseEntity.ok(assetCache.stats());
     }
 
     @Operation(summary = "Add new asset")
@@ -67,6 +206,20 @@ public class AssetController {
         return ResponseEntity.ok(assetService.updateAsset(id, asset));
     }
 
+    @Operation(summary = "Partially update asset", description = "Only the fields present in the body are changed")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Asset updated"),
+        @ApiResponse(responseCode = "400", description = "Validation error"),
+        @ApiResponse(responseCode = "404", description = "Asset not found"),
+        @ApiResponse(responseCode = "409", description = "Duplicate serial number")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<Asset> patchAsset(
+            @Parameter(description = "Asset ID") @PathVariable String id,
+            @Valid @RequestBody AssetPatch patch) {
+        return ResponseEntity.ok(assetService.patchAsset(id, patch));
+    }
+
     @Operation(summary = "Delete asset")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Asset deleted"),
@@ -79,11 +232,182 @@ public class AssetController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get paginated assets")
+    @Operation(summary = "Bulk update assets",
+            description = "Sets the given fields (not serialNo) on the assets selected by 'ids' or 'filter'; "
+                    + "assets already having those values are not modified")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matched and modified counts"),
+        @ApiResponse(responseCode = "400", description = "Invalid selection or fields")
+    })
+    @Admission(AdmissionClass.HEAVY)
+    @PatchMapping("/bulk")
+    public ResponseEntity<AssetBulkResult> bulkUpdate(@Valid @RequestBody AssetBulkUpdate request) {
+        return ResponseEntity.ok(assetService.bulkUpdate(request.selection(), request.getSet()));
+    }
+
+    @Operation(summary = "Bulk delete assets",
+            description = "Deletes the assets selected by 'ids' or 'filter' (q and/or category)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matched and deleted counts"),
+        @ApiResponse(responseCode = "400", description = "Invalid selection")
+    })
+    @Admission(AdmissionClass.HEAVY)
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<AssetBulkResult> bulkDelete(@RequestBody AssetBulkSelection selection) {
+        return ResponseEntity.ok(assetService.bulkDelete(selection));
+    }
+
+    @Operation(summary = "Get paginated assets", description = PARTITIONED_TOTAL_NOTE)
     @GetMapping("/paginated")
     public ResponseEntity<Page<Asset>> getAssetsPaginated(
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(assetService.getAssetsPaginated(page, size));
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        AssetFields projection = AssetFields.parse(fields);
+        return ResponseEntity.ok(assetService.getAssetsPaginated(page, size, projection).map(projection::view));
+    }
+
+    @Operation(summary = "Get assets by cursor",
+            description = "Keyset pagination: pass the nextCursor of the previous response to get the next slice")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<Asset>> getAssetsByCursor(
+            @Parameter(description = "Opaque cursor from the previous response") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 1000)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort key: id or assignDate") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Also return total count") @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        AssetFields projection = AssetFields.parse(fields);
+        CursorPage<Asset> slice = assetService.getAssetsByCursor(cursor, size, sort, includeTotal, projection);
+        slice.setContent(view(slice.getContent(), projection));
+        return ResponseEntity.ok(slice);
+    }
+
+    @Operation(summary = "Search assets",
+            description = "Case-insensitive prefix search on name and serialNo, category filter, sorting and paging in the "
+                    + "database. " + PARTITIONED_TOTAL_NOTE)
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort field")
+    })
+    @Admission(AdmissionClass.HEAVY)
+    @GetMapping("/search")
+    public ResponseEntity<Page<Asset>> searchAssets(
+            @Parameter(description = "Name or serial number prefix") @RequestParam(required = false) String q,
+            @Parameter(description = "Category") @RequestParam(required = false) String category,
+            @Parameter(description = "Use full-text (word) matching instead of prefix") @RequestParam(defaultValue = "false") boolean fullText,
+            @Parameter(description = "Sort field: name, serialNo, assignDate or category") @RequestParam(defaultValue = "name") String sort,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria(q, category, fullText);
+        AssetFields projection = AssetFields.parse(fields);
+        return ResponseEntity.ok(assetService.searchAssets(criteria, sort, direction, page, size, projection)
+                .map(projection::view));
+    }
+
+    @Operation(summary = "Bulk import assets",
+            description = "Imports a JSON array, NDJSON or CSV (name,serialNo,assignDate,category) body in batches "
+                    + "and returns a per-row report")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished, see per-row report; "
+                + "error is set when the file broke after rows were already written"),
+        @ApiResponse(responseCode = "400", description = "Malformed or unsupported import file, nothing written")
+    })
+    @Admission(AdmissionClass.HEAVY)
+    @PostMapping(value = "/bulk", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<BulkImportResult> importAssets(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(importRows(body, MediaType.parseMediaType(contentType)));
+    }
+
+    @Operation(summary = "Bulk import assets from an uploaded file",
+            description = "Format is taken from the file extension (.json, .ndjson/.jsonl, .csv)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished, see per-row report; "
+                + "error is set when the file broke after rows were already written"),
+        @ApiResponse(responseCode = "400", description = "Malformed or unsupported import file, nothing written")
+    })
+    @Admission(AdmissionClass.HEAVY)
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkImportResult> importAssetsFile(
+            @Parameter(description = "Import file") @RequestParam("file") MultipartFile file) throws IOException {
+        MediaType format = AssetImportParser.resolveFormat(file.getOriginalFilename(), file.getContentType());
+        return ResponseEntity.ok(importRows(file.getInputStream(), format));
+    }
+
+
+    @Operation(summary = "Export assets",
+            description = "Streams the assets matching the search filters as CSV or XLSX; "
+                    + "gzip-compressed when the client accepts it")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export file"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format or sort field")
+    })
+    @Admission(AdmissionClass.HEAVY)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAssets(
+            @Parameter(description = "csv or xlsx") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Name or serial number prefix") @RequestParam(required = false) String q,
+            @Parameter(description = "Category") @RequestParam(required = false) String category,
+            @Parameter(description = "Use full-text (word) matching instead of prefix") @RequestParam(defaultValue = "false") boolean fullText,
+            @Parameter(description = "Sort field: name, serialNo, assignDate or category") @RequestParam(defaultValue = "name") String sort,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(defaultValue = "asc") String direction,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        boolean gzip = AssetExportWriter.acceptsGzip(acceptEncoding);
+        // Sort burada doğrulanır ki hata response başlamadan 400 dönsün; cursor body yazılırken açılır,
+        // body hiç çalışmazsa (istemci koptu, timeout, executor reddetti) açık cursor kalmaz
+        Sort exportSort = assetService.searchSort(sort, direction);
+        AssetSearchCriteria criteria = new AssetSearchCriteria(q, category, fullText);
+
+        StreamingResponseBody body = out -> {
+            try (Stream<Asset> assets = assetService.streamAssets(criteria, exportSort)) {
+                OutputStream target = gzip ? new GZIPOutputStream(out) : out;
+                assetExportWriter.write(exportFormat, assets, target);
+                if (target instanceof GZIPOutputStream gzipOut) {
+                    gzipOut.finish();
+                }
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("assets." + exportFormat.getExtension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static List<Asset> view(List<Asset> assets, AssetFields projection) {
+        return projection.isAll() ? assets : assets.stream().map(projection::view).toList();
+    }
+
+    private BulkImportResult importRows(InputStream in, MediaType format) {
+        try (Stream<AssetImportRow> rows = assetImportParser.parse(in, format)) {
+            return assetImportService.importAssets(rows);
+        }
+    }
+
+    // ETag = id + version (by-serial URL'i farklı bir asset'e geçebilir);
+    // If-None-Match eşleşirse Spring 304 döner (HttpEntityMethodProcessor).
+    // Weak ETag: JSON/CBOR/Smile gösterimleri byte olarak farklı ama anlamca aynı; cache'ler Accept'e göre ayırır
+    private static ResponseEntity<Asset> versioned(Asset asset) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag("W/\"" + asset.getId() + "-" + (asset.getVersion() == null ? 0 : asset.getVersion()) + "\"");
+        if (asset.getLastModified() != null) {
+            builder.lastModified(asset.getLastModified());
+        }
+        return builder.body(asset);
     }
-}
\ No newline at end of file
+}
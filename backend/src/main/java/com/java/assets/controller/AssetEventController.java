@@ -0,0 +1,34 @@
+package com.java.assets.controller;
+
+import com.java.assets.events.AssetEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Asset Events", description = "Live asset changes over Server-Sent Events")
+@RestController
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "assets.events", name = "enabled", havingValue = "true")
+public class AssetEventController {
+
+    private final AssetEventHub assetEventHub;
+
+    @Operation(summary = "Subscribe to asset changes",
+            description = "Events: upsert (asset), delete (id), resync (reload via /changes). "
+                    + "Reconnect with Last-Event-ID to receive missed events")
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @Parameter(description = "Id of the last event received, sent automatically by EventSource")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return assetEventHub.subscribe(lastEventId);
+    }
+}
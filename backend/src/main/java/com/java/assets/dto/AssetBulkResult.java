@@ -0,0 +1,17 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu işlem sonucu. matched: seçime uyan asset sayısı,
+ * modified: gerçekten değişen (güncellemede zaten aynı değerde olanlar hariç) ya da silinen sayı.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetBulkResult {
+    private long matched;
+    private long modified;
+}
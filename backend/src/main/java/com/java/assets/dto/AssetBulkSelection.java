@@ -0,0 +1,19 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Toplu işlem seçimi: ya id listesi ya da arama filtresi (ikisinden tam olarak biri).
+ * Boş filtre (tüm koleksiyon) kabul edilmez.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetBulkSelection {
+    private List<String> ids;
+    private AssetSearchCriteria filter;
+}
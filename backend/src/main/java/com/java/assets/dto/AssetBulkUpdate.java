@@ -0,0 +1,29 @@
+package com.java.assets.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Toplu güncelleme: seçilen asset'lere set içindeki (null olmayan) alanlar yazılır.
+ * serialNo unique olduğu için toplu güncellenemez.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetBulkUpdate {
+    private List<String> ids;
+    private AssetSearchCriteria filter;
+
+    @Valid
+    @NotNull(message = "set is required")
+    private AssetPatch set;
+
+    public AssetBulkSelection selection() {
+        return new AssetBulkSelection(ids, filter);
+    }
+}
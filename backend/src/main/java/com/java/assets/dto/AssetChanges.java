@@ -0,0 +1,26 @@
+package com.java.assets.dto;
+
+import com.java.assets.model.Asset;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * /changes?since= yanıtı.
+ * Client önce deleted id'lerini siler, sonra upserts'i id'ye göre ekler/günceller ve bir sonraki
+ * istekte since olarak until'i gönderir. Aralıklar kasıtlı olarak üst üste biner, aynı değişiklik
+ * iki kez gelebilir (idempotent). fullResync true ise listeler boştur, client tüm listeyi yeniden çekmelidir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetChanges {
+    private Instant since;
+    private Instant until;
+    private boolean fullResync;
+    private List<Asset> upserts;
+    private List<String> deleted;
+}
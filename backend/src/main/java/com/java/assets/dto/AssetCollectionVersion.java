@@ -0,0 +1,29 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Koleksiyonun o anki durumu: asset sayısı + son değişiklik (son yazma ya da son silme) + paylaşılan
+ * yazma sayacı (asset_counters). Her add/update/delete sayacı artırır, bu yüzden liste GET'inin ETag'i
+ * buradan üretilir; sayaç veritabanında olduğu için tüm node'lar aynı veri için aynı ETag'i döner.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetCollectionVersion {
+    private long count;
+    private Instant lastModified;
+    private long writes;
+
+    public String toETag() {
+        return "W/\"" + count + "-" + lastModifiedMillis() + "-" + writes + "\"";
+    }
+
+    private long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
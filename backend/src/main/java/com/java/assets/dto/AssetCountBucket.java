@@ -0,0 +1,19 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * assignDate + category bazında asset sayısı (incremental sayaçların yeniden kurulması için)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetCountBucket {
+    private LocalDate assignDate;
+    private String category;
+    private long count;
+}
@@ -0,0 +1,55 @@
+package com.java.assets.dto;
+
+import com.java.assets.exception.InvalidCursorException;
+import com.java.assets.model.Asset;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination için son görülen sıralama anahtarı.
+ * id sıralamasında sadece _id, assignDate sıralamasında assignDate + _id taşınır.
+ */
+@Getter
+@AllArgsConstructor
+public class AssetCursor {
+
+    private static final String ID_PREFIX = "i";
+    private static final String ASSIGN_DATE_PREFIX = "a";
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate assignDate;
+    private final String id;
+
+    public static AssetCursor from(Asset asset, boolean byAssignDate) {
+        return new AssetCursor(byAssignDate ? asset.getAssignDate() : null, asset.getId());
+    }
+
+    public String encode() {
+        String raw = assignDate == null
+                ? ID_PREFIX + SEPARATOR + id
+                : ASSIGN_DATE_PREFIX + SEPARATOR + assignDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AssetCursor decode(String token, boolean byAssignDate) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (byAssignDate && parts.length == 3 && ASSIGN_DATE_PREFIX.equals(parts[0])) {
+                return new AssetCursor(LocalDate.parse(parts[1]), parts[2]);
+            }
+            if (!byAssignDate && parts.length == 2 && ID_PREFIX.equals(parts[0])) {
+                return new AssetCursor(null, parts[1]);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(token);
+        }
+        throw new InvalidCursorException(token);
+    }
+}
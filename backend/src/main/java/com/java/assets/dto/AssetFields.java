@@ -0,0 +1,124 @@
+package com.java.assets.dto;
+
+import com.java.assets.exception.InvalidFieldsException;
+import com.java.assets.model.Asset;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * fields= parametresi (sparse fieldset): response'ta olacak asset alanları.
+ * Mongo projection'ına çevrilir, istenmeyen alanlar veritabanından hiç okunmaz;
+ * response ProjectedAsset olarak yazıldığı için JSON'a da girmez.
+ * id her zaman dahildir, parametre verilmezse tüm alanlar döner.
+ */
+public final class AssetFields {
+
+    public static final List<String> NAMES =
+            List.of("id", "name", "serialNo", "assignDate", "category", "version", "lastModified");
+
+    private static final AssetFields ALL = new AssetFields(null);
+
+    // null: projection yok
+    private final Set<String> names;
+
+    private AssetFields(Set<String> names) {
+        this.names = names;
+    }
+
+    public static AssetFields all() {
+        return ALL;
+    }
+
+    public static AssetFields of(String... names) {
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add("id");
+        for (String name : names) {
+            if (!NAMES.contains(name)) {
+                throw new InvalidFieldsException(name);
+            }
+            fields.add(name);
+        }
+        return fields.size() == NAMES.size() ? ALL : new AssetFields(Collections.unmodifiableSet(fields));
+    }
+
+    /**
+     * "id,name,serialNo" → AssetFields; boş ya da null ise tüm alanlar
+     */
+    public static AssetFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return of(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toArray(String[]::new));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * Projection'a ek alan (ör. cursor için sıralama anahtarı)
+     */
+    public AssetFields with(String name) {
+        if (isAll() || names.contains(name)) {
+            return this;
+        }
+        String[] extended = names.toArray(new String[names.size() + 1]);
+        extended[names.size()] = name;
+        return of(extended);
+    }
+
+    /**
+     * Projection'ın bellekteki karşılığı: sadece bu alanları taşıyan yeni bir Asset
+     * (veritabanı dışında birleştirilen sonuçlar için)
+     */
+    public Asset project(Asset asset) {
+        if (isAll()) {
+            return new Asset(asset.getId(), asset.getName(), asset.getSerialNo(), asset.getAssignDate(),
+                    asset.getCategory(), asset.getVersion(), asset.getLastModified());
+        }
+        Asset projected = new Asset();
+        projected.setId(asset.getId());
+        if (names.contains("name")) {
+            projected.setName(asset.getName());
+        }
+        if (names.contains("serialNo")) {
+            projected.setSerialNo(asset.getSerialNo());
+        }
+        if (names.contains("assignDate")) {
+            projected.setAssignDate(asset.getAssignDate());
+        }
+        if (names.contains("category")) {
+            projected.setCategory(asset.getCategory());
+        }
+        if (names.contains("version")) {
+            projected.setVersion(asset.getVersion());
+        }
+        if (names.contains("lastModified")) {
+            projected.setLastModified(asset.getLastModified());
+        }
+        return projected;
+    }
+
+    /**
+     * Response'a yazılacak hali: projection varsa istenmeyen alanlar JSON'a null olarak da yazılmaz
+     */
+    public Asset view(Asset asset) {
+        return isAll() ? asset : new ProjectedAsset(asset);
+    }
+
+    public Set<String> getNames() {
+        return isAll() ? new LinkedHashSet<>(NAMES) : names;
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", names);
+    }
+}
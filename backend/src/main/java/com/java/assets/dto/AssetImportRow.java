@@ -0,0 +1,25 @@
+package com.java.assets.dto;
+
+import com.java.assets.model.Asset;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Import dosyasından okunan tek satır.
+ * Satır parse edilemediyse asset null, error dolu olur.
+ */
+@Getter
+@AllArgsConstructor
+public class AssetImportRow {
+    private final int row;
+    private final Asset asset;
+    private final String error;
+
+    public static AssetImportRow of(int row, Asset asset) {
+        return new AssetImportRow(row, asset, null);
+    }
+
+    public static AssetImportRow invalid(int row, String error) {
+        return new AssetImportRow(row, null, error);
+    }
+}
@@ -0,0 +1,28 @@
+package com.java.assets.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * PATCH isteği: sadece gönderilen (null olmayan) alanlar güncellenir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetPatch {
+
+    @Size(min = 2, max = 100, message = "Name must be between 2-100 characters")
+    private String name;
+
+    @Pattern(regexp = ".*\\S.*", message = "Serial number cannot be empty")
+    private String serialNo;
+
+    private LocalDate assignDate;
+
+    private String category;
+}
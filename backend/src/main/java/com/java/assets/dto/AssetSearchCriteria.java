@@ -0,0 +1,20 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Arama filtreleri.
+ * q: name/serialNo üzerinde büyük-küçük harf duyarsız prefix araması
+ * (fullText=true ise text index üzerinden kelime araması),
+ * category: tam eşleşme.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetSearchCriteria {
+    private String q;
+    private String category;
+    private boolean fullText;
+}
@@ -0,0 +1,25 @@
+package com.java.assets.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Toplu serialNo varlık kontrolü (barkod okuyucular)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetSerialNos {
+
+    public static final int MAX_SIZE = 10_000;
+
+    @NotEmpty(message = "serialNos cannot be empty")
+    @Size(max = MAX_SIZE, message = "At most " + MAX_SIZE + " serial numbers per request")
+    private List<@NotBlank(message = "Serial number cannot be empty") String> serialNos;
+}
@@ -0,0 +1,26 @@
+package com.java.assets.dto;
+
+import com.java.assets.model.Asset;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Dashboard istatistikleri.
+ * Kategorisi olmayan asset'ler frontend'deki gibi "Other" altında sayılır.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetStats {
+
+    public static final String DEFAULT_CATEGORY = "Other";
+
+    private long total;
+    private long addedThisMonth;
+    private long addedThisWeek;
+    private Asset latestAsset;
+    private Map<String, Long> byCategory;
+}
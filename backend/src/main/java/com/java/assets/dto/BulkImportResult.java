@@ -0,0 +1,51 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk import raporu: toplam sayılar + satır bazında sonuç
+ */
+@Data
+@NoArgsConstructor
+public class BulkImportResult {
+
+    public enum Status { CREATED, DUPLICATE, INVALID }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int row;
+        private String serialNo;
+        private Status status;
+        private String id;
+        private String message;
+    }
+
+    private int created;
+    private int duplicates;
+    private int invalid;
+    // Dosya yarıda bozuksa: önceki satırlar yazılmıştır, sonrası okunmadı
+    private String error;
+    private List<RowResult> rows = new ArrayList<>();
+
+    public void created(int row, String serialNo, String id) {
+        created++;
+        rows.add(new RowResult(row, serialNo, Status.CREATED, id, null));
+    }
+
+    public void duplicate(int row, String serialNo, String message) {
+        duplicates++;
+        rows.add(new RowResult(row, serialNo, Status.DUPLICATE, null, message));
+    }
+
+    public void invalid(int row, String serialNo, String message) {
+        invalid++;
+        rows.add(new RowResult(row, serialNo, Status.INVALID, null, message));
+    }
+}
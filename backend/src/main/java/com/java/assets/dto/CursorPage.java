@@ -0,0 +1,22 @@
+package com.java.assets.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cursor (keyset) pagination yanıtı.
+ * nextCursor bir sonraki sayfa için opaque token'dır, son sayfada null döner.
+ * totalElements sadece istenirse doldurulur.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+}
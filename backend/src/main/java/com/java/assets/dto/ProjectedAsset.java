@@ -0,0 +1,17 @@
+package com.java.assets.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.java.assets.model.Asset;
+
+/**
+ * fields= ile istenen asset'in response hali: projection'da okunmayan (null) alanlar JSON'a yazılmaz.
+ * Projection'sız response'larda Asset null alanları yine null olarak yazar.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectedAsset extends Asset {
+
+    public ProjectedAsset(Asset asset) {
+        super(asset.getId(), asset.getName(), asset.getSerialNo(), asset.getAssignDate(), asset.getCategory(),
+                asset.getVersion(), asset.getLastModified());
+    }
+}
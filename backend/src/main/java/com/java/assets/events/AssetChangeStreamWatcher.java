@@ -0,0 +1,147 @@
+package com.java.assets.events;
+
+import com.java.assets.model.Asset;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * assets koleksiyonu için tek, paylaşılan change stream aboneliği (tek thread).
+ *
+ * Her değişiklik AssetEventHub'a resume token'ı ile verilir. Cursor hata alırsa son token'dan
+ * (resumeAfter) devam edilir, sunucu tarafında event kaybolmaz. Token'ın oplog geçmişi silinmişse
+ * baştan açılır ve tüm client'lara "resync" gönderilir.
+ */
+@Slf4j
+public class AssetChangeStreamWatcher implements SmartLifecycle {
+
+    static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    // ChangeStreamHistoryLost, ChangeStreamFatalError: token ile devam edilemez
+    private static final Set<Integer> UNRESUMABLE_ERRORS = Set.of(280, 286);
+
+    private final MongoTemplate mongoTemplate;
+    private final AssetEventHub hub;
+
+    private volatile boolean running;
+    private Thread thread;
+    private BsonDocument resumeToken;
+
+    public AssetChangeStreamWatcher(MongoTemplate mongoTemplate, AssetEventHub hub) {
+        this.mongoTemplate = mongoTemplate;
+        this.hub = hub;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::watch, "asset-change-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            // tryNext en fazla maxAwaitTime bekler
+            thread.join(TimeUnit.SECONDS.toMillis(3));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch() {
+        while (running) {
+            ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Asset.class))
+                    .watch()
+                    .fullDocument(FullDocument.UPDATE_LOOKUP)
+                    .maxAwaitTime(1, TimeUnit.SECONDS);
+            if (resumeToken != null) {
+                stream = stream.resumeAfter(resumeToken);
+            }
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+                log.info("Watching asset change stream{}", resumeToken == null ? "" : " (resumed)");
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null && !handle(change)) {
+                        break;
+                    }
+                    // Boş batch'lerde de token ilerler (post-batch resume token)
+                    if (cursor.getResumeToken() != null) {
+                        resumeToken = cursor.getResumeToken();
+                    }
+                }
+            } catch (MongoException ex) {
+                if (!running) {
+                    return;
+                }
+                if (ex instanceof MongoCommandException command && UNRESUMABLE_ERRORS.contains(command.getErrorCode())) {
+                    resumeToken = null;
+                    hub.publish(null, AssetEvent.resync());
+                }
+                log.warn("Asset change stream failed, retrying in {}s: {}", RETRY_BACKOFF.toSeconds(), ex.getMessage());
+                sleep();
+            }
+        }
+    }
+
+    // false: stream geçersiz oldu (koleksiyon drop/rename), baştan açılmalı
+    private boolean handle(ChangeStreamDocument<Document> change) {
+        String token = change.getResumeToken().getString("_data").getValue();
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> {
+                // UPDATE_LOOKUP: doküman bu arada silinmişse null gelir, delete event'i ayrıca gelecek
+                Document document = change.getFullDocument();
+                if (document != null) {
+                    hub.publish(token, AssetEvent.upsert(mongoTemplate.getConverter().read(Asset.class, document)));
+                }
+            }
+            case DELETE -> hub.publish(token, AssetEvent.delete(idOf(change.getDocumentKey())));
+            case DROP, RENAME, DROP_DATABASE, INVALIDATE -> {
+                resumeToken = null;
+                hub.publish(token, AssetEvent.resync());
+                return false;
+            }
+            default -> {
+                // OTHER vs. - asset içeriğini etkilemez
+            }
+        }
+        return true;
+    }
+
+    private static String idOf(BsonDocument documentKey) {
+        BsonValue id = documentKey.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RETRY_BACKOFF.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
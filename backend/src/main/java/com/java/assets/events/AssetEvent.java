@@ -0,0 +1,36 @@
+package com.java.assets.events;
+
+import com.java.assets.model.Asset;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SSE event gövdesi. type SSE event adı olarak da gönderilir:
+ * upsert (asset dolu), delete (sadece id), resync (client /changes ya da tam liste ile yeniden senkronize olmalı).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetEvent {
+
+    public static final String UPSERT = "upsert";
+    public static final String DELETE = "delete";
+    public static final String RESYNC = "resync";
+
+    private String type;
+    private String id;
+    private Asset asset;
+
+    public static AssetEvent upsert(Asset asset) {
+        return new AssetEvent(UPSERT, asset.getId(), asset);
+    }
+
+    public static AssetEvent delete(String id) {
+        return new AssetEvent(DELETE, id, null);
+    }
+
+    public static AssetEvent resync() {
+        return new AssetEvent(RESYNC, null, null);
+    }
+}
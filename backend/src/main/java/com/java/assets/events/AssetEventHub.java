@@ -0,0 +1,319 @@
+package com.java.assets.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change stream event'lerini SSE subscriber'larına dağıtır.
+ *
+ * Her event bir kez JSON'a ve SSE frame'ine çevrilir, tüm client'lara aynı frame gönderilir.
+ * publish() sadece client başına bounded kuyruklara offer eder, hiç bloklamaz; kuyrukları küçük
+ * bir sender havuzu boşaltır (client başına thread yok, bir client'a aynı anda tek sender yazar).
+ *
+ * Kuyruğu dolan yavaş client'ın bekleyen event'leri atılır, yerine tek bir "resync" konur. Tek bir yazması
+ * writeTimeout'u aşan (socket'i dolmuş) client kapatılır; yazma dönene kadar havuza bir sender eklenir,
+ * takılan sender'lar diğer client'ları bekletmez.
+ * Son replaySize event resume token'larıyla (SSE id) tutulur: Last-Event-ID ile yeniden bağlanan
+ * client kaçırdıklarını alır, token artık buffer'da değilse "resync" alır.
+ */
+@Slf4j
+public class AssetEventHub implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final int clientBufferSize;
+    private final int replaySize;
+    private final long emitterTimeoutMillis;
+    private final long writeTimeoutNanos;
+    private final Executor sender;
+    private final ScheduledExecutorService timer;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // publish/subscribe bu lock altında: replay ile canlı akış arasında boşluk ya da tekrar olmaz
+    private final Object lock = new Object();
+    private final ArrayDeque<Message> replay = new ArrayDeque<>();
+    private final AtomicLong overflows = new AtomicLong();
+
+    private final Message resync;
+    private final Message heartbeat = Message.comment("keep-alive");
+    private final Message connected = Message.comment("connected");
+
+    public AssetEventHub(ObjectMapper objectMapper, int clientBufferSize, int replaySize, Duration emitterTimeout,
+                         Duration writeTimeout, int senderThreads, Duration heartbeatInterval) {
+        this(objectMapper, clientBufferSize, replaySize, emitterTimeout, writeTimeout,
+                new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                        daemonThreads("asset-events-")),
+                Executors.newSingleThreadScheduledExecutor(daemonThreads("asset-events-timer-")));
+        long heartbeat = heartbeatInterval.toMillis();
+        timer.scheduleAtFixedRate(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        long check = Math.max(100, writeTimeout.toMillis() / 2);
+        timer.scheduleAtFixedRate(this::expireStuckWriters, check, check, TimeUnit.MILLISECONDS);
+    }
+
+    AssetEventHub(ObjectMapper objectMapper, int clientBufferSize, int replaySize, Duration emitterTimeout,
+                  Duration writeTimeout, Executor sender, ScheduledExecutorService timer) {
+        this.objectMapper = objectMapper;
+        this.clientBufferSize = clientBufferSize;
+        this.replaySize = replaySize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.sender = sender;
+        this.timer = timer;
+        this.resync = message(null, AssetEvent.resync());
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeoutMillis), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        synchronized (lock) {
+            subscriber.offer(connected);
+            if (lastEventId != null) {
+                List<Message> missed = missedSince(lastEventId);
+                if (missed == null) {
+                    subscriber.offer(resync);
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * token: change stream resume token'ı, SSE id olarak gönderilir (null ise replay'e girmez)
+     */
+    public void publish(String token, AssetEvent event) {
+        Message message = message(token, event);
+        synchronized (lock) {
+            if (token != null) {
+                replay.addLast(message);
+                if (replay.size() > replaySize) {
+                    replay.removeFirst();
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(message);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+    // Proxy'lerin bağlantıyı kapatmaması ve kopan client'ların fark edilmesi için
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(heartbeat);
+                subscriber.schedule();
+            }
+        }
+    }
+
+    // Yazması writeTimeout'u aşan client kapatılır; emitter hata ile tamamlanınca container bağlantıyı kapatır
+    // ve bloklu yazma hata ile döner. O zamana kadar havuz bir sender büyütülür.
+    void expireStuckWriters() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStarted;
+            if (started != 0 && now - started > writeTimeoutNanos) {
+                log.debug("Dropping SSE subscriber stuck in a write for {} ms", (now - started) / 1_000_000);
+                overflows.incrementAndGet();
+                subscriber.close();
+                subscriber.emitter.completeWithError(new TimeoutException("SSE write timed out"));
+                if (subscriber.compensated.compareAndSet(false, true)) {
+                    resizeSenders(1);
+                    // Yazma bu arada döndüyse drain eklenen sender'ı geri alamamış olabilir
+                    if (subscriber.sendStarted != started && subscriber.compensated.compareAndSet(true, false)) {
+                        resizeSenders(-1);
+                    }
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+        if (sender instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("assets.events.subscribers", subscribers, Set::size)
+                .description("Open SSE subscribers")
+                .register(registry);
+        FunctionCounter.builder("assets.events.overflows", overflows, AtomicLong::get)
+                .description("Slow subscribers told to resync or dropped after a write timeout")
+                .register(registry);
+    }
+
+    // Token replay buffer'da yoksa null (client resync almalı)
+    private List<Message> missedSince(String lastEventId) {
+        List<Message> missed = new ArrayList<>();
+        boolean found = false;
+        for (Message message : replay) {
+            if (found) {
+                missed.add(message);
+            } else if (lastEventId.equals(message.id)) {
+                found = true;
+            }
+        }
+        return found ? missed : null;
+    }
+
+    private Message message(String token, AssetEvent event) {
+        try {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(event.getType())
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON);
+            if (token != null) {
+                builder.id(token);
+            }
+            return new Message(token, builder.build());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Takılan yazma süresince havuz büyütülür; büyütürken önce max, küçültürken önce core
+    private void resizeSenders(int delta) {
+        if (!(sender instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+        synchronized (pool) {
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Önceden oluşturulmuş SSE frame'i
+    private record Message(String id, Set<DataWithMediaType> frame) {
+
+        static Message comment(String text) {
+            return new Message(null, SseEmitter.event().comment(text).build());
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> queue = new ArrayBlockingQueue<>(clientBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Süren yazmanın başlangıcı (System.nanoTime), yazmıyorsa 0
+        private volatile long sendStarted;
+        // Bu client'ın takılan yazması için havuza sender eklendi mi
+        private final AtomicBoolean compensated = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Message message) {
+            if (!queue.offer(message)) {
+                // Yavaş client: kaldığı yerden devam edemez, bekleyenler atılıp resync istenir
+                queue.clear();
+                queue.offer(resync);
+                overflows.incrementAndGet();
+            }
+        }
+
+        private void schedule() {
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    sendStarted = System.nanoTime();
+                    try {
+                        emitter.send(message.frame);
+                    } finally {
+                        sendStarted = 0;
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client bağlantıyı kapatmış; emitter'ı container kapatır
+                log.debug("Dropping SSE subscriber: {}", ex.getMessage());
+                close();
+            } finally {
+                if (compensated.compareAndSet(true, false)) {
+                    resizeSenders(-1);
+                }
+                draining.set(false);
+            }
+            // drain bittikten sonra gelen event'ler kaçmasın
+            schedule();
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
@@ -3,6 +3,14 @@ package com.java.assets.exception;
 public class AssetNotFoundException extends RuntimeException {
 
     public AssetNotFoundException(String id) {
-        super("Asset not found with id: " + id);
+        this("id", id);
     }
-}
\ No newline at end of file
+
+    private AssetNotFoundException(String field, String value) {
+        super("Asset not found with " + field + ": " + value);
+    }
+
+    public static AssetNotFoundException bySerialNo(String serialNo) {
+        return new AssetNotFoundException("serialNo", serialNo);
+    }
+}
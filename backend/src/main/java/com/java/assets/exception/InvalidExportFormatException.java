@@ -0,0 +1,8 @@
+package com.java.assets.exception;
+
+public class InvalidExportFormatException extends RuntimeException {
+
+    public InvalidExportFormatException(String format) {
+        super("Unsupported export format: " + format);
+    }
+}
@@ -0,0 +1,8 @@
+package com.java.assets.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+
+    public InvalidFieldsException(String field) {
+        super("Unknown field: " + field);
+    }
+}
@@ -0,0 +1,8 @@
+package com.java.assets.exception;
+
+public class InvalidSortException extends RuntimeException {
+
+    public InvalidSortException(String field) {
+        super("Unsupported sort field: " + field);
+    }
+}
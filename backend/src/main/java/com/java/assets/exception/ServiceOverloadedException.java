@@ -0,0 +1,20 @@
+package com.java.assets.exception;
+
+import com.java.assets.admission.AdmissionClass;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(AdmissionClass admissionClass, Duration retryAfter) {
+        super("Too many concurrent " + admissionClass.name().toLowerCase(Locale.ROOT) + " requests, retry later");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
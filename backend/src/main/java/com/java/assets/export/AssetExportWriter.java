@@ -0,0 +1,159 @@
+package com.java.assets.export;
+
+import com.java.assets.model.Asset;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Asset stream'ini satır satır CSV/XLSX olarak yazar.
+ * Kolonlar import formatıyla aynıdır, export edilen dosya tekrar import edilebilir.
+ * CSV'de formül gibi başlayan değerlerin başına ' eklenir, import'ta geri alınır (CsvFormulas).
+ */
+@Component
+public class AssetExportWriter {
+
+    static final List<String> COLUMNS = List.of("id", "name", "serialNo", "assignDate", "category");
+
+    // SXSSF bellekte sadece bu kadar satır tutar, gerisi geçici dosyaya flush edilir
+    static final int XLSX_ROW_WINDOW = 100;
+
+    // Sheet başına satır limiti (header dahil); dolunca "Assets 2", "Assets 3"... sheet'lerine devam edilir
+    private final int xlsxMaxRows;
+
+    public AssetExportWriter() {
+        this(SpreadsheetVersion.EXCEL2007.getMaxRows());
+    }
+
+    AssetExportWriter(int xlsxMaxRows) {
+        this.xlsxMaxRows = xlsxMaxRows;
+    }
+
+    /**
+     * Accept-Encoding gzip'i (ya da *'ı) q=0 olmadan kabul ediyor mu
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = quality;
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        // Açıkça yazılmış gzip * kuralından önce gelir
+        Double quality = gzip != null ? gzip : any;
+        return quality != null && quality > 0;
+    }
+
+    public void write(ExportFormat format, Stream<Asset> assets, OutputStream out) throws IOException {
+        if (format == ExportFormat.XLSX) {
+            writeXlsx(assets, out);
+        } else {
+            writeCsv(assets, out);
+        }
+    }
+
+    public void writeCsv(Stream<Asset> assets, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+        for (Iterator<Asset> it = assets.iterator(); it.hasNext(); ) {
+            Asset asset = it.next();
+            writer.write(csv(asset.getId()));
+            writer.write(',');
+            writer.write(csv(asset.getName()));
+            writer.write(',');
+            writer.write(csv(asset.getSerialNo()));
+            writer.write(',');
+            writer.write(asset.getAssignDate() == null ? "" : asset.getAssignDate().toString());
+            writer.write(',');
+            writer.write(csv(asset.getCategory()));
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    public void writeXlsx(Stream<Asset> assets, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+            Sheet sheet = createSheet(workbook, "Assets");
+            int rowIndex = 1;
+            for (Iterator<Asset> it = assets.iterator(); it.hasNext(); ) {
+                Asset asset = it.next();
+                if (rowIndex == xlsxMaxRows) {
+                    sheet = createSheet(workbook, "Assets " + (workbook.getNumberOfSheets() + 1));
+                    rowIndex = 1;
+                }
+                Row row = sheet.createRow(rowIndex++);
+                row.createCell(0).setCellValue(asset.getId());
+                row.createCell(1).setCellValue(asset.getName());
+                row.createCell(2).setCellValue(asset.getSerialNo());
+                if (asset.getAssignDate() != null) {
+                    row.createCell(3).setCellValue(asset.getAssignDate());
+                    row.getCell(3).setCellStyle(dateStyle);
+                }
+                row.createCell(4).setCellValue(asset.getCategory());
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static Sheet createSheet(SXSSFWorkbook workbook, String name) {
+        Sheet sheet = workbook.createSheet(name);
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            header.createCell(i).setCellValue(COLUMNS.get(i));
+        }
+        return sheet;
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        value = CsvFormulas.escape(value);
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
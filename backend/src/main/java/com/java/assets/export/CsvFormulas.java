@@ -0,0 +1,37 @@
+package com.java.assets.export;
+
+/**
+ * CSV formula injection koruması: = + - @ \t \r ile başlayan hücreler Excel / LibreOffice'te formül olarak
+ * çalışmasın diye export'ta başına ' eklenir, import'ta bu ' geri alınır.
+ * Zaten ' ile başlayan değerler ('=x gibi) de bir ' daha alır, böylece export edilen dosya değer kaybı
+ * olmadan tekrar import edilebilir.
+ */
+public final class CsvFormulas {
+
+    private static final String TRIGGERS = "=+-@\t\r";
+
+    private CsvFormulas() {
+    }
+
+    public static String escape(String value) {
+        return needsGuard(value, 0) ? "'" + value : value;
+    }
+
+    public static String unescape(String value) {
+        return value != null && !value.isEmpty() && value.charAt(0) == '\'' && needsGuard(value, 1)
+                ? value.substring(1)
+                : value;
+    }
+
+    // from'dan itibaren ' dizisinden sonra tetikleyici karakter geliyor mu
+    private static boolean needsGuard(String value, int from) {
+        if (value == null) {
+            return false;
+        }
+        int i = from;
+        while (i < value.length() && value.charAt(i) == '\'') {
+            i++;
+        }
+        return i < value.length() && TRIGGERS.indexOf(value.charAt(i)) >= 0;
+    }
+}
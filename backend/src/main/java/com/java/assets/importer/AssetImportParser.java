@@ -0,0 +1,240 @@
+package com.java.assets.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.exception.InvalidImportFileException;
+import com.java.assets.export.CsvFormulas;
+import com.java.assets.model.Asset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Import dosyasını satır satır okur (JSON array, NDJSON, CSV).
+ * Dönen Stream lazy'dir, tüm dosya belleğe alınmaz; kullanım sonrası kapatılmalıdır.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetImportParser {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "serialNo", "assignDate", "category");
+
+    private final ObjectMapper objectMapper;
+
+    public Stream<AssetImportRow> parse(InputStream in, MediaType contentType) {
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return parseCsv(in);
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return parseNdjson(in);
+        }
+        if (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return parseJson(in);
+        }
+        throw new InvalidImportFileException("Unsupported import format: " + contentType);
+    }
+
+    /**
+     * Multipart upload'larda content type güvenilir olmadığı için uzantıya bakılır
+     */
+    public static MediaType resolveFormat(String filename, String contentType) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return TEXT_CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return MediaType.APPLICATION_NDJSON;
+        }
+        if (name.endsWith(".json")) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType);
+    }
+
+    // JSON array (ya da ardışık root-level objeler) - her eleman ayrı tree olarak okunur
+    private Stream<AssetImportRow> parseJson(InputStream in) {
+        MappingIterator<JsonNode> nodes;
+        try {
+            nodes = objectMapper.readerFor(JsonNode.class).readValues(in);
+        } catch (IOException ex) {
+            throw new InvalidImportFileException("Malformed JSON import", ex);
+        }
+        AtomicInteger row = new AtomicInteger();
+        Iterator<AssetImportRow> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return nodes.hasNextValue();
+                } catch (IOException ex) {
+                    throw new InvalidImportFileException("Malformed JSON import near row " + (row.get() + 1), ex);
+                }
+            }
+
+            @Override
+            public AssetImportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return toRow(row.incrementAndGet(), nodes.nextValue());
+                } catch (IOException ex) {
+                    throw new InvalidImportFileException("Malformed JSON import near row " + row.get(), ex);
+                }
+            }
+        };
+        return stream(rows).onClose(() -> close(nodes));
+    }
+
+    private Stream<AssetImportRow> parseNdjson(InputStream in) {
+        BufferedReader reader = reader(in);
+        AtomicInteger row = new AtomicInteger();
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> {
+                    int index = row.incrementAndGet();
+                    try {
+                        return toRow(index, objectMapper.readTree(line));
+                    } catch (IOException ex) {
+                        return AssetImportRow.invalid(index, "Malformed JSON line");
+                    }
+                })
+                .onClose(() -> close(reader));
+    }
+
+    private Stream<AssetImportRow> parseCsv(InputStream in) {
+        BufferedReader reader = reader(in);
+        String headerLine;
+        try {
+            headerLine = reader.readLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (headerLine == null) {
+            close(reader);
+            return Stream.empty();
+        }
+        int[] columnIndexes = csvColumnIndexes(splitCsvLine(stripBom(headerLine)));
+        AtomicInteger row = new AtomicInteger();
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> toCsvRow(row.incrementAndGet(), splitCsvLine(line), columnIndexes))
+                .onClose(() -> close(reader));
+    }
+
+    private AssetImportRow toRow(int row, JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return AssetImportRow.invalid(row, "Row is not a JSON object");
+        }
+        try {
+            return AssetImportRow.of(row, objectMapper.treeToValue(node, Asset.class));
+        } catch (IOException | IllegalArgumentException ex) {
+            return AssetImportRow.invalid(row, "Unreadable asset: " + ex.getMessage());
+        }
+    }
+
+    private AssetImportRow toCsvRow(int row, List<String> values, int[] columnIndexes) {
+        String[] fields = new String[CSV_COLUMNS.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            int index = columnIndexes[i];
+            if (index >= 0 && index < values.size()) {
+                String value = values.get(index).trim();
+                // Export'un formül koruması için eklediği ' geri alınır
+                fields[i] = value.isEmpty() ? null : CsvFormulas.unescape(value);
+            }
+        }
+        try {
+            LocalDate assignDate = fields[2] == null ? null : LocalDate.parse(fields[2]);
+            return AssetImportRow.of(row, new Asset(null, fields[0], fields[1], assignDate, fields[3]));
+        } catch (DateTimeParseException ex) {
+            return AssetImportRow.invalid(row, "assignDate must be in yyyy-MM-dd format");
+        }
+    }
+
+    private static int[] csvColumnIndexes(List<String> header) {
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (CSV_COLUMNS.get(i).equalsIgnoreCase(header.get(j).trim())) {
+                    indexes[i] = j;
+                }
+            }
+        }
+        if (indexes[0] < 0 || indexes[1] < 0) {
+            throw new InvalidImportFileException("CSV header must contain name and serialNo columns");
+        }
+        return indexes;
+    }
+
+    // RFC 4180 tırnak kuralları (satır içinde newline desteklenmez)
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static BufferedReader reader(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static <T> Stream<T> stream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // Request body zaten tüketildi, kapatma hatası önemsiz
+        }
+    }
+}
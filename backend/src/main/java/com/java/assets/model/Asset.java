@@ -1,5 +1,6 @@
 package com.java.assets.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -7,15 +8,25 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "assets")
+@CompoundIndex(name = "assignDate_id", def = "{'assignDate': 1, '_id': 1}")
+@CompoundIndex(name = "category_name", def = "{'category': 1, 'name': 1}")
+@CompoundIndex(name = "category_assignDate", def = "{'category': 1, 'assignDate': -1}")
+// q= önek araması: küçük harfli kopyalar (AssetSearchKeys), modelde alan olarak yoklar
+@CompoundIndex(name = "nameLower", def = "{'nameLower': 1}")
+@CompoundIndex(name = "serialNoLower", def = "{'serialNoLower': 1}")
 public class Asset {
 
     @Id
@@ -23,14 +34,31 @@ public class Asset {
 
     @NotBlank(message = "Name cannot be empty")
     @Size(min = 2, max = 100, message = "Name must be between 2-100 characters")
+    @Indexed
+    @TextIndexed
     private String name;
 
     @NotBlank(message = "Serial number cannot be empty")
     @Indexed(unique = true)
+    @TextIndexed
     private String serialNo;
 
     @NotNull(message = "Assign date cannot be null")
     private LocalDate assignDate;
 
     private String category;
+
+    // Her yazmada artar (findAndSet $inc yapar), item ETag'i buradan üretilir
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    // Son yazma zamanı - /changes?since= sorgusu ve Last-Modified için
+    @Indexed
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
+    public Asset(String id, String name, String serialNo, LocalDate assignDate, String category) {
+        this(id, name, serialNo, assignDate, category, null, null);
+    }
 }
\ No newline at end of file
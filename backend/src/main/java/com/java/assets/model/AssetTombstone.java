@@ -0,0 +1,32 @@
+package com.java.assets.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Silinen asset'in izi: /changes?since= cevabında client'a "bunu sil" demek için tutulur.
+ * TTL index'i ile RETENTION sonra Mongo tarafından silinir; daha eski bir since ile gelen
+ * client'a fullResync döner.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "asset_tombstones")
+public class AssetTombstone {
+
+    public static final Duration RETENTION = Duration.ofDays(30);
+
+    // Silinen asset'in id'si
+    @Id
+    private String id;
+
+    @Indexed(expireAfter = "30d")
+    private Instant deletedAt;
+}
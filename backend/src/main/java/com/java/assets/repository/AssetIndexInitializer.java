@@ -0,0 +1,98 @@
+package com.java.assets.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import java.util.List;
+
+/**
+ * @Indexed / @CompoundIndex / @TextIndexed index'lerini spring.data.mongodb.auto-index-creation'ın
+ * kapsamadığı yerlerde oluşturur: fast-startup profili ve partition veritabanları. ensureIndex var olan
+ * index için no-op'tur.
+ *
+ * background=false: web server başlamadan önce oluşturulur, hata açılışı düşürür.
+ * background=true (fast-startup): uygulama hazır olduktan sonra arka planda oluşturulur. Duplicate kontrolü
+ * serialNo unique index'ine dayandığı için bitene kadar health DOWN döner; oluşturma başarısız olursa
+ * uygulama kapatılır.
+ */
+@Slf4j
+public class AssetIndexInitializer implements SmartInitializingSingleton,
+        ApplicationListener<ApplicationReadyEvent>, HealthIndicator {
+
+    private final List<MongoTemplate> mongoTemplates;
+    private final MongoMappingContext mappingContext;
+    private final boolean background;
+    private volatile boolean ready;
+
+    public AssetIndexInitializer(MongoTemplate mongoTemplate, MongoMappingContext mappingContext, boolean background) {
+        this(List.of(mongoTemplate), mappingContext, background);
+    }
+
+    public AssetIndexInitializer(List<MongoTemplate> mongoTemplates, MongoMappingContext mappingContext,
+                                 boolean background) {
+        this.mongoTemplates = List.copyOf(mongoTemplates);
+        this.mappingContext = mappingContext;
+        this.background = background;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!background) {
+            ensureIndexes();
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!background) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                ensureIndexes();
+            } catch (RuntimeException ex) {
+                log.error("Index creation failed, shutting down", ex);
+                System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 1));
+            }
+        }, "asset-index-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public Health health() {
+        return ready ? Health.up().build() : Health.down().withDetail("indexes", "pending").build();
+    }
+
+    void ensureIndexes() {
+        long start = System.nanoTime();
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+        int count = 0;
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+            for (MongoTemplate mongoTemplate : mongoTemplates) {
+                IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+                for (IndexDefinition index : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                    indexOps.ensureIndex(index);
+                    count++;
+                }
+            }
+        }
+        ready = true;
+        log.info("Ensured {} MongoDB indexes in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,54 @@
+package com.java.assets.repository;
+
+import com.java.assets.model.Asset;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+
+/**
+ * Sort'un bellekteki karşılığı, Mongo'nun sıralama kurallarıyla (null en küçük değer, bilinmeyen alan null).
+ * Veritabanı dışında sıralanan/birleştirilen sonuçlar için: gömülü store ve partition'lar arası merge.
+ */
+public final class AssetOrdering {
+
+    public static final Comparator<Asset> BY_ID = Comparator.comparing(Asset::getId);
+
+    private static final Comparator<Object> NULLS_FIRST = Comparator.nullsFirst(AssetOrdering::compare);
+
+    private AssetOrdering() {
+    }
+
+    /**
+     * Sort sırasına göre comparator; unsorted ise id sırası
+     */
+    public static Comparator<Asset> comparator(Sort sort) {
+        Comparator<Asset> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Asset> next = Comparator.comparing(asset -> property(asset, order.getProperty()), NULLS_FIRST);
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator == null ? BY_ID : comparator;
+    }
+
+    // Bilinmeyen alan Mongo'da olduğu gibi null sayılır
+    public static Object property(Asset asset, String name) {
+        return switch (name) {
+            case "id" -> asset.getId();
+            case "name" -> asset.getName();
+            case "serialNo" -> asset.getSerialNo();
+            case "assignDate" -> asset.getAssignDate();
+            case "category" -> asset.getCategory();
+            case "version" -> asset.getVersion();
+            case "lastModified" -> asset.getLastModified();
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object left, Object right) {
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+}
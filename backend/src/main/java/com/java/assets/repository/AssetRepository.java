@@ -2,22 +2,13 @@ package com.java.assets.repository;
 
 import com.java.assets.model.Asset;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
+/**
+ * AssetStore'un Mongo karşılığı: sorgular AssetStore'daki derived query'ler ve AssetRepositoryCustomImpl.
+ * AssetRepositoryCustom burada da doğrudan listelenir, Spring Data fragment'ı sadece doğrudan
+ * extend edilen arayüzlerde arar.
+ */
 @Repository
-public interface AssetRepository extends MongoRepository<Asset, String> {
-    
-    /**
-     * serialNo'ya göre asset bulma (unique kontrolü için)
-     */
-    Optional<Asset> findBySerialNo(String serialNo);
-    
-    /**
-     * Pagination için (4. endpoint - bonus)
-     */
-    Page<Asset> findAll(Pageable pageable);
+public interface AssetRepository extends MongoRepository<Asset, String>, AssetStore, AssetRepositoryCustom {
 }
@@ -0,0 +1,120 @@
+package com.java.assets.repository;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.mongodb.bulk.BulkWriteError;
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Derived query ile ifade edilemeyen dinamik sorgular (MongoTemplate ile)
+ */
+public interface AssetRepositoryCustom {
+
+    /**
+     * Koleksiyon metadata'sındaki doküman sayısı (countDocuments gibi taramaz).
+     * Temiz kapanmamış mongod'dan sonra kısa süre sapabilir; ETag gibi yaklaşık değerin yettiği yerler için.
+     */
+    long estimatedCount();
+
+    /**
+     * Paylaşılan koleksiyon yazma sayacını bir artırır (asset_counters, $inc).
+     * Her yazma / silme commit'inden sonra çağrılır; liste ETag'i tüm node'larda aynı sayaçtan üretilir.
+     */
+    void incrementWrites();
+
+    /**
+     * Paylaşılan yazma sayacının değeri (hiç yazma yoksa 0)
+     */
+    long countWrites();
+
+    /**
+     * Filtre + sıralama + sayfalama veritabanında yapılır, sadece fields içindeki alanlar okunur
+     */
+    Page<Asset> search(AssetSearchCriteria criteria, Pageable pageable, AssetFields fields);
+
+    /**
+     * search ile aynı filtreler, sayfalama olmadan cursor üzerinden akış (export için).
+     * Stream kullanıldıktan sonra kapatılmalı.
+     */
+    Stream<Asset> streamSearch(AssetSearchCriteria criteria, Sort sort, AssetFields fields);
+
+    /**
+     * Keyset pagination dilimi (findAllBy / findByIdGreaterThan / findAfterAssignDate ile aynı sorgular)
+     * projection ile; after null ise ilk dilim
+     */
+    List<Asset> findByCursor(AssetCursor after, boolean byAssignDate, Pageable pageable, AssetFields fields);
+
+    /**
+     * Unordered bulk insert: hatalı satırlar diğerlerini durdurmaz.
+     * Başarısız olan satırların hataları (liste içindeki index ile) döner.
+     */
+    List<BulkWriteError> insertUnordered(List<Asset> assets);
+
+    /**
+     * Tek findAndModify ile sadece verilen alanları $set eder ve version'ı bir artırır.
+     * Güncellemeden ÖNCEKİ dokümanı döner (sayaç farkları için), asset yoksa Optional.empty().
+     */
+    Optional<Asset> findAndSet(String id, Map<String, Object> fields);
+
+    /**
+     * Tek round trip'te siler ve silinen dokümanı döner, asset yoksa Optional.empty().
+     * Silme başarılıysa /changes için bir AssetTombstone yazılır.
+     */
+    Optional<Asset> findAndRemove(String id);
+
+    /**
+     * Filtreye uyan asset'lerin sadece id'leri (toplu işlemler için, _id projection)
+     */
+    List<String> findIds(AssetSearchCriteria criteria);
+
+    /**
+     * Verilen id'lerden veritabanında olanlar - tek $in sorgusu
+     */
+    List<String> findExistingIds(Collection<String> ids);
+
+    /**
+     * Tek updateMany: verilen alanlardan en az biri farklı olan asset'lere $set uygular,
+     * version'ı artırır ve lastModified'ı yazar. Değişen doküman sayısını döner.
+     */
+    long updateMany(Collection<String> ids, Map<String, Object> fields, Instant lastModified);
+
+    /**
+     * Tek deleteMany + tek bulk tombstone yazımı. Silinen doküman sayısını döner.
+     */
+    long deleteMany(Collection<String> ids);
+
+    /**
+     * Delta sync - since'ten sonra silinen asset'lerin tombstone'ları
+     */
+    List<AssetTombstone> findTombstonesSince(Instant since);
+
+    /**
+     * En son silme zamanı, hiç tombstone yoksa Optional.empty()
+     */
+    Optional<Instant> findLatestDeletion();
+
+    /**
+     * Dashboard istatistikleri - tek $facet aggregation (latestAsset dahil)
+     */
+    AssetStats aggregateStats(LocalDate today);
+
+    /**
+     * assignDate + category bazında sayılar (incremental sayaçları kurmak için)
+     */
+    List<AssetCountBucket> countByAssignDateAndCategory();
+}
@@ -0,0 +1,282 @@
+package com.java.assets.repository;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class AssetRepositoryCustomImpl implements AssetRepositoryCustom {
+
+    static final int STREAM_BATCH_SIZE = 500;
+
+    static final String COUNTERS_COLLECTION = "asset_counters";
+    private static final String WRITE_COUNTER_ID = "assets";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(Asset.class);
+    }
+
+    @Override
+    public void incrementWrites() {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(WRITE_COUNTER_ID)), new Update().inc("writes", 1),
+                COUNTERS_COLLECTION);
+    }
+
+    @Override
+    public long countWrites() {
+        Document counter = mongoTemplate.findById(WRITE_COUNTER_ID, Document.class, COUNTERS_COLLECTION);
+        return counter == null ? 0 : counter.get("writes", Number.class).longValue();
+    }
+
+    @Override
+    public Page<Asset> search(AssetSearchCriteria criteria, Pageable pageable, AssetFields fields) {
+        Query query = buildQuery(criteria);
+        List<Asset> content = mongoTemplate.find(project(Query.of(query).with(pageable), fields), Asset.class);
+        // Son sayfada ya da tek sayfada count sorgusu atlanır
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(query, Asset.class));
+    }
+
+    @Override
+    public Stream<Asset> streamSearch(AssetSearchCriteria criteria, Sort sort, AssetFields fields) {
+        Query query = buildQuery(criteria).with(sort).cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(project(query, fields), Asset.class);
+    }
+
+    @Override
+    public List<Asset> findByCursor(AssetCursor after, boolean byAssignDate, Pageable pageable, AssetFields fields) {
+        Query query = new Query();
+        if (after != null) {
+            query.addCriteria(byAssignDate
+                    ? new Criteria().orOperator(
+                            Criteria.where("assignDate").gt(after.getAssignDate()),
+                            Criteria.where("assignDate").is(after.getAssignDate()).and("id").gt(after.getId()))
+                    : Criteria.where("id").gt(after.getId()));
+        }
+        return mongoTemplate.find(project(query.with(pageable), fields), Asset.class);
+    }
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<Asset> assets) {
+        if (assets.isEmpty()) {
+            return List.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asset.class)
+                    .insert(assets)
+                    .execute();
+            return List.of();
+        } catch (BulkOperationException ex) {
+            return ex.getErrors();
+        }
+    }
+
+    @Override
+    public Optional<Asset> findAndSet(String id, Map<String, Object> fields) {
+        Update update = new Update();
+        fields.forEach(update::set);
+        AssetSearchKeys.set(update, fields);
+        // findAndModify @Version'ı kendisi artırmaz
+        update.inc("version", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                update,
+                FindAndModifyOptions.options().returnNew(false),
+                Asset.class));
+    }
+
+    @Override
+    public Optional<Asset> findAndRemove(String id) {
+        Asset removed = mongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), Asset.class);
+        if (removed != null) {
+            // save: aynı id tekrar silinirse (yeniden eklenip) deletedAt güncellenir
+            mongoTemplate.save(new AssetTombstone(id, Instant.now()));
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    @Override
+    public List<String> findIds(AssetSearchCriteria criteria) {
+        Query query = buildQuery(criteria).cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("id");
+        return mongoTemplate.find(query, Asset.class).stream()
+                .map(Asset::getId)
+                .toList();
+    }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        query.fields().include("id");
+        return mongoTemplate.find(query, Asset.class).stream()
+                .map(Asset::getId)
+                .toList();
+    }
+
+    @Override
+    public long updateMany(Collection<String> ids, Map<String, Object> fields, Instant lastModified) {
+        // Zaten aynı değerde olanlar eşleşmez: version/lastModified boşuna değişmez, delta sync'e girmez
+        List<Criteria> changed = fields.entrySet().stream()
+                .map(field -> Criteria.where(field.getKey()).ne(field.getValue()))
+                .toList();
+        Query query = Query.query(Criteria.where("id").in(ids).orOperator(changed));
+        Update update = new Update();
+        fields.forEach(update::set);
+        AssetSearchKeys.set(update, fields);
+        update.set("lastModified", lastModified);
+        update.inc("version", 1);
+        return mongoTemplate.updateMulti(query, update, Asset.class).getModifiedCount();
+    }
+
+    @Override
+    public long deleteMany(Collection<String> ids) {
+        long deleted = mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), Asset.class).getDeletedCount();
+        if (deleted > 0) {
+            // Upsert: aynı id daha önce silinmişse deletedAt güncellenir (findAndRemove'daki save gibi)
+            Instant now = Instant.now();
+            BulkOperations tombstones = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AssetTombstone.class);
+            for (String id : ids) {
+                tombstones.upsert(Query.query(Criteria.where("id").is(id)), Update.update("deletedAt", now));
+            }
+            tombstones.execute();
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<AssetTombstone> findTombstonesSince(Instant since) {
+        return mongoTemplate.find(
+                Query.query(Criteria.where("deletedAt").gte(since)).with(Sort.by("deletedAt")),
+                AssetTombstone.class);
+    }
+
+    @Override
+    public Optional<Instant> findLatestDeletion() {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "deletedAt")).limit(1);
+        return Optional.ofNullable(mongoTemplate.findOne(query, AssetTombstone.class))
+                .map(AssetTombstone::getDeletedAt);
+    }
+
+    @Override
+    public AssetStats aggregateStats(LocalDate today) {
+        LocalDate monthStart = today.withDayOfMonth(1);
+        FacetOperation facet = Aggregation.facet(Aggregation.count().as("count")).as("total")
+                .and(Aggregation.match(Criteria.where("assignDate").gte(monthStart).lt(monthStart.plusMonths(1))),
+                        Aggregation.count().as("count")).as("thisMonth")
+                .and(Aggregation.match(Criteria.where("assignDate").gte(today.minusDays(7))),
+                        Aggregation.count().as("count")).as("thisWeek")
+                .and(Aggregation.sort(Sort.by(Sort.Direction.DESC, "assignDate", "id")),
+                        Aggregation.limit(1)).as("latest")
+                .and(Aggregation.group("category").count().as("count")).as("byCategory");
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(Asset.class, facet), Document.class)
+                .getUniqueMappedResult();
+        AssetStats stats = new AssetStats(0, 0, 0, null, new TreeMap<>());
+        if (result == null) {
+            return stats;
+        }
+        stats.setTotal(firstCount(result, "total"));
+        stats.setAddedThisMonth(firstCount(result, "thisMonth"));
+        stats.setAddedThisWeek(firstCount(result, "thisWeek"));
+        List<Document> latest = result.getList("latest", Document.class);
+        if (!latest.isEmpty()) {
+            stats.setLatestAsset(mongoTemplate.getConverter().read(Asset.class, latest.get(0)));
+        }
+        for (Document bucket : result.getList("byCategory", Document.class)) {
+            String category = bucket.getString("_id");
+            stats.getByCategory().merge(category == null ? AssetStats.DEFAULT_CATEGORY : category,
+                    count(bucket), Long::sum);
+        }
+        return stats;
+    }
+
+    @Override
+    public List<AssetCountBucket> countByAssignDateAndCategory() {
+        return mongoTemplate.aggregate(
+                        Aggregation.newAggregation(Asset.class,
+                                Aggregation.group("assignDate", "category").count().as("count")),
+                        Document.class)
+                .getMappedResults().stream()
+                .map(doc -> {
+                    Document key = doc.get("_id", Document.class);
+                    Date assignDate = key.getDate("assignDate");
+                    return new AssetCountBucket(
+                            assignDate == null ? null : mongoTemplate.getConverter().getConversionService()
+                                    .convert(assignDate, LocalDate.class),
+                            key.getString("category"),
+                            count(doc));
+                })
+                .toList();
+    }
+
+    private static long firstCount(Document result, String facet) {
+        List<Document> counts = result.getList(facet, Document.class);
+        return counts.isEmpty() ? 0 : count(counts.get(0));
+    }
+
+    private static long count(Document document) {
+        return ((Number) document.get("count")).longValue();
+    }
+
+    // Sadece istenen alanlar okunur; tüm alanlarda projection eklenmez
+    static Query project(Query query, AssetFields fields) {
+        if (!fields.isAll()) {
+            fields.getNames().forEach(query.fields()::include);
+        }
+        return query;
+    }
+
+    static Query buildQuery(AssetSearchCriteria criteria) {
+        Query query = new Query();
+        if (criteria == null) {
+            return query;
+        }
+        if (StringUtils.hasText(criteria.getCategory())) {
+            query.addCriteria(Criteria.where("category").is(criteria.getCategory()));
+        }
+        if (StringUtils.hasText(criteria.getQ())) {
+            String term = criteria.getQ().trim();
+            if (criteria.isFullText()) {
+                query.addCriteria(TextCriteria.forDefaultLanguage().matching(term));
+            } else {
+                query.addCriteria(AssetSearchKeys.startsWith(term));
+            }
+        }
+        return query;
+    }
+}
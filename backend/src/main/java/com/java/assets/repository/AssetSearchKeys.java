@@ -0,0 +1,123 @@
+package com.java.assets.repository;
+
+import com.java.assets.model.Asset;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * q= önek araması için name / serialNo'nun küçük harfli kopyaları (nameLower, serialNoLower).
+ * "i" flag'li regex index bound'larını daraltamaz (tüm index taranır); küçük harfli kopyada case-sensitive
+ * ^önek regex'i index'te aralık taramasıdır.
+ *
+ * Insert'lerde BeforeSaveCallback ile, $set'lerde set ile yazılır. Kopyalardan önce yazılmış asset'ler
+ * açılıştan sonra arka planda doldurulur; o zamana kadar önek aramasında çıkmazlar.
+ */
+@Slf4j
+public class AssetSearchKeys implements BeforeSaveCallback<Asset>, ApplicationListener<ApplicationReadyEvent> {
+
+    public static final String NAME = "nameLower";
+    public static final String SERIAL_NO = "serialNoLower";
+    private static final int FILL_BATCH_SIZE = 1000;
+
+    // Callback olarak MongoTemplate'ten (converter'dan) önce oluşturulur: template'ler doldurma anında alınır
+    private final Supplier<List<MongoTemplate>> mongoTemplates;
+
+    public AssetSearchKeys(Supplier<List<MongoTemplate>> mongoTemplates) {
+        this.mongoTemplates = mongoTemplates;
+    }
+
+    public static String of(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * name ya da serialNo'su term ile başlayan asset'ler (büyük / küçük harf farkı gözetmeden)
+     */
+    public static Criteria startsWith(String term) {
+        String prefix = "^" + Pattern.quote(of(term));
+        return new Criteria().orOperator(Criteria.where(NAME).regex(prefix), Criteria.where(SERIAL_NO).regex(prefix));
+    }
+
+    /**
+     * $set edilen name / serialNo'nun kopyaları da aynı update'te yazılır
+     */
+    public static void set(Update update, Map<String, Object> fields) {
+        if (fields.containsKey("name")) {
+            update.set(NAME, of((String) fields.get("name")));
+        }
+        if (fields.containsKey("serialNo")) {
+            update.set(SERIAL_NO, of((String) fields.get("serialNo")));
+        }
+    }
+
+    @Override
+    public Asset onBeforeSave(Asset asset, Document document, String collection) {
+        document.put(NAME, of(asset.getName()));
+        document.put(SERIAL_NO, of(asset.getSerialNo()));
+        return asset;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Thread thread = new Thread(() -> {
+            try {
+                long start = System.nanoTime();
+                long filled = 0;
+                for (MongoTemplate mongoTemplate : mongoTemplates.get()) {
+                    filled += fill(mongoTemplate);
+                }
+                if (filled > 0) {
+                    log.info("Filled search keys of {} assets in {} ms", filled,
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            } catch (RuntimeException ex) {
+                log.error("Filling search keys failed", ex);
+            }
+        }, "asset-search-keys");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Kopyası olmayan asset'ler; okunduktan sonra adı / serial'ı değişmişse o yazma kopyayı zaten yazmıştır
+    static long fill(MongoTemplate mongoTemplate) {
+        Query query = Query.query(Criteria.where(NAME).exists(false)).cursorBatchSize(FILL_BATCH_SIZE);
+        query.fields().include("id", "name", "serialNo");
+        long filled = 0;
+        try (Stream<Asset> assets = mongoTemplate.stream(query, Asset.class)) {
+            BulkOperations bulk = null;
+            int pending = 0;
+            for (Iterator<Asset> it = assets.iterator(); it.hasNext(); ) {
+                Asset asset = it.next();
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Asset.class);
+                }
+                bulk.updateOne(Query.query(Criteria.where("id").is(asset.getId())
+                                .and("name").is(asset.getName())
+                                .and("serialNo").is(asset.getSerialNo())),
+                        Update.update(NAME, of(asset.getName())).set(SERIAL_NO, of(asset.getSerialNo())));
+                if (++pending == FILL_BATCH_SIZE || !it.hasNext()) {
+                    filled += bulk.execute().getModifiedCount();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,106 @@
+package com.java.assets.repository;
+
+import com.java.assets.model.Asset;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Uygulamanın asset'ler üzerinde kullandığı işlemler. Mongo'da AssetRepository (Spring Data) tarafından
+ * karşılanır; gömülü store ve partition katmanı da bunu uygular (MongoRepository'nin geri kalanı,
+ * ör. query by example, gerekmez).
+ */
+public interface AssetStore extends AssetRepositoryCustom {
+
+    <S extends Asset> S insert(S entity);
+
+    Optional<Asset> findById(String id);
+
+    boolean existsById(String id);
+
+    List<Asset> findAllById(Iterable<String> ids);
+
+    List<Asset> findAll();
+
+    List<Asset> findAll(Sort sort);
+
+    long count();
+
+    /**
+     * version'lı entity sadece aynı version'daysa silinir (yoksa OptimisticLockingFailureException)
+     */
+    void delete(Asset entity);
+
+    void deleteById(String id);
+
+    void deleteAll();
+
+    /**
+     * serialNo'ya göre asset bulma (unique kontrolü için)
+     */
+    Optional<Asset> findBySerialNo(String serialNo);
+
+    /**
+     * Pagination için (4. endpoint - bonus)
+     */
+    Page<Asset> findAll(Pageable pageable);
+
+    /**
+     * Cursor pagination ilk sayfası (count sorgusu çalıştırmaz)
+     */
+    List<Asset> findAllBy(Pageable pageable);
+
+    /**
+     * Cursor pagination - _id sıralamasında son id'den sonrası
+     */
+    List<Asset> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * Cursor pagination - assignDate + _id sıralamasında son anahtardan sonrası
+     */
+    @Query("{ '$or': [ { 'assignDate': { '$gt': ?0 } }, { 'assignDate': ?0, '_id': { '$gt': ?1 } } ] }")
+    List<Asset> findAfterAssignDate(LocalDate assignDate, String id, Pageable pageable);
+
+    /**
+     * Verilen serialNo'lardan mevcut olanlar (bulk import duplicate kontrolü, tek $in sorgusu)
+     */
+    @Query(value = "{ 'serialNo': { '$in': ?0 } }", fields = "{ 'serialNo': 1 }")
+    List<Asset> findSerialNosIn(Collection<String> serialNos);
+
+    /**
+     * Tüm koleksiyonun id + serialNo'su (SerialNoIndex kurulumu, streaming)
+     */
+    @Query(value = "{}", fields = "{ 'serialNo': 1 }")
+    Stream<Asset> streamSerialNos();
+
+    /**
+     * En son atanan asset ({assignDate, _id} index'i üzerinden)
+     */
+    Optional<Asset> findFirstByOrderByAssignDateDescIdDesc();
+
+    /**
+     * Delta sync - since'ten sonra eklenen/güncellenen asset'ler (lastModified index'i üzerinden)
+     */
+    List<Asset> findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(Instant since);
+
+    /**
+     * En son yazılan asset - koleksiyon ETag'i için
+     */
+    Optional<Asset> findFirstByOrderByLastModifiedDesc();
+
+    /**
+     * Tüm asset'leri Mongo cursor üzerinden akış olarak döner (NDJSON export için).
+     * Stream kullanıldıktan sonra kapatılmalı, yoksa cursor açık kalır.
+     */
+    @Meta(cursorBatchSize = 500)
+    Stream<Asset> streamAllBy();
+}
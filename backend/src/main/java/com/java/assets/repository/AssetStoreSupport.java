@@ -0,0 +1,78 @@
+package com.java.assets.repository;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.model.Asset;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Mongo'suz AssetStore'ların (gömülü store, partition katmanı) Mongo'nun yazma davranışını ve hatalarını
+ * taklit eden ortak parçaları.
+ */
+public final class AssetStoreSupport {
+
+    // Mongo duplicate key hata kodu (AssetCreateBatcher bunu DuplicateKeyException'a çevirir)
+    public static final int DUPLICATE_KEY_CODE = 11000;
+
+    private AssetStoreSupport() {
+    }
+
+    /**
+     * Mongo sürücüsünün E11000 mesajıyla aynı kalıpta DuplicateKeyException
+     */
+    public static DuplicateKeyException duplicateKey(String collection, String index, String key, Object value) {
+        return new DuplicateKeyException("E11000 duplicate key error collection: " + collection + " index: " + index
+                + " dup key: { " + key + ": \"" + value + "\" }");
+    }
+
+    /**
+     * insertUnordered sonucundaki karşılığı: batch içindeki index ile 11000 kodlu hata
+     */
+    public static BulkWriteError duplicateKeyError(DuplicateKeyException ex, int index) {
+        return new BulkWriteError(DUPLICATE_KEY_CODE, ex.getMessage(), new BsonDocument(), index);
+    }
+
+    /**
+     * $set + $inc version karşılığı; current değiştirilmez
+     */
+    public static Asset applyFields(Asset current, Map<String, Object> fields) {
+        Asset updated = copy(current);
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(updated);
+        fields.forEach(wrapper::setPropertyValue);
+        updated.setVersion(current.getVersion() == null ? 1 : current.getVersion() + 1);
+        return updated;
+    }
+
+    /**
+     * Saklanan nesneler dışarı verilmez: Mongo gibi her okuma yeni bir nesne döner
+     */
+    public static Asset copy(Asset asset) {
+        return new Asset(asset.getId(), asset.getName(), asset.getSerialNo(), asset.getAssignDate(),
+                asset.getCategory(), asset.getVersion(), asset.getLastModified());
+    }
+
+    /**
+     * Aynı assignDate + category'deki bucket'ların toplamı ($group karşılığı)
+     */
+    public static List<AssetCountBucket> sumBuckets(Stream<AssetCountBucket> buckets) {
+        Map<Bucket, Long> counts = new LinkedHashMap<>();
+        buckets.forEach(bucket -> counts.merge(new Bucket(bucket.getAssignDate(), bucket.getCategory()),
+                bucket.getCount(), Long::sum));
+        return counts.entrySet().stream()
+                .map(bucket -> new AssetCountBucket(bucket.getKey().assignDate(), bucket.getKey().category(),
+                        bucket.getValue()))
+                .toList();
+    }
+
+    private record Bucket(LocalDate assignDate, String category) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.java.assets.repository.memory;
+
+import com.java.assets.model.Asset;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+/**
+ * Write log ve snapshot'ta ortak kayıt formatı:
+ * [int uzunluk][int crc32][byte tip][payload], uzunluk ve crc tip + payload üzerinden.
+ *
+ * Kayıtlar tam durum taşır (PUT: asset'in tamamı, DELETE: id), bu yüzden tekrar uygulanmaları
+ * sonucu değiştirmez; snapshot yazılırken gelen yazmalar log'dan tekrar oynatılarak düzeltilir.
+ */
+final class AssetRecords {
+
+    static final byte PUT = 1;
+    // deletedAt null değilse /changes için tombstone da bırakır
+    static final byte DELETE = 2;
+    static final byte CLEAR = 3;
+
+    static final int FRAME_HEADER = Integer.BYTES * 2;
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    // Mapped buffer'dan string okurken ara kopya; recovery'de kayıt başına 4 geçici dizi ayrılmasın
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private AssetRecords() {
+    }
+
+    /**
+     * Okunan kayıtların uygulandığı hedef (recovery sırasında repository)
+     */
+    interface Visitor {
+
+        void put(Asset asset);
+
+        void delete(String id, Instant deletedAt);
+
+        void clear();
+    }
+
+    static byte[] put(Asset asset) {
+        byte[] id = utf8(asset.getId());
+        byte[] name = utf8(asset.getName());
+        byte[] serialNo = utf8(asset.getSerialNo());
+        byte[] category = utf8(asset.getCategory());
+        int payload = stringSize(id) + stringSize(name) + stringSize(serialNo) + Long.BYTES
+                + stringSize(category) + Long.BYTES + instantSize();
+        ByteBuffer buffer = frame(PUT, payload);
+        putString(buffer, id);
+        putString(buffer, name);
+        putString(buffer, serialNo);
+        buffer.putLong(asset.getAssignDate() == null ? NULL_LONG : asset.getAssignDate().toEpochDay());
+        putString(buffer, category);
+        buffer.putLong(asset.getVersion() == null ? NULL_LONG : asset.getVersion());
+        putInstant(buffer, asset.getLastModified());
+        return seal(buffer);
+    }
+
+    static byte[] delete(String id, Instant deletedAt) {
+        byte[] idBytes = utf8(id);
+        ByteBuffer buffer = frame(DELETE, stringSize(idBytes) + instantSize());
+        putString(buffer, idBytes);
+        putInstant(buffer, deletedAt);
+        return seal(buffer);
+    }
+
+    static byte[] clear() {
+        return seal(frame(CLEAR, 0));
+    }
+
+    /**
+     * buffer'ın konumundaki kaydı okuyup visitor'a uygular.
+     * false: kayıt yarım ya da bozuk (crash sırasında yarıda kalmış son yazma), okuma burada durmalı
+     */
+    static boolean read(ByteBuffer buffer, Visitor visitor) {
+        if (buffer.remaining() < FRAME_HEADER) {
+            return false;
+        }
+        int length = buffer.getInt();
+        int crc = buffer.getInt();
+        if (length < 1 || length > buffer.remaining()) {
+            return false;
+        }
+        ByteBuffer body = buffer.slice(buffer.position(), length);
+        CRC32 checksum = new CRC32();
+        checksum.update(body.duplicate());
+        if ((int) checksum.getValue() != crc) {
+            return false;
+        }
+        buffer.position(buffer.position() + length);
+        try {
+            switch (body.get()) {
+                case PUT -> visitor.put(readAsset(body));
+                case DELETE -> visitor.delete(getString(body), getInstant(body));
+                case CLEAR -> visitor.clear();
+                default -> {
+                    return false;
+                }
+            }
+        } catch (BufferUnderflowException ex) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * buffer'da bir sonraki kaydın tamamı var mı; yoksa kaç byte gerektiği (okumadan)
+     */
+    static int sizeOfNext(ByteBuffer buffer) {
+        if (buffer.remaining() < FRAME_HEADER) {
+            return FRAME_HEADER;
+        }
+        return FRAME_HEADER + Math.max(0, buffer.getInt(buffer.position()));
+    }
+
+    private static Asset readAsset(ByteBuffer body) {
+        String id = getString(body);
+        String name = getString(body);
+        String serialNo = getString(body);
+        long assignDate = body.getLong();
+        String category = getString(body);
+        long version = body.getLong();
+        Instant lastModified = getInstant(body);
+        return new Asset(id, name, serialNo, assignDate == NULL_LONG ? null : LocalDate.ofEpochDay(assignDate),
+                category, version == NULL_LONG ? null : version, lastModified);
+    }
+
+    private static ByteBuffer frame(byte type, int payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(FRAME_HEADER + 1 + payload);
+        buffer.position(FRAME_HEADER);
+        buffer.put(type);
+        return buffer;
+    }
+
+    private static byte[] seal(ByteBuffer buffer) {
+        int length = buffer.position() - FRAME_HEADER;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), FRAME_HEADER, length);
+        buffer.putInt(0, length);
+        buffer.putInt(Integer.BYTES, (int) checksum.getValue());
+        return buffer.array();
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static int instantSize() {
+        return Long.BYTES + Integer.BYTES;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+            SCRATCH.set(scratch);
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static void putInstant(ByteBuffer buffer, Instant value) {
+        buffer.putLong(value == null ? NULL_LONG : value.getEpochSecond());
+        buffer.putInt(value == null ? 0 : value.getNano());
+    }
+
+    private static Instant getInstant(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == NULL_LONG ? null : Instant.ofEpochSecond(seconds, nanos);
+    }
+}
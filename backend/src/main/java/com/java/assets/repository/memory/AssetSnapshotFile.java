@@ -0,0 +1,134 @@
+package com.java.assets.repository.memory;
+
+import com.java.assets.model.Asset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Store'un sıkıştırılmış tam kopyası: asset başına bir PUT, tombstone başına bir DELETE kaydı.
+ * Memory-mapped pencerelerle yazılır/okunur. Önce .tmp dosyasına yazılıp force edilir, sonra
+ * atomic rename ile yerine konur; yarım kalmış bir snapshot hiçbir zaman okunmaz.
+ *
+ * Header: magic, format, nextGeneration (bu snapshot'tan sonra oynatılacak ilk write log), kayıtların bittiği offset.
+ */
+final class AssetSnapshotFile {
+
+    static final String FILE_NAME = "assets.snapshot";
+
+    private static final int MAGIC = 0x41534E50; // "ASNP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+
+    private AssetSnapshotFile() {
+    }
+
+    /**
+     * Snapshot'ı yazar, yazılan byte sayısını döner
+     */
+    static long write(Path directory, long nextGeneration, Iterable<Asset> assets, Map<String, Instant> tombstones)
+            throws IOException {
+        Path target = directory.resolve(FILE_NAME);
+        Path temp = directory.resolve(FILE_NAME + ".tmp");
+        long end;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedRecordWriter writer = new MappedRecordWriter(channel, HEADER_SIZE);
+            for (Asset asset : assets) {
+                writer.write(AssetRecords.put(asset));
+            }
+            for (Map.Entry<String, Instant> tombstone : tombstones.entrySet()) {
+                writer.write(AssetRecords.delete(tombstone.getKey(), tombstone.getValue()));
+            }
+            end = writer.finish();
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(nextGeneration).putLong(end);
+            header.force();
+            // Son pencere dosyayı büyütmüş olabilir; okuma header'daki end'de durduğu için kesilemezse sorun değil
+            try {
+                channel.truncate(end);
+            } catch (IOException ignored) {
+                // Windows: map edilmiş dosya kesilemez
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return end;
+    }
+
+    /**
+     * Snapshot'ı visitor'a uygular ve nextGeneration'ı döner; snapshot yoksa 1
+     */
+    static long read(Path directory, AssetRecords.Visitor visitor) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return 1;
+        }
+        long nextGeneration;
+        long end;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Invalid asset snapshot: " + file);
+            }
+            nextGeneration = header.getLong();
+            end = header.getLong();
+            if (end < HEADER_SIZE || end > channel.size()) {
+                throw new IOException("Invalid asset snapshot: " + file);
+            }
+        }
+        try (MappedRecordReader reader = new MappedRecordReader(file, HEADER_SIZE, end)) {
+            reader.readAll(visitor);
+            // Snapshot atomic rename ile yazıldığı için yarım kayıt disk hatası demektir
+            if (reader.position() != end) {
+                throw new IOException("Corrupt asset snapshot " + file + " at offset " + reader.position());
+            }
+        }
+        return nextGeneration;
+    }
+
+    /**
+     * Kayıtları sırayla map edilmiş pencerelere yazar; pencere dolunca kaldığı yerden yenisi map edilir
+     */
+    private static final class MappedRecordWriter {
+
+        private final FileChannel channel;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        MappedRecordWriter(FileChannel channel, long start) throws IOException {
+            this.channel = channel;
+            map(start, 0);
+        }
+
+        void write(byte[] record) throws IOException {
+            if (window.remaining() < record.length) {
+                window.force();
+                map(windowStart + window.position(), record.length);
+            }
+            window.put(record);
+        }
+
+        long finish() {
+            window.force();
+            return windowStart + window.position();
+        }
+
+        private void map(long start, int minSize) throws IOException {
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_WRITE, start,
+                    Math.max(MappedRecordReader.WINDOW_SIZE, minSize));
+        }
+    }
+}
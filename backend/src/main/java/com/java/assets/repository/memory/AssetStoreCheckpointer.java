@@ -0,0 +1,88 @@
+package com.java.assets.repository.memory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryAssetRepository'nin arka plan işleri: her syncInterval'da write log'u diske indirir,
+ * her snapshotInterval'da snapshot alıp eski log'ları siler (açılışta oynatılacak log kısa kalır).
+ * Kapanışta son bir snapshot alınır, bir sonraki açılış log oynatmadan sadece snapshot'ı okur.
+ */
+@Slf4j
+public class AssetStoreCheckpointer implements SmartLifecycle {
+
+    private final InMemoryAssetRepository repository;
+    private final Duration syncInterval;
+    private final Duration snapshotInterval;
+
+    private ScheduledExecutorService executor;
+
+    public AssetStoreCheckpointer(InMemoryAssetRepository repository, Duration syncInterval,
+                                  Duration snapshotInterval) {
+        this.repository = repository;
+        this.syncInterval = syncInterval;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "asset-store-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sync, syncInterval.toMillis(), syncInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::checkpoint, snapshotInterval.toMillis(), snapshotInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+        checkpoint();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    // Create batcher'dan da sonra durur: kapanışta yazılan son create'ler de snapshot'a girsin
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    void sync() {
+        try {
+            repository.sync();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Asset store log sync failed", ex);
+        }
+    }
+
+    void checkpoint() {
+        try {
+            repository.checkpoint();
+        } catch (IOException | RuntimeException ex) {
+            // Log'lar silinmedi, veri kaybı yok; bir sonraki turda tekrar denenir
+            log.warn("Asset store snapshot failed, retrying in {}", snapshotInterval, ex);
+        }
+    }
+}
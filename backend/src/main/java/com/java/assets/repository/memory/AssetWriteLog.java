@@ -0,0 +1,130 @@
+package com.java.assets.repository.memory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only write log: her yazma, bellekteki yapılara uygulanmadan önce buraya eklenir.
+ * Dosyalar generation numarasıyla adlanır (assets-00000000000000000001.wal); her snapshot'ta
+ * yeni generation'a geçilir ve snapshot'ın kapsadığı eski dosyalar silinir.
+ *
+ * Thread-safe değildir, InMemoryAssetRepository'nin yazma lock'u altında kullanılır.
+ */
+@Slf4j
+final class AssetWriteLog implements AutoCloseable {
+
+    private static final Pattern FILE_NAME = Pattern.compile("assets-(\\d{20})\\.wal");
+    private static final int MAGIC = 0x4157414C; // "AWAL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private final long generation;
+    private final FileChannel channel;
+    private final boolean syncWrites;
+
+    private AssetWriteLog(long generation, FileChannel channel, boolean syncWrites) {
+        this.generation = generation;
+        this.channel = channel;
+        this.syncWrites = syncWrites;
+    }
+
+    static AssetWriteLog create(Path directory, long generation, boolean syncWrites) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(generation)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+        return new AssetWriteLog(generation, channel, syncWrites);
+    }
+
+    /**
+     * Dizindeki log dosyaları generation sırasıyla
+     */
+    static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(AssetWriteLog::generationOf))
+                    .toList();
+        }
+    }
+
+    static long generationOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a write log file: " + file);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * Log'daki kayıtları uygular. Sondaki yarım kayıt (yazılırken crash) atlanır ve loglanır
+     */
+    static long replay(Path file, AssetRecords.Visitor visitor) throws IOException {
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                log.warn("Write log {} has no valid header, skipping", file);
+                return 0;
+            }
+        }
+        if (size == HEADER_SIZE) {
+            return 0;
+        }
+        try (MappedRecordReader reader = new MappedRecordReader(file, HEADER_SIZE, size)) {
+            long count = reader.readAll(visitor);
+            if (reader.position() < size) {
+                log.warn("Write log {} has a torn or corrupt record at offset {}, ignoring the last {} bytes",
+                        file, reader.position(), size - reader.position());
+            }
+            return count;
+        }
+    }
+
+    void append(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (syncWrites) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Yazılanları diske indirir (syncWrites=false iken periyodik çağrılır)
+     */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+
+    private static String fileName(long generation) {
+        return String.format("assets-%020d.wal", generation);
+    }
+}
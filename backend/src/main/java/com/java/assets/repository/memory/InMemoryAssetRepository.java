@@ -0,0 +1,761 @@
+package com.java.assets.repository.memory;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import com.java.assets.repository.AssetOrdering;
+import com.java.assets.repository.AssetSearchKeys;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.repository.AssetStoreSupport;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mongo'suz çalışan AssetStore (memory profili): asset'ler bellekte, kalıcılık
+ * append-only write log + periyodik memory-mapped snapshot ile.
+ *
+ * Index'ler: id (sıralı, keyset pagination), serialNo (unique), category, {assignDate, id}, {lastModified, id}.
+ * Okumalar lock'suzdur; yazmalar tek bir lock altında önce log'a eklenir, sonra index'lere uygulanır.
+ * Duplicate serialNo / id Mongo'daki gibi DuplicateKeyException (insertUnordered'da 11000 kodlu BulkWriteError) olur.
+ *
+ * Fark: full-text arama kelime eşleşmesidir (stemming/stop word yok).
+ */
+@Slf4j
+public class InMemoryAssetRepository implements AssetStore, Closeable {
+
+    // Mongo'da null en küçük değerdir; index anahtarları buna uyar
+    private static final Comparator<Asset> BY_ASSIGN_DATE = Comparator
+            .comparing(Asset::getAssignDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(AssetOrdering.BY_ID);
+    private static final Comparator<Asset> BY_LAST_MODIFIED = Comparator
+            .comparing(Asset::getLastModified, Comparator.nullsFirst(Comparator.<Instant>naturalOrder()))
+            .thenComparing(AssetOrdering.BY_ID);
+    // Map'ler null anahtar kabul etmez
+    private static final String NO_CATEGORY = "\u0000";
+
+    private final ConcurrentSkipListMap<String, Asset> byId = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, String> idBySerialNo;
+    private final ConcurrentHashMap<String, Set<String>> idsByCategory = new ConcurrentHashMap<>();
+    // Sıralı index'ler asset'in kendisini tutar: ayrı anahtar nesnesi yok, aralık taramasında byId'ye dönülmez.
+    // Saklanan asset'ler hiç değiştirilmez (her yazma yeni nesne), bu yüzden sıralama anahtarları sabittir
+    private final ConcurrentSkipListSet<Asset> byAssignDate = new ConcurrentSkipListSet<>(BY_ASSIGN_DATE);
+    private final ConcurrentSkipListSet<Asset> byLastModified = new ConcurrentSkipListSet<>(BY_LAST_MODIFIED);
+    private final ConcurrentHashMap<String, Instant> tombstones = new ConcurrentHashMap<>();
+    // Koleksiyon yazma sayacı (liste ETag'i); bellekteki store tek node'dur, kalıcı olması gerekmez
+    private final AtomicLong writes = new AtomicLong();
+
+    // synchronized yerine ReentrantLock: virtual thread'ler beklerken carrier thread pin'lenmez
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    private final Path directory;
+    private final boolean syncWrites;
+    // writeLock altında; directory null ise (sadece bellek) null
+    private AssetWriteLog writeLog;
+
+    private InMemoryAssetRepository(Path directory, boolean syncWrites, int expectedSize) {
+        this.directory = directory;
+        this.syncWrites = syncWrites;
+        // Recovery'de yüklenecek kadar yer baştan ayrılır, büyürken tabloyu tekrar tekrar kopyalamasın
+        this.idBySerialNo = new ConcurrentHashMap<>(Math.max(16, expectedSize));
+    }
+
+    /**
+     * Kalıcılığı olmayan store (testler, geçici ortamlar)
+     */
+    public static InMemoryAssetRepository transientStore() {
+        return new InMemoryAssetRepository(null, false, 0);
+    }
+
+    /**
+     * directory'deki snapshot'ı yükler, sonrasındaki write log'ları oynatır ve yeni bir log açar.
+     * syncWrites=true: her yazma diske indirilmeden dönmez; false: log periyodik olarak sync()'lenir
+     */
+    public static InMemoryAssetRepository open(Path directory, boolean syncWrites) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(AssetSnapshotFile.FILE_NAME + ".tmp"));
+        Replay replay = new Replay();
+
+        long nextGeneration = AssetSnapshotFile.read(directory, replay);
+        long lastGeneration = nextGeneration - 1;
+        long replayed = 0;
+        for (Path file : AssetWriteLog.list(directory)) {
+            long generation = AssetWriteLog.generationOf(file);
+            if (generation < nextGeneration) {
+                // Snapshot yazılıp eski log'lar silinmeden önce kapanmış
+                Files.delete(file);
+                continue;
+            }
+            replayed += AssetWriteLog.replay(file, replay);
+            lastGeneration = generation;
+        }
+        InMemoryAssetRepository repository = new InMemoryAssetRepository(directory, syncWrites, replay.assets.size());
+        repository.load(replay.assets.values());
+        repository.tombstones.putAll(replay.tombstones);
+        repository.writeLog = AssetWriteLog.create(directory, lastGeneration + 1, syncWrites);
+        log.info("Asset store recovered from {} - {} assets, {} log records replayed, {} ms", directory,
+                repository.byId.size(), replayed, (System.nanoTime() - start) / 1_000_000);
+        return repository;
+    }
+
+    /**
+     * Yeni log generation'ına geçer, store'un snapshot'ını yazar ve artık gerekmeyen log'ları siler.
+     * Snapshot yazılırken yazmalar devam eder; o sırada yazılanlar yeni log'da olduğu için recovery'de tekrar uygulanır.
+     */
+    public void checkpoint() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        checkpointLock.lock();
+        try {
+            long start = System.nanoTime();
+            long nextGeneration;
+            writeLock.lock();
+            try {
+                AssetWriteLog previous = writeLog;
+                nextGeneration = previous.generation() + 1;
+                writeLog = AssetWriteLog.create(directory, nextGeneration, syncWrites);
+                previous.close();
+            } finally {
+                writeLock.unlock();
+            }
+            // Mongo'daki TTL index'inin karşılığı
+            Instant expired = Instant.now().minus(AssetTombstone.RETENTION);
+            tombstones.values().removeIf(deletedAt -> deletedAt.isBefore(expired));
+
+            long bytes = AssetSnapshotFile.write(directory, nextGeneration, byId.values(), tombstones);
+            for (Path file : AssetWriteLog.list(directory)) {
+                if (AssetWriteLog.generationOf(file) < nextGeneration) {
+                    Files.delete(file);
+                }
+            }
+            log.info("Asset store snapshot written - {} assets, {} KB, {} ms", byId.size(), bytes / 1024,
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * syncWrites=false iken son yazmaları diske indirir
+     */
+    public void sync() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            writeLog.force();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            writeLog.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Asset> S insert(S entity) {
+        writeLock.lock();
+        try {
+            if (entity.getId() == null) {
+                entity.setId(new ObjectId().toHexString());
+            } else if (byId.containsKey(entity.getId())) {
+                throw duplicateKey("_id", entity.getId());
+            }
+            checkSerialNo(entity.getSerialNo(), entity.getId());
+            if (entity.getVersion() == null) {
+                entity.setVersion(0L);
+            }
+            write(AssetStoreSupport.copy(entity));
+            return entity;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<Asset> assets) {
+        List<BulkWriteError> errors = new ArrayList<>();
+        for (int i = 0; i < assets.size(); i++) {
+            try {
+                insert(assets.get(i));
+            } catch (DuplicateKeyException ex) {
+                errors.add(AssetStoreSupport.duplicateKeyError(ex, i));
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public Optional<Asset> findAndSet(String id, Map<String, Object> fields) {
+        writeLock.lock();
+        try {
+            Asset previous = byId.get(id);
+            if (previous == null) {
+                return Optional.empty();
+            }
+            Asset updated = AssetStoreSupport.applyFields(previous, fields);
+            checkSerialNo(updated.getSerialNo(), id);
+            write(updated);
+            return Optional.of(AssetStoreSupport.copy(previous));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long updateMany(Collection<String> ids, Map<String, Object> fields, Instant lastModified) {
+        writeLock.lock();
+        try {
+            List<Asset> changed = new ArrayList<>();
+            for (String id : new HashSet<>(ids)) {
+                Asset current = byId.get(id);
+                // Zaten aynı değerde olanlar değişmez (Mongo tarafındaki $ne filtresi gibi)
+                if (current != null && fields.entrySet().stream().anyMatch(field ->
+                        !Objects.equals(AssetOrdering.property(current, field.getKey()), field.getValue()))) {
+                    Asset updated = AssetStoreSupport.applyFields(current, fields);
+                    updated.setLastModified(lastModified);
+                    changed.add(updated);
+                }
+            }
+            if (fields.containsKey("serialNo") && !changed.isEmpty()) {
+                if (changed.size() > 1) {
+                    throw duplicateKey("serialNo", fields.get("serialNo"));
+                }
+                checkSerialNo(changed.get(0).getSerialNo(), changed.get(0).getId());
+            }
+            changed.forEach(this::write);
+            return changed.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Asset> findAndRemove(String id) {
+        writeLock.lock();
+        try {
+            Asset removed = byId.get(id);
+            if (removed == null) {
+                return Optional.empty();
+            }
+            remove(id, Instant.now());
+            return Optional.of(AssetStoreSupport.copy(removed));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long deleteMany(Collection<String> ids) {
+        writeLock.lock();
+        try {
+            long deleted = ids.stream().distinct().filter(byId::containsKey).count();
+            if (deleted > 0) {
+                // Mongo tarafı gibi istenen tüm id'lere tombstone yazılır
+                Instant now = Instant.now();
+                ids.stream().distinct().forEach(id -> remove(id, now));
+            }
+            return deleted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        writeLock.lock();
+        try {
+            if (byId.containsKey(id)) {
+                remove(id, null);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Asset entity) {
+        if (entity.getVersion() == null) {
+            deleteById(entity.getId());
+            return;
+        }
+        // SimpleMongoRepository gibi: version'lı entity sadece aynı version'daysa silinir
+        writeLock.lock();
+        try {
+            Asset current = byId.get(entity.getId());
+            if (current == null || !entity.getVersion().equals(current.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                        "Cannot delete asset " + entity.getId() + " with version " + entity.getVersion());
+            }
+            remove(entity.getId(), null);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            append(AssetRecords.clear());
+            clearIndexes();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Asset> findById(String id) {
+        return Optional.ofNullable(byId.get(id)).map(AssetStoreSupport::copy);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return byId.containsKey(id);
+    }
+
+    @Override
+    public List<Asset> findAll() {
+        return byId.values().stream().map(AssetStoreSupport::copy).toList();
+    }
+
+    @Override
+    public List<Asset> findAllById(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(AssetStoreSupport::copy)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return byId.size();
+    }
+
+    @Override
+    public long estimatedCount() {
+        return byId.size();
+    }
+
+    @Override
+    public void incrementWrites() {
+        writes.incrementAndGet();
+    }
+
+    @Override
+    public long countWrites() {
+        return writes.get();
+    }
+
+    @Override
+    public List<Asset> findAll(Sort sort) {
+        return query(null, sort).map(AssetStoreSupport::copy).toList();
+    }
+
+    @Override
+    public Page<Asset> findAll(Pageable pageable) {
+        return search(null, pageable, AssetFields.all());
+    }
+
+    @Override
+    public Optional<Asset> findBySerialNo(String serialNo) {
+        return Optional.ofNullable(idBySerialNo.get(serialNo)).flatMap(this::findById);
+    }
+
+    @Override
+    public List<Asset> findAllBy(Pageable pageable) {
+        return page(query(null, pageable.getSort()), pageable).map(AssetStoreSupport::copy).toList();
+    }
+
+    @Override
+    public List<Asset> findByIdGreaterThan(String id, Pageable pageable) {
+        Stream<Asset> after = byId.tailMap(id, false).values().stream();
+        return page(sorted(after, pageable.getSort(), true), pageable).map(AssetStoreSupport::copy).toList();
+    }
+
+    @Override
+    public List<Asset> findAfterAssignDate(LocalDate assignDate, String id, Pageable pageable) {
+        Stream<Asset> after = byAssignDate.tailSet(probe(id, assignDate, null), false).stream();
+        return page(sorted(after, pageable.getSort(), isAssignDateOrder(pageable.getSort())), pageable)
+                .map(AssetStoreSupport::copy).toList();
+    }
+
+    @Override
+    public List<Asset> findSerialNosIn(Collection<String> serialNos) {
+        return serialNos.stream()
+                .distinct()
+                .map(serialNo -> byId.get(idBySerialNo.getOrDefault(serialNo, "")))
+                .filter(Objects::nonNull)
+                .map(asset -> new Asset(asset.getId(), null, asset.getSerialNo(), null, null))
+                .toList();
+    }
+
+    @Override
+    public Stream<Asset> streamSerialNos() {
+        return byId.values().stream().map(asset -> new Asset(asset.getId(), null, asset.getSerialNo(), null, null));
+    }
+
+    @Override
+    public Optional<Asset> findFirstByOrderByAssignDateDescIdDesc() {
+        return byAssignDate.descendingSet().stream().findFirst().map(AssetStoreSupport::copy);
+    }
+
+    @Override
+    public List<Asset> findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(Instant since) {
+        return byLastModified.tailSet(probe("", null, since), true).stream()
+                .map(AssetStoreSupport::copy)
+                .toList();
+    }
+
+    @Override
+    public Optional<Asset> findFirstByOrderByLastModifiedDesc() {
+        return byLastModified.descendingSet().stream().findFirst().map(AssetStoreSupport::copy);
+    }
+
+    @Override
+    public Stream<Asset> streamAllBy() {
+        return byId.values().stream().map(AssetStoreSupport::copy);
+    }
+
+    @Override
+    public Page<Asset> search(AssetSearchCriteria criteria, Pageable pageable, AssetFields fields) {
+        List<Asset> content = page(query(criteria, pageable.getSort()), pageable)
+                .map(fields::project)
+                .toList();
+        // Son sayfada ya da tek sayfada sayım atlanır (Mongo tarafıyla aynı)
+        return PageableExecutionUtils.getPage(content, pageable, () -> query(criteria, Sort.unsorted()).count());
+    }
+
+    @Override
+    public Stream<Asset> streamSearch(AssetSearchCriteria criteria, Sort sort, AssetFields fields) {
+        return query(criteria, sort).map(fields::project);
+    }
+
+    @Override
+    public List<Asset> findByCursor(AssetCursor after, boolean byAssignDate, Pageable pageable, AssetFields fields) {
+        List<Asset> slice;
+        if (after == null) {
+            slice = findAllBy(pageable);
+        } else if (byAssignDate) {
+            slice = findAfterAssignDate(after.getAssignDate(), after.getId(), pageable);
+        } else {
+            slice = findByIdGreaterThan(after.getId(), pageable);
+        }
+        return slice.stream().map(fields::project).toList();
+    }
+
+    @Override
+    public List<String> findIds(AssetSearchCriteria criteria) {
+        return query(criteria, Sort.unsorted()).map(Asset::getId).toList();
+    }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> ids) {
+        return ids.stream().distinct().filter(byId::containsKey).toList();
+    }
+
+    @Override
+    public List<AssetTombstone> findTombstonesSince(Instant since) {
+        return tombstones.entrySet().stream()
+                .filter(tombstone -> !tombstone.getValue().isBefore(since))
+                .map(tombstone -> new AssetTombstone(tombstone.getKey(), tombstone.getValue()))
+                .sorted(Comparator.comparing(AssetTombstone::getDeletedAt))
+                .toList();
+    }
+
+    @Override
+    public Optional<Instant> findLatestDeletion() {
+        return tombstones.values().stream().max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public AssetStats aggregateStats(LocalDate today) {
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate nextMonth = monthStart.plusMonths(1);
+        LocalDate weekStart = today.minusDays(7);
+        AssetStats stats = new AssetStats(0, 0, 0, null, new TreeMap<>());
+        for (Asset asset : byId.values()) {
+            LocalDate assignDate = asset.getAssignDate();
+            stats.setTotal(stats.getTotal() + 1);
+            if (assignDate != null && !assignDate.isBefore(monthStart) && assignDate.isBefore(nextMonth)) {
+                stats.setAddedThisMonth(stats.getAddedThisMonth() + 1);
+            }
+            if (assignDate != null && !assignDate.isBefore(weekStart)) {
+                stats.setAddedThisWeek(stats.getAddedThisWeek() + 1);
+            }
+            stats.getByCategory().merge(asset.getCategory() == null ? AssetStats.DEFAULT_CATEGORY : asset.getCategory(),
+                    1L, Long::sum);
+        }
+        findFirstByOrderByAssignDateDescIdDesc().ifPresent(stats::setLatestAsset);
+        return stats;
+    }
+
+    @Override
+    public List<AssetCountBucket> countByAssignDateAndCategory() {
+        return AssetStoreSupport.sumBuckets(byId.values().stream()
+                .map(asset -> new AssetCountBucket(asset.getAssignDate(), asset.getCategory(), 1)));
+    }
+
+    // writeLock altında: önce log, sonra index'ler
+    private void write(Asset asset) {
+        append(AssetRecords.put(asset));
+        apply(asset);
+    }
+
+    private void remove(String id, Instant deletedAt) {
+        append(AssetRecords.delete(id, deletedAt));
+        unapply(id, deletedAt);
+    }
+
+    private void append(byte[] record) {
+        if (writeLog == null) {
+            return;
+        }
+        try {
+            writeLog.append(record);
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not write asset store log", ex);
+        }
+    }
+
+    private void apply(Asset asset) {
+        Asset previous = byId.put(asset.getId(), asset);
+        if (previous != null) {
+            removeSecondary(previous);
+        }
+        idBySerialNo.put(asset.getSerialNo(), asset.getId());
+        idsByCategory.computeIfAbsent(categoryKey(asset), key -> ConcurrentHashMap.newKeySet()).add(asset.getId());
+        byAssignDate.add(asset);
+        byLastModified.add(asset);
+    }
+
+    // Recovery: index'ler tek seferde ve sıralı eklemeyle kurulur; rastgele sırada eklemede her adım
+    // skip list'in başka bir yerine gider, sıralıda arama yolu cache'te kalır
+    private void load(Collection<Asset> assets) {
+        Asset[] sorted = assets.toArray(Asset[]::new);
+        Arrays.sort(sorted, AssetOrdering.BY_ID);
+        Map<String, Integer> categorySizes = new HashMap<>();
+        for (Asset asset : sorted) {
+            categorySizes.merge(categoryKey(asset), 1, Integer::sum);
+        }
+        categorySizes.forEach((category, size) -> idsByCategory.put(category, ConcurrentHashMap.newKeySet(size)));
+        for (Asset asset : sorted) {
+            byId.put(asset.getId(), asset);
+            idBySerialNo.put(asset.getSerialNo(), asset.getId());
+            idsByCategory.get(categoryKey(asset)).add(asset.getId());
+        }
+        Arrays.sort(sorted, BY_ASSIGN_DATE);
+        byAssignDate.addAll(Arrays.asList(sorted));
+        Arrays.sort(sorted, BY_LAST_MODIFIED);
+        byLastModified.addAll(Arrays.asList(sorted));
+    }
+
+    private void unapply(String id, Instant deletedAt) {
+        Asset removed = byId.remove(id);
+        if (removed != null) {
+            removeSecondary(removed);
+        }
+        if (deletedAt != null) {
+            tombstones.put(id, deletedAt);
+        }
+    }
+
+    private void removeSecondary(Asset asset) {
+        idBySerialNo.remove(asset.getSerialNo(), asset.getId());
+        Set<String> category = idsByCategory.get(categoryKey(asset));
+        if (category != null) {
+            category.remove(asset.getId());
+        }
+        byAssignDate.remove(asset);
+        byLastModified.remove(asset);
+    }
+
+    private void clearIndexes() {
+        byId.clear();
+        idBySerialNo.clear();
+        idsByCategory.clear();
+        byAssignDate.clear();
+        byLastModified.clear();
+    }
+
+    private void checkSerialNo(String serialNo, String id) {
+        String owner = idBySerialNo.get(serialNo);
+        if (owner != null && !owner.equals(id)) {
+            throw duplicateKey("serialNo", serialNo);
+        }
+    }
+
+    private static DuplicateKeyException duplicateKey(String index, Object value) {
+        return AssetStoreSupport.duplicateKey("assets", index, index, value);
+    }
+
+    // Filtre + sıralama; category verilmişse category index'inden başlar
+    private Stream<Asset> query(AssetSearchCriteria criteria, Sort sort) {
+        boolean byCategory = criteria != null && StringUtils.hasText(criteria.getCategory());
+        Stream<Asset> source = byCategory
+                ? idsByCategory.getOrDefault(criteria.getCategory(), Set.of()).stream().map(byId::get)
+                .filter(Objects::nonNull)
+                : byId.values().stream();
+        return sorted(source.filter(matcher(criteria)), sort, !byCategory);
+    }
+
+    // idOrdered: kaynak zaten id sırasında; sıralama yok ya da sadece id ise tekrar sıralanmaz
+    private static Stream<Asset> sorted(Stream<Asset> assets, Sort sort, boolean idOrdered) {
+        if (sort.isUnsorted() || sort.equals(Sort.by("id"))) {
+            return idOrdered ? assets : assets.sorted(AssetOrdering.BY_ID);
+        }
+        return assets.sorted(AssetOrdering.comparator(sort));
+    }
+
+    private static boolean isAssignDateOrder(Sort sort) {
+        return sort.equals(Sort.by("assignDate", "id"));
+    }
+
+    private static Stream<Asset> page(Stream<Asset> assets, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return assets;
+        }
+        return assets.skip(pageable.getOffset()).limit(pageable.getPageSize());
+    }
+
+    private static Predicate<Asset> matcher(AssetSearchCriteria criteria) {
+        Predicate<Asset> matcher = asset -> true;
+        if (criteria == null) {
+            return matcher;
+        }
+        if (StringUtils.hasText(criteria.getCategory())) {
+            matcher = matcher.and(asset -> criteria.getCategory().equals(asset.getCategory()));
+        }
+        if (StringUtils.hasText(criteria.getQ())) {
+            String term = criteria.getQ().trim();
+            if (criteria.isFullText()) {
+                Set<String> words = words(term);
+                matcher = matcher.and(asset -> words(asset.getName()).stream().anyMatch(words::contains)
+                        || words(asset.getSerialNo()).stream().anyMatch(words::contains));
+            } else {
+                // Mongo'daki küçük harfli kopyalarda ^önek regex'i
+                matcher = matcher.and(asset -> startsWithIgnoreCase(asset.getName(), term)
+                        || startsWithIgnoreCase(asset.getSerialNo(), term));
+            }
+        }
+        return matcher;
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return value != null && AssetSearchKeys.of(value).startsWith(AssetSearchKeys.of(prefix));
+    }
+
+    private static Set<String> words(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        Set<String> words = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // Sıralı index'lerde aralık başlangıcı
+    private static Asset probe(String id, LocalDate assignDate, Instant lastModified) {
+        Asset probe = new Asset(id, null, null, assignDate, null);
+        probe.setLastModified(lastModified);
+        return probe;
+    }
+
+    private static String categoryKey(Asset asset) {
+        return asset.getCategory() == null ? NO_CATEGORY : asset.getCategory();
+    }
+
+    // Recovery: kayıtlar önce düz bir map'te birleştirilir (uniqueness kontrolü yok, log'a zaten kontrol
+    // edilmiş yazmalar girmiştir), index'ler en sonda load() ile bir kez kurulur
+    private static final class Replay implements AssetRecords.Visitor {
+
+        private final Map<String, Asset> assets = new HashMap<>();
+        private final Map<String, Instant> tombstones = new HashMap<>();
+        // Az sayıda farklı değer alan alanlar (category, assignDate) tek nesneyi paylaşır
+        private final Map<Object, Object> canonical = new HashMap<>();
+
+        @Override
+        public void put(Asset asset) {
+            asset.setCategory(canonical(asset.getCategory()));
+            asset.setAssignDate(canonical(asset.getAssignDate()));
+            assets.put(asset.getId(), asset);
+        }
+
+        @Override
+        public void delete(String id, Instant deletedAt) {
+            assets.remove(id);
+            if (deletedAt != null) {
+                tombstones.put(id, deletedAt);
+            }
+        }
+
+        @Override
+        public void clear() {
+            assets.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T canonical(T value) {
+            return value == null ? null : (T) canonical.computeIfAbsent(value, key -> key);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.java.assets.repository.memory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Snapshot ve write log dosyalarını memory-mapped pencerelerle okur: dosya heap'e kopyalanmaz,
+ * 2 GB'tan büyük dosyalar da pencere pencere taranır.
+ */
+final class MappedRecordReader implements AutoCloseable {
+
+    static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long end;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    MappedRecordReader(Path file, long start, long end) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.end = Math.min(end, channel.size());
+        map(start, 0);
+    }
+
+    static long size(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.size();
+        }
+    }
+
+    /**
+     * Kayıtları sırayla uygular; okunan kayıt sayısını döner.
+     * Yarım/bozuk bir kayıtta durur, position() o kaydın başını gösterir
+     */
+    long readAll(AssetRecords.Visitor visitor) throws IOException {
+        long records = 0;
+        while (position() < end) {
+            int needed = AssetRecords.sizeOfNext(window);
+            if (window.remaining() < needed && windowStart + window.limit() < end) {
+                map(position(), needed);
+            }
+            if (!AssetRecords.read(window, visitor)) {
+                return records;
+            }
+            records++;
+        }
+        return records;
+    }
+
+    long position() {
+        return windowStart + window.position();
+    }
+
+    private void map(long start, int minSize) throws IOException {
+        long size = Math.min(Math.max(WINDOW_SIZE, minSize), end - start);
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
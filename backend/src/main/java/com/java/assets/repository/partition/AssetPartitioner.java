@@ -0,0 +1,36 @@
+package com.java.assets.repository.partition;
+
+import com.java.assets.model.Asset;
+
+import java.util.OptionalInt;
+
+/**
+ * Bir asset'in hangi partition'da durduğunu belirler (PartitionedAssetRepository).
+ * Sonuç sadece asset'in alanlarından hesaplanır; routing alanı değişen asset başka partition'a taşınır.
+ */
+public interface AssetPartitioner {
+
+    int partitions();
+
+    int partitionOf(Asset asset);
+
+    /**
+     * Bu alan değişince asset'in partition'ı değişebilir mi
+     */
+    boolean routesBy(String field);
+
+    /**
+     * serialNo'su verilen asset'in bulunabileceği tek partition; belirlenemiyorsa empty (tümüne sorulur)
+     */
+    OptionalInt partitionOfSerialNo(String serialNo);
+
+    /**
+     * category'si verilen asset'lerin bulunabileceği tek partition; belirlenemiyorsa empty
+     */
+    OptionalInt partitionOfCategory(String category);
+
+    // String.hashCode Java spec'inde sabittir: aynı değer her JVM'de aynı partition'a düşer
+    static int hash(String value, int partitions) {
+        return value == null ? 0 : Math.floorMod(value.hashCode(), partitions);
+    }
+}
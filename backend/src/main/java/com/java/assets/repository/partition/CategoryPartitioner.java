@@ -0,0 +1,57 @@
+package com.java.assets.repository.partition;
+
+import com.java.assets.model.Asset;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * category'ye göre dağıtım (ör. her site kendi veritabanında): categories'te olanlar verilen partition'a,
+ * diğerleri category hash'iyle dağıtılır, category'si olmayanlar ilk partition'a.
+ * Aynı serialNo farklı partition'lara düşebildiği için global unique'lik SerialNoClaims ile sağlanır.
+ */
+public class CategoryPartitioner implements AssetPartitioner {
+
+    private final int partitions;
+    private final Map<String, Integer> categories;
+
+    public CategoryPartitioner(int partitions, Map<String, Integer> categories) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("At least one partition is required");
+        }
+        categories.forEach((category, partition) -> {
+            if (partition == null || partition < 0 || partition >= partitions) {
+                throw new IllegalArgumentException("Category " + category + " is mapped to partition " + partition
+                        + ", expected 0.." + (partitions - 1));
+            }
+        });
+        this.partitions = partitions;
+        this.categories = Map.copyOf(categories);
+    }
+
+    @Override
+    public int partitions() {
+        return partitions;
+    }
+
+    @Override
+    public int partitionOf(Asset asset) {
+        return partitionOfCategory(asset.getCategory()).getAsInt();
+    }
+
+    @Override
+    public boolean routesBy(String field) {
+        return "category".equals(field);
+    }
+
+    @Override
+    public OptionalInt partitionOfSerialNo(String serialNo) {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalInt partitionOfCategory(String category) {
+        Integer partition = category == null ? null : categories.get(category);
+        return OptionalInt.of(partition != null ? partition : AssetPartitioner.hash(category, partitions));
+    }
+}
@@ -0,0 +1,44 @@
+package com.java.assets.repository.partition;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tek JVM'lik SerialNoClaims (gömülü store partition'ları, testler)
+ */
+public class InMemorySerialNoClaims implements SerialNoClaims {
+
+    private final ConcurrentHashMap<String, Claim> claims = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Claim> claim(String serialNo, String assetId) {
+        Claim existing = claims.putIfAbsent(serialNo, new Claim(assetId, Instant.now()));
+        if (existing == null || existing.assetId().equals(assetId)) {
+            return Optional.empty();
+        }
+        return Optional.of(existing);
+    }
+
+    @Override
+    public boolean takeOver(String serialNo, String previousAssetId, String assetId) {
+        Claim previous = claims.get(serialNo);
+        return previous != null && previous.assetId().equals(previousAssetId)
+                && claims.replace(serialNo, previous, new Claim(assetId, Instant.now()));
+    }
+
+    @Override
+    public void release(String serialNo, String assetId) {
+        claims.computeIfPresent(serialNo, (key, claim) -> claim.assetId().equals(assetId) ? null : claim);
+    }
+
+    @Override
+    public long count() {
+        return claims.size();
+    }
+
+    @Override
+    public void clear() {
+        claims.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package com.java.assets.repository.partition;
+
+import com.java.assets.repository.AssetRepository;
+import com.java.assets.repository.AssetRepositoryCustomImpl;
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Her partition için ayrı MongoClient + MongoTemplate + AssetRepository (Spring Data'nın ürettiği
+ * repository ile aynı sorgular, AssetRepositoryCustomImpl dahil). Template'ler uygulamanın entity callback'lerini
+ * (AssetSearchKeys) kullanır. Partition'lar ayrı mongod'lar ya da
+ * aynı sunucuda ayrı veritabanları olabilir.
+ */
+public class MongoAssetPartitions implements Closeable {
+
+    private final List<MongoClient> clients = new ArrayList<>();
+    private final List<MongoTemplate> templates = new ArrayList<>();
+    private final List<AssetRepository> repositories = new ArrayList<>();
+
+    /**
+     * uris: mongodb://host:port/veritabanı; veritabanı verilmemişse defaultDatabase
+     */
+    public MongoAssetPartitions(List<String> uris, String defaultDatabase, MongoConverter converter,
+                                EntityCallbacks entityCallbacks) {
+        for (String uri : uris) {
+            ConnectionString connectionString = new ConnectionString(uri);
+            String database = connectionString.getDatabase() != null ? connectionString.getDatabase() : defaultDatabase;
+            MongoClient client = MongoClients.create(connectionString);
+            clients.add(client);
+            MongoTemplate template =
+                    new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, database), converter);
+            template.setEntityCallbacks(entityCallbacks);
+            templates.add(template);
+            repositories.add(new MongoRepositoryFactory(template).getRepository(AssetRepository.class,
+                    RepositoryFragments.just(new AssetRepositoryCustomImpl(template))));
+        }
+    }
+
+    public List<MongoTemplate> templates() {
+        return List.copyOf(templates);
+    }
+
+    public List<AssetRepository> repositories() {
+        return List.copyOf(repositories);
+    }
+
+    @Override
+    public void close() {
+        clients.forEach(MongoClient::close);
+    }
+}
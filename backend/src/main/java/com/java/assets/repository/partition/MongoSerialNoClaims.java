@@ -0,0 +1,75 @@
+package com.java.assets.repository.partition;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * SerialNoClaims, tek bir veritabanındaki asset_serial_claims koleksiyonunda ({_id: serialNo, assetId, claimedAt}).
+ * Unique'lik _id'den gelir: aynı serial'ı alan iki yazmadan biri duplicate key alır.
+ */
+public class MongoSerialNoClaims implements SerialNoClaims {
+
+    static final String COLLECTION = "asset_serial_claims";
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoSerialNoClaims(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Claim> claim(String serialNo, String assetId) {
+        while (true) {
+            try {
+                mongoTemplate.insert(new Document("_id", serialNo)
+                        .append("assetId", assetId)
+                        .append("claimedAt", Date.from(Instant.now())), COLLECTION);
+                return Optional.empty();
+            } catch (DuplicateKeyException ex) {
+                Document existing = mongoTemplate.findById(serialNo, Document.class, COLLECTION);
+                if (existing == null) {
+                    // Bu arada bırakıldı, tekrar denenir
+                    continue;
+                }
+                if (assetId.equals(existing.getString("assetId"))) {
+                    return Optional.empty();
+                }
+                return Optional.of(new Claim(existing.getString("assetId"), existing.getDate("claimedAt").toInstant()));
+            }
+        }
+    }
+
+    @Override
+    public boolean takeOver(String serialNo, String previousAssetId, String assetId) {
+        return mongoTemplate.updateFirst(claimOf(serialNo, previousAssetId),
+                Update.update("assetId", assetId).set("claimedAt", Date.from(Instant.now())),
+                COLLECTION).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void release(String serialNo, String assetId) {
+        mongoTemplate.remove(claimOf(serialNo, assetId), COLLECTION);
+    }
+
+    @Override
+    public long count() {
+        return mongoTemplate.estimatedCount(COLLECTION);
+    }
+
+    @Override
+    public void clear() {
+        mongoTemplate.remove(new Query(), COLLECTION);
+    }
+
+    private static Query claimOf(String serialNo, String assetId) {
+        return Query.query(Criteria.where("_id").is(serialNo).and("assetId").is(assetId));
+    }
+}
@@ -0,0 +1,973 @@
+package com.java.assets.repository.partition;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import com.java.assets.repository.AssetOrdering;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.repository.AssetStoreSupport;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Asset'leri birden fazla AssetStore'a (partition: ayrı Mongo veritabanları) dağıtan katman;
+ * AssetService bunu tek bir store olarak görür.
+ *
+ * Yazmalar ve serialNo ile okumalar AssetPartitioner'ın seçtiği tek partition'a gider. id partition'ı
+ * belirlemez (routing alanı değişen asset taşınır): id ile okuma / yazma / silme bu node'un id → partition
+ * önbelleğindeki partition'a gider, önbellekte yoksa ya da asset orada bulunamazsa (başka bir node taşımış
+ * olabilir) tüm partition'lara paralel sorulur ve bulunduğu partition önbelleğe yazılır. Önbellek ortak bir
+ * kayıt değildir, yazmalarda başka bir veritabanına gidilmez. Liste / sayfa / arama sorguları her
+ * partition'dan offset + size kadar sıralı sonucu paralel alır ve k-way merge ile birleştirir; toplam,
+ * partition toplamlarından alınan sonuçlardaki iki kopyalı id'lerin çıkarılmasıdır. Taşınan asset'in iki kopyası
+ * alınan pencerelerin dışındaysa (sonraki sayfalarda) kısa süre iki kez sayılır: toplam yaklaşıktır.
+ *
+ * serialNo unique'liği: serialNo'ya göre dağıtımda aynı serial hep aynı partition'a düşer ve oradaki unique
+ * index yeterlidir; diğer dağıtımlarda yazmadan önce SerialNoClaims'ten serial alınır. id unique'liği: burada
+ * üretilen ObjectId'ler için ek kontrol yapılmaz, çağıranın verdiği id'ler yazmadan önce tüm partition'lara
+ * sorulur (aynı id'yi aynı anda farklı partition'lara yazan iki istek yakalanmaz).
+ *
+ * Taşıma: asset önce hedef partition'a aynı id ve yeni version ile yazılır, sonra kaynaktaki kopya version
+ * kontrolüyle silinir. Arada geçen kısa sürede iki kopya görülebilir;
+ * okumalar id'ye göre tekilleştirir (büyük version kazanır), stream'ler tekilleştirmez.
+ */
+@Slf4j
+public class PartitionedAssetRepository implements AssetStore, Closeable {
+
+    // Taşıma sırasında kaynak değişirse (version çakışması) baştan denenir
+    private static final int MAX_MOVE_ATTEMPTS = 3;
+    private static final Comparator<Asset> BY_ASSIGN_DATE = AssetOrdering.comparator(Sort.by("assignDate", "id"));
+    private static final Comparator<Asset> BY_LAST_MODIFIED = AssetOrdering.comparator(Sort.by("lastModified", "id"));
+    private static final Comparator<Asset> BY_VERSION =
+            Comparator.comparing(Asset::getVersion, Comparator.nullsFirst(Comparator.<Long>naturalOrder()));
+
+    private final List<AssetStore> partitions;
+    private final AssetPartitioner partitioner;
+    // serialNo'ya göre dağıtımda null
+    private final SerialNoClaims claims;
+    // id → partition (sadece bu node'da, ipucu: yanlış ya da eksikse tüm partition'lara sorulur)
+    private final Cache<String, Integer> routes;
+    private final Duration claimGrace;
+    private final ExecutorService executor;
+
+    public PartitionedAssetRepository(List<? extends AssetStore> partitions, AssetPartitioner partitioner,
+                                      SerialNoClaims claims, long routeCacheSize, int scatterThreads,
+                                      Duration claimGrace) {
+        if (partitions.size() != partitioner.partitions()) {
+            throw new IllegalArgumentException("Partitioner expects " + partitioner.partitions()
+                    + " partitions, got " + partitions.size());
+        }
+        if (claims == null && !partitioner.routesBy("serialNo")) {
+            throw new IllegalArgumentException("SerialNoClaims are required unless assets are partitioned by serialNo");
+        }
+        this.partitions = List.copyOf(partitions);
+        this.partitioner = partitioner;
+        this.claims = claims;
+        this.routes = Caffeine.newBuilder().maximumSize(routeCacheSize).build();
+        this.claimGrace = claimGrace;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, scatterThreads), daemonThreads());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Mevcut asset'lerin serialNo'larını SerialNoClaims'e yazar (partition'lar claims olmadan doldurulduysa).
+     * Birden fazla asset'te bulunan serialNo sayısını döner.
+     */
+    public long claimExisting() {
+        if (claims == null) {
+            return 0;
+        }
+        long conflicts = 0;
+        for (AssetStore partition : partitions) {
+            try (Stream<Asset> serialNos = partition.streamSerialNos()) {
+                for (Iterator<Asset> it = serialNos.iterator(); it.hasNext(); ) {
+                    Asset asset = it.next();
+                    if (claims.claim(asset.getSerialNo(), asset.getId()).isPresent()) {
+                        log.warn("SerialNo {} is used by more than one asset (found again on {})",
+                                asset.getSerialNo(), asset.getId());
+                        conflicts++;
+                    }
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * serialNo unique'liği SerialNoClaims ile mi sağlanıyor (serialNo'ya göre dağıtılmıyorsa)
+     */
+    public boolean claimsSerialNos() {
+        return claims != null;
+    }
+
+    public long claimCount() {
+        return claims == null ? 0 : claims.count();
+    }
+
+    @Override
+    public <S extends Asset> S insert(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(new ObjectId().toHexString());
+        } else if (!takenIds(List.of(entity.getId())).isEmpty()) {
+            throw duplicateId(entity.getId());
+        }
+        int partition = partitioner.partitionOf(entity);
+        claim(entity.getSerialNo(), entity.getId());
+        S inserted;
+        try {
+            inserted = partitions.get(partition).insert(entity);
+        } catch (RuntimeException ex) {
+            release(entity.getSerialNo(), entity.getId());
+            throw ex;
+        }
+        routes.put(inserted.getId(), partition);
+        return inserted;
+    }
+
+    @Override
+    public List<BulkWriteError> insertUnordered(List<Asset> assets) {
+        List<BulkWriteError> errors = new ArrayList<>();
+        // partition → orijinal listedeki index'ler
+        Map<Integer, List<Integer>> positions = new TreeMap<>();
+        List<String> supplied = assets.stream().map(Asset::getId).filter(Objects::nonNull).toList();
+        Set<String> taken = supplied.isEmpty() ? Set.of() : takenIds(supplied);
+        for (int i = 0; i < assets.size(); i++) {
+            Asset asset = assets.get(i);
+            if (asset.getId() == null) {
+                asset.setId(new ObjectId().toHexString());
+            } else if (taken.contains(asset.getId())) {
+                errors.add(AssetStoreSupport.duplicateKeyError(duplicateId(asset.getId()), i));
+                continue;
+            }
+            try {
+                claim(asset.getSerialNo(), asset.getId());
+            } catch (DuplicateKeyException ex) {
+                errors.add(AssetStoreSupport.duplicateKeyError(ex, i));
+                continue;
+            }
+            positions.computeIfAbsent(partitioner.partitionOf(asset), partition -> new ArrayList<>()).add(i);
+        }
+        List<Supplier<List<BulkWriteError>>> calls = new ArrayList<>();
+        positions.forEach((partition, indexes) -> calls.add(() -> partitions.get(partition)
+                .insertUnordered(indexes.stream().map(assets::get).toList()).stream()
+                .map(error -> new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(),
+                        indexes.get(error.getIndex())))
+                .toList()));
+        Set<Integer> failed = new HashSet<>();
+        for (List<BulkWriteError> partitionErrors : parallel(calls)) {
+            for (BulkWriteError error : partitionErrors) {
+                Asset asset = assets.get(error.getIndex());
+                release(asset.getSerialNo(), asset.getId());
+                failed.add(error.getIndex());
+                errors.add(error);
+            }
+        }
+        positions.forEach((partition, indexes) -> indexes.stream()
+                .filter(i -> !failed.contains(i))
+                .forEach(i -> routes.put(assets.get(i).getId(), partition)));
+        errors.sort(Comparator.comparingInt(BulkWriteError::getIndex));
+        return errors;
+    }
+
+    @Override
+    public Optional<Asset> findAndSet(String id, Map<String, Object> fields) {
+        if (!reroutes(fields)) {
+            return route(id, partition -> partition.findAndSet(id, fields)).map(Located::asset);
+        }
+        return update(id, fields, null);
+    }
+
+    @Override
+    public long updateMany(Collection<String> ids, Map<String, Object> fields, Instant lastModified) {
+        // Partition'ı değişmeyenler kendi partition'larında tek updateMany ile, diğerleri tek tek taşınır
+        boolean reroutes = reroutes(fields);
+        Map<Integer, List<String>> staying = new TreeMap<>();
+        List<String> moving = new ArrayList<>();
+        for (Located located : locateAll(ids)) {
+            if (reroutes) {
+                Asset updated = AssetStoreSupport.applyFields(located.asset(), fields);
+                if ((claims != null && !Objects.equals(located.asset().getSerialNo(), updated.getSerialNo()))
+                        || partitioner.partitionOf(updated) != located.partition()) {
+                    moving.add(located.asset().getId());
+                    continue;
+                }
+            }
+            staying.computeIfAbsent(located.partition(), partition -> new ArrayList<>()).add(located.asset().getId());
+        }
+        List<Supplier<Long>> calls = new ArrayList<>();
+        staying.forEach((partition, partitionIds) ->
+                calls.add(() -> partitions.get(partition).updateMany(partitionIds, fields, lastModified)));
+        long modified = sum(parallel(calls));
+        for (String id : moving) {
+            if (update(id, fields, lastModified).isPresent()) {
+                modified++;
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public Optional<Asset> findAndRemove(String id) {
+        Optional<Asset> removed = route(id, partition -> partition.findAndRemove(id)).map(Located::asset);
+        removed.ifPresent(asset -> {
+            release(asset.getSerialNo(), asset.getId());
+            routes.invalidate(id);
+        });
+        return removed;
+    }
+
+    @Override
+    public long deleteMany(Collection<String> ids) {
+        List<Located> existing = locateAll(ids);
+        Map<Integer, List<String>> byPartition = new TreeMap<>();
+        existing.forEach(located -> byPartition.computeIfAbsent(located.partition(), partition -> new ArrayList<>())
+                .add(located.asset().getId()));
+        List<Supplier<Long>> calls = new ArrayList<>();
+        byPartition.forEach((partition, partitionIds) ->
+                calls.add(() -> partitions.get(partition).deleteMany(partitionIds)));
+        long deleted = sum(parallel(calls));
+        existing.forEach(located -> release(located.asset().getSerialNo(), located.asset().getId()));
+        existing.forEach(located -> routes.invalidate(located.asset().getId()));
+        return deleted;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        locate(id).ifPresent(located -> {
+            partitions.get(located.partition()).deleteById(id);
+            release(located.asset().getSerialNo(), id);
+            routes.invalidate(id);
+        });
+    }
+
+    @Override
+    public void delete(Asset entity) {
+        Located current = locate(entity.getId()).orElse(null);
+        if (current == null) {
+            if (entity.getVersion() != null) {
+                throw new OptimisticLockingFailureException(
+                        "Cannot delete asset " + entity.getId() + " with version " + entity.getVersion());
+            }
+            return;
+        }
+        partitions.get(current.partition()).delete(entity);
+        release(current.asset().getSerialNo(), entity.getId());
+        routes.invalidate(entity.getId());
+    }
+
+    @Override
+    public void deleteAll() {
+        scatter(partitions, partition -> {
+            partition.deleteAll();
+            return null;
+        });
+        if (claims != null) {
+            claims.clear();
+        }
+        routes.invalidateAll();
+    }
+
+    @Override
+    public Optional<Asset> findById(String id) {
+        return locate(id).map(Located::asset);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        Integer hint = routes.getIfPresent(id);
+        if (hint != null && partitions.get(hint).existsById(id)) {
+            return true;
+        }
+        int partition = scatter(partitions, each -> each.existsById(id)).indexOf(true);
+        remember(id, partition);
+        return partition >= 0;
+    }
+
+    @Override
+    public List<Asset> findAll() {
+        return distinct(scatter(partitions, AssetStore::findAll));
+    }
+
+    @Override
+    public List<Asset> findAllById(Iterable<String> ids) {
+        return locateAll(ids).stream().map(Located::asset).toList();
+    }
+
+    @Override
+    public long count() {
+        return sum(scatter(partitions, AssetStore::count));
+    }
+
+    @Override
+    public long estimatedCount() {
+        return sum(scatter(partitions, AssetStore::estimatedCount));
+    }
+
+    // Her partition'ın kendi sayacı vardır, değer toplamdır: artış rastgele bir partition'a yazılır
+    // (tek bir partition'a yük ve bağımlılık toplanmaz); o partition erişilemezse sıradakine geçilir
+    @Override
+    public void incrementWrites() {
+        int start = ThreadLocalRandom.current().nextInt(partitions.size());
+        RuntimeException failure = null;
+        for (int i = 0; i < partitions.size(); i++) {
+            try {
+                partitions.get((start + i) % partitions.size()).incrementWrites();
+                return;
+            } catch (RuntimeException ex) {
+                failure = ex;
+            }
+        }
+        throw failure;
+    }
+
+    @Override
+    public long countWrites() {
+        return sum(scatter(partitions, AssetStore::countWrites));
+    }
+
+    @Override
+    public List<Asset> findAll(Sort sort) {
+        return merge(scatter(partitions, partition -> partition.findAll(sort)), AssetOrdering.comparator(sort),
+                0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Page<Asset> findAll(Pageable pageable) {
+        return mergePages(partitions, pageable, AssetFields.all(), AssetStore::findAll);
+    }
+
+    @Override
+    public Optional<Asset> findBySerialNo(String serialNo) {
+        return newest(scatter(partitionsOf(partitioner.partitionOfSerialNo(serialNo)),
+                partition -> partition.findBySerialNo(serialNo)));
+    }
+
+    @Override
+    public List<Asset> findAllBy(Pageable pageable) {
+        return mergeSlices(pageable, AssetFields.all(), AssetStore::findAllBy);
+    }
+
+    @Override
+    public List<Asset> findByIdGreaterThan(String id, Pageable pageable) {
+        return mergeSlices(pageable, AssetFields.all(),
+                (partition, window) -> partition.findByIdGreaterThan(id, window));
+    }
+
+    @Override
+    public List<Asset> findAfterAssignDate(LocalDate assignDate, String id, Pageable pageable) {
+        return mergeSlices(pageable, AssetFields.all(),
+                (partition, window) -> partition.findAfterAssignDate(assignDate, id, window));
+    }
+
+    @Override
+    public List<Asset> findSerialNosIn(Collection<String> serialNos) {
+        // serialNo partition'ı belirliyorsa her partition'a sadece kendi serial'ları sorulur
+        Map<Integer, List<String>> bySerialNo = new TreeMap<>();
+        for (String serialNo : new HashSet<>(serialNos)) {
+            OptionalInt partition = partitioner.partitionOfSerialNo(serialNo);
+            if (partition.isEmpty()) {
+                return distinct(scatter(partitions, each -> each.findSerialNosIn(serialNos)));
+            }
+            bySerialNo.computeIfAbsent(partition.getAsInt(), key -> new ArrayList<>()).add(serialNo);
+        }
+        List<Supplier<List<Asset>>> calls = new ArrayList<>();
+        bySerialNo.forEach((partition, partitionSerialNos) ->
+                calls.add(() -> partitions.get(partition).findSerialNosIn(partitionSerialNos)));
+        return distinct(parallel(calls));
+    }
+
+    @Override
+    public Stream<Asset> streamSerialNos() {
+        return concat(scatter(partitions, AssetStore::streamSerialNos));
+    }
+
+    @Override
+    public Optional<Asset> findFirstByOrderByAssignDateDescIdDesc() {
+        return scatter(partitions, AssetStore::findFirstByOrderByAssignDateDescIdDesc).stream()
+                .flatMap(Optional::stream)
+                .max(BY_ASSIGN_DATE);
+    }
+
+    @Override
+    public List<Asset> findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(Instant since) {
+        return merge(scatter(partitions,
+                        partition -> partition.findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(since)),
+                BY_LAST_MODIFIED, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<Asset> findFirstByOrderByLastModifiedDesc() {
+        return scatter(partitions, AssetStore::findFirstByOrderByLastModifiedDesc).stream()
+                .flatMap(Optional::stream)
+                .max(BY_LAST_MODIFIED);
+    }
+
+    @Override
+    public Stream<Asset> streamAllBy() {
+        return concat(scatter(partitions, AssetStore::streamAllBy));
+    }
+
+    @Override
+    public Page<Asset> search(AssetSearchCriteria criteria, Pageable pageable, AssetFields fields) {
+        List<AssetStore> targets = partitionsOf(criteria);
+        if (targets.size() == 1) {
+            return targets.get(0).search(criteria, pageable, fields);
+        }
+        AssetFields partitionFields = withSortKeys(fields, sortOf(pageable));
+        return mergePages(targets, pageable, fields,
+                (partition, window) -> partition.search(criteria, window, partitionFields));
+    }
+
+    @Override
+    public Stream<Asset> streamSearch(AssetSearchCriteria criteria, Sort sort, AssetFields fields) {
+        List<AssetStore> targets = partitionsOf(criteria);
+        if (targets.size() == 1) {
+            return targets.get(0).streamSearch(criteria, sort, fields);
+        }
+        if (sort.isUnsorted()) {
+            return concat(scatter(targets, partition -> partition.streamSearch(criteria, sort, fields)));
+        }
+        AssetFields partitionFields = withSortKeys(fields, sort);
+        List<Stream<Asset>> streams =
+                scatter(targets, partition -> partition.streamSearch(criteria, sort, partitionFields));
+        return mergeStreams(streams, AssetOrdering.comparator(sort)).map(fields::project);
+    }
+
+    @Override
+    public List<Asset> findByCursor(AssetCursor after, boolean byAssignDate, Pageable pageable, AssetFields fields) {
+        AssetFields partitionFields = withSortKeys(fields, sortOf(pageable));
+        return mergeSlices(pageable, fields,
+                (partition, window) -> partition.findByCursor(after, byAssignDate, window, partitionFields));
+    }
+
+    @Override
+    public List<String> findIds(AssetSearchCriteria criteria) {
+        return scatter(partitionsOf(criteria), partition -> partition.findIds(criteria)).stream()
+                .flatMap(List::stream)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        routeAll(ids, AssetStore::findExistingIds, Function.identity()).values().forEach(existing::addAll);
+        return ids.stream().distinct().filter(existing::contains).toList();
+    }
+
+    @Override
+    public List<AssetTombstone> findTombstonesSince(Instant since) {
+        // Taşıma sırasında silinen asset'in birden fazla partition'da tombstone'u olabilir: en yenisi
+        Map<String, Instant> latest = new HashMap<>();
+        for (List<AssetTombstone> tombstones : scatter(partitions, partition -> partition.findTombstonesSince(since))) {
+            tombstones.forEach(tombstone -> latest.merge(tombstone.getId(), tombstone.getDeletedAt(),
+                    (left, right) -> left.isAfter(right) ? left : right));
+        }
+        return latest.entrySet().stream()
+                .map(tombstone -> new AssetTombstone(tombstone.getKey(), tombstone.getValue()))
+                .sorted(Comparator.comparing(AssetTombstone::getDeletedAt))
+                .toList();
+    }
+
+    @Override
+    public Optional<Instant> findLatestDeletion() {
+        return scatter(partitions, AssetStore::findLatestDeletion).stream()
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public AssetStats aggregateStats(LocalDate today) {
+        AssetStats stats = new AssetStats(0, 0, 0, null, new TreeMap<>());
+        for (AssetStats partition : scatter(partitions, each -> each.aggregateStats(today))) {
+            stats.setTotal(stats.getTotal() + partition.getTotal());
+            stats.setAddedThisMonth(stats.getAddedThisMonth() + partition.getAddedThisMonth());
+            stats.setAddedThisWeek(stats.getAddedThisWeek() + partition.getAddedThisWeek());
+            partition.getByCategory().forEach((category, count) ->
+                    stats.getByCategory().merge(category, count, Long::sum));
+            if (partition.getLatestAsset() != null && (stats.getLatestAsset() == null
+                    || BY_ASSIGN_DATE.compare(partition.getLatestAsset(), stats.getLatestAsset()) > 0)) {
+                stats.setLatestAsset(partition.getLatestAsset());
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public List<AssetCountBucket> countByAssignDateAndCategory() {
+        return AssetStoreSupport.sumBuckets(scatter(partitions, AssetStore::countByAssignDateAndCategory).stream()
+                .flatMap(List::stream));
+    }
+
+    // Partition'ı değiştirebilecek ya da serialNo kaydı gerektiren güncelleme mi
+    private boolean reroutes(Map<String, Object> fields) {
+        return fields.keySet().stream().anyMatch(partitioner::routesBy)
+                || (claims != null && fields.containsKey("serialNo"));
+    }
+
+    // Tek asset'e $set: lastModified null ise findAndSet (alanlar olduğu gibi), değilse updateMany semantiği
+    // (zaten aynı değerde olan asset değişmez). Güncellemeden önceki hali döner.
+    private Optional<Asset> update(String id, Map<String, Object> fields, Instant lastModified) {
+        for (int attempt = 1; ; attempt++) {
+            Located current = locate(id).orElse(null);
+            if (current == null) {
+                return Optional.empty();
+            }
+            Asset previous = current.asset();
+            if (lastModified != null && fields.entrySet().stream().allMatch(field ->
+                    Objects.equals(AssetOrdering.property(previous, field.getKey()), field.getValue()))) {
+                return Optional.empty();
+            }
+            Asset updated = AssetStoreSupport.applyFields(previous, fields);
+            if (lastModified != null) {
+                updated.setLastModified(lastModified);
+            }
+            int target = partitioner.partitionOf(updated);
+            try {
+                return withClaim(previous, updated, () -> {
+                    if (target != current.partition()) {
+                        relocate(current, updated, target);
+                        return Optional.of(previous);
+                    }
+                    AssetStore partition = partitions.get(target);
+                    if (lastModified == null) {
+                        return partition.findAndSet(id, fields);
+                    }
+                    return partition.updateMany(List.of(id), fields, lastModified) > 0
+                            ? Optional.of(previous) : Optional.<Asset>empty();
+                });
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt == MAX_MOVE_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    // Önce hedefe aynı id ile yazılır, sonra kaynaktaki kopya version kontrolüyle silinir;
+    // arada başka bir yazma olduysa hedefteki kopya geri alınır
+    private void relocate(Located current, Asset updated, int target) {
+        AssetStore destination = partitions.get(target);
+        destination.insert(updated);
+        try {
+            partitions.get(current.partition()).delete(current.asset());
+        } catch (RuntimeException ex) {
+            destination.deleteById(updated.getId());
+            throw ex;
+        }
+        routes.put(updated.getId(), target);
+        log.debug("Asset {} moved from partition {} to {}", updated.getId(), current.partition(), target);
+    }
+
+    // serialNo değişiyorsa yazmadan önce yeni serial alınır;
+    // yazma başarılıysa eskisi, değilse yenisi bırakılır
+    private <T> T withClaim(Asset previous, Asset updated, Supplier<T> write) {
+        String previousSerialNo = previous == null ? null : previous.getSerialNo();
+        if (claims == null || Objects.equals(previousSerialNo, updated.getSerialNo())) {
+            return write.get();
+        }
+        claim(updated.getSerialNo(), updated.getId());
+        T result;
+        try {
+            result = write.get();
+        } catch (RuntimeException ex) {
+            release(updated.getSerialNo(), updated.getId());
+            throw ex;
+        }
+        if (result instanceof Optional<?> written && written.isEmpty()) {
+            release(updated.getSerialNo(), updated.getId());
+        } else if (previousSerialNo != null) {
+            release(previousSerialNo, updated.getId());
+        }
+        return result;
+    }
+
+    private void claim(String serialNo, String assetId) {
+        if (claims == null) {
+            return;
+        }
+        for (int attempt = 0; attempt < MAX_MOVE_ATTEMPTS; attempt++) {
+            Optional<SerialNoClaims.Claim> holder = claims.claim(serialNo, assetId);
+            if (holder.isEmpty()) {
+                return;
+            }
+            // Yarıda kalmış bir yazmadan kalan kayıt: sahibi yok ya da serial'ı değişmiş. Yeni kayıtlar
+            // claimGrace boyunca korunur, sahibinin yazması hâlâ sürüyor olabilir
+            SerialNoClaims.Claim claim = holder.get();
+            boolean stale = !claim.claimedAt().isAfter(Instant.now().minus(claimGrace))
+                    && findById(claim.assetId()).filter(owner -> serialNo.equals(owner.getSerialNo())).isEmpty();
+            if (!stale) {
+                break;
+            }
+            if (claims.takeOver(serialNo, claim.assetId(), assetId)) {
+                log.info("Took over stale serialNo claim {} from asset {}", serialNo, claim.assetId());
+                return;
+            }
+        }
+        throw AssetStoreSupport.duplicateKey(MongoSerialNoClaims.COLLECTION, "_id_", "_id", serialNo);
+    }
+
+    private void release(String serialNo, String assetId) {
+        if (claims != null && serialNo != null) {
+            claims.release(serialNo, assetId);
+        }
+    }
+
+    private static DuplicateKeyException duplicateId(String id) {
+        return AssetStoreSupport.duplicateKey("assets", "_id_", "_id", id);
+    }
+
+    // Çağıranın verdiği id'lerden herhangi bir partition'da zaten olanlar
+    private Set<String> takenIds(List<String> ids) {
+        Set<String> taken = new HashSet<>();
+        scatter(partitions, partition -> partition.findExistingIds(ids)).forEach(taken::addAll);
+        return taken;
+    }
+
+    private void remember(String id, int partition) {
+        if (partition < 0) {
+            routes.invalidate(id);
+        } else {
+            routes.put(id, partition);
+        }
+    }
+
+    private List<AssetStore> partitionsOf(OptionalInt partition) {
+        return partition.isPresent() ? List.of(partitions.get(partition.getAsInt())) : partitions;
+    }
+
+    // category filtresi tek partition'ı belirliyorsa sadece ona sorulur
+    private List<AssetStore> partitionsOf(AssetSearchCriteria criteria) {
+        if (criteria == null || !StringUtils.hasText(criteria.getCategory())) {
+            return partitions;
+        }
+        return partitionsOf(partitioner.partitionOfCategory(criteria.getCategory()));
+    }
+
+    private <T> List<T> scatter(List<AssetStore> targets, Function<AssetStore, T> call) {
+        return parallel(targets.stream().map(partition -> (Supplier<T>) () -> call.apply(partition)).toList());
+    }
+
+    // İlk çağrı çağıran thread'de çalışır (tek partition'lık çağrılarda thread geçişi olmaz);
+    // herhangi bir partition hata verirse sorgu da hata verir
+    private <T> List<T> parallel(List<Supplier<T>> calls) {
+        if (calls.isEmpty()) {
+            return List.of();
+        }
+        List<CompletableFuture<T>> futures = calls.subList(1, calls.size()).stream()
+                .map(call -> CompletableFuture.supplyAsync(call, executor))
+                .toList();
+        List<T> results = new ArrayList<>(calls.size());
+        results.add(calls.get(0).get());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+        return results;
+    }
+
+    // Her partition'dan ilk offset + size, birleştirilip offset atlanır. Alınan pencerelerde iki partition'da
+    // birden görülen id'ler (taşıma anı) toplamdan bir kez düşülür; pencere dışındaki kopyalar düşülemez
+    private Page<Asset> mergePages(List<AssetStore> targets, Pageable pageable, AssetFields fields,
+                                   PartitionQuery<Page<Asset>> query) {
+        Sort sort = sortOf(pageable);
+        Pageable window = pageable.isPaged() ? PageRequest.of(0, windowOf(pageable), sort) : pageable;
+        List<Page<Asset>> pages = scatter(targets, partition -> query.apply(partition, window));
+        List<Asset> content = merge(pages.stream().map(Page::getContent).toList(), AssetOrdering.comparator(sort),
+                pageable.isPaged() ? pageable.getOffset() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE).stream()
+                .map(fields::project)
+                .toList();
+        long fetched = pages.stream().mapToLong(page -> page.getContent().size()).sum();
+        long copies = fetched - pages.stream().flatMap(page -> page.getContent().stream())
+                .map(Asset::getId)
+                .distinct()
+                .count();
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum() - copies;
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private List<Asset> mergeSlices(Pageable pageable, AssetFields fields, PartitionQuery<List<Asset>> query) {
+        Sort sort = sortOf(pageable);
+        Pageable window = pageable.isPaged() ? PageRequest.of(0, windowOf(pageable), sort) : pageable;
+        return merge(scatter(partitions, partition -> query.apply(partition, window)), AssetOrdering.comparator(sort),
+                pageable.isPaged() ? pageable.getOffset() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE).stream()
+                .map(fields::project)
+                .toList();
+    }
+
+    // Sıralama yoksa id sırası: partition'lar arasında da tutarlı bir sıra olsun
+    private static Sort sortOf(Pageable pageable) {
+        return pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("id");
+    }
+
+    private static int windowOf(Pageable pageable) {
+        return (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+    }
+
+    // Birleştirme için sıralama alanları projection'a eklenir, sonuç fields'e göre tekrar daraltılır
+    private static AssetFields withSortKeys(AssetFields fields, Sort sort) {
+        AssetFields extended = fields;
+        for (Sort.Order order : sort) {
+            if (AssetFields.NAMES.contains(order.getProperty())) {
+                extended = extended.with(order.getProperty());
+            }
+        }
+        return extended;
+    }
+
+    // Sıralı listelerin k-way merge'ü; aynı id (taşıma sırasında iki kopya) bir kez
+    private static List<Asset> merge(List<List<Asset>> sorted, Comparator<Asset> order, long skip, int limit) {
+        Set<String> seen = new HashSet<>();
+        Iterator<Asset> merged = new MergingIterator(sorted.stream().map(List::iterator).toList(), order);
+        List<Asset> result = new ArrayList<>();
+        long skipped = 0;
+        while (merged.hasNext() && result.size() < limit) {
+            Asset asset = merged.next();
+            if (!seen.add(asset.getId())) {
+                continue;
+            }
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                result.add(asset);
+            }
+        }
+        return result;
+    }
+
+    private static Stream<Asset> mergeStreams(List<Stream<Asset>> streams, Comparator<Asset> order) {
+        Iterator<Asset> merged = new MergingIterator(streams.stream().map(Stream::iterator).toList(), order);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(() -> streams.forEach(Stream::close));
+    }
+
+    private static Stream<Asset> concat(List<Stream<Asset>> streams) {
+        return streams.stream().flatMap(Function.identity()).onClose(() -> streams.forEach(Stream::close));
+    }
+
+    private static List<Asset> distinct(List<List<Asset>> results) {
+        Map<String, Asset> byId = new LinkedHashMap<>();
+        results.forEach(assets -> assets.forEach(asset ->
+                byId.merge(asset.getId(), asset, PartitionedAssetRepository::newer)));
+        return List.copyOf(byId.values());
+    }
+
+    private static Optional<Asset> newest(List<Optional<Asset>> results) {
+        return results.stream().flatMap(Optional::stream).max(BY_VERSION);
+    }
+
+    private static Asset newer(Asset left, Asset right) {
+        return BY_VERSION.compare(right, left) > 0 ? right : left;
+    }
+
+    private static long sum(List<Long> counts) {
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private Optional<Located> locate(String id) {
+        return route(id, partition -> partition.findById(id));
+    }
+
+    // id'nin önbellekteki partition'ında çalışır. Önbellekte yoksa ya da asset orada bulunamazsa (taşınmış ya
+    // da taşınıyor) tüm partition'lara sorulur; iki kopyadan büyük version yenisidir
+    private Optional<Located> route(String id, Function<AssetStore, Optional<Asset>> call) {
+        Integer hint = routes.getIfPresent(id);
+        if (hint != null) {
+            Optional<Asset> found = call.apply(partitions.get(hint));
+            if (found.isPresent()) {
+                return Optional.of(new Located(hint, found.get()));
+            }
+        }
+        List<Optional<Asset>> found = scatter(partitions, call);
+        Optional<Located> located = IntStream.range(0, found.size())
+                .filter(each -> found.get(each).isPresent())
+                .mapToObj(each -> new Located(each, found.get(each).get()))
+                .max(Comparator.comparing(Located::asset, BY_VERSION));
+        remember(id, located.map(Located::partition).orElse(-1));
+        return located;
+    }
+
+    private List<Located> locateAll(Iterable<String> ids) {
+        Set<String> distinct = new LinkedHashSet<>();
+        ids.forEach(distinct::add);
+        Map<String, Located> byId = new LinkedHashMap<>();
+        routeAll(distinct, AssetStore::findAllById, Asset::getId).forEach((partition, assets) -> {
+            for (Asset asset : assets) {
+                byId.merge(asset.getId(), new Located(partition, asset),
+                        (left, right) -> BY_VERSION.compare(right.asset(), left.asset()) > 0 ? right : left);
+            }
+        });
+        return List.copyOf(byId.values());
+    }
+
+    // Toplu id'li çağrı: önbellekte partition'ı olan id'ler sadece o partition'a, olmayanlar ve önbellekteki
+    // partition'ında bulunamayanlar tüm partition'lara sorulur; bulunanların partition'ı önbelleğe yazılır.
+    // partition → sonuçlar
+    private <T> Map<Integer, List<T>> routeAll(Collection<String> ids,
+                                               BiFunction<AssetStore, List<String>, List<T>> call,
+                                               Function<T, String> idOf) {
+        Map<String, Integer> known = routes.getAllPresent(ids);
+        Map<Integer, List<String>> byPartition = new TreeMap<>();
+        for (String id : ids) {
+            Integer partition = known.get(id);
+            if (partition != null) {
+                byPartition.computeIfAbsent(partition, key -> new ArrayList<>()).add(id);
+            } else {
+                for (int each = 0; each < partitions.size(); each++) {
+                    byPartition.computeIfAbsent(each, key -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+        Map<Integer, List<T>> results = callEach(byPartition, call);
+        Set<String> found = new HashSet<>();
+        results.values().forEach(partitionResults -> partitionResults.forEach(result -> found.add(idOf.apply(result))));
+        List<String> missing = known.keySet().stream().filter(id -> !found.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            routes.invalidateAll(missing);
+            Map<Integer, List<String>> everywhere = new TreeMap<>();
+            IntStream.range(0, partitions.size()).forEach(each -> everywhere.put(each, missing));
+            callEach(everywhere, call).forEach((partition, partitionResults) ->
+                    results.computeIfAbsent(partition, key -> new ArrayList<>()).addAll(partitionResults));
+        }
+        results.forEach((partition, partitionResults) ->
+                partitionResults.forEach(result -> routes.put(idOf.apply(result), partition)));
+        return results;
+    }
+
+    private <T> Map<Integer, List<T>> callEach(Map<Integer, List<String>> byPartition,
+                                               BiFunction<AssetStore, List<String>, List<T>> call) {
+        List<Integer> targets = new ArrayList<>(byPartition.keySet());
+        List<List<T>> results = parallel(targets.stream()
+                .map(partition -> (Supplier<List<T>>) () ->
+                        call.apply(partitions.get(partition), byPartition.get(partition)))
+                .toList());
+        Map<Integer, List<T>> byTarget = new TreeMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            byTarget.put(targets.get(i), new ArrayList<>(results.get(i)));
+        }
+        return byTarget;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "asset-partition-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface PartitionQuery<T> {
+        T apply(AssetStore partition, Pageable window);
+    }
+
+    private record Located(int partition, Asset asset) {
+    }
+
+    // Her kaynak kendi içinde order sırasında; her adımda en küçük baş eleman verilir
+    private static final class MergingIterator implements Iterator<Asset> {
+
+        private final List<Iterator<Asset>> sources;
+        private final PriorityQueue<Head> heads;
+        private boolean started;
+
+        MergingIterator(List<Iterator<Asset>> sources, Comparator<Asset> order) {
+            this.sources = sources;
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()), Comparator.comparing(Head::asset, order));
+        }
+
+        @Override
+        public boolean hasNext() {
+            // Kaynaklar ilk okumada açılır (stream'ler tüketilmeden cursor ilerletilmez)
+            if (!started) {
+                sources.forEach(this::advance);
+                started = true;
+            }
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Asset next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Head head = heads.poll();
+            advance(head.source());
+            return head.asset();
+        }
+
+        private void advance(Iterator<Asset> source) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+
+        private record Head(Asset asset, Iterator<Asset> source) {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.java.assets.repository.partition;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * serialNo → asset id kayıtları: asset'ler serialNo'ya göre dağıtılmadığında global unique'lik için.
+ * Asset yazılmadan önce serial'ı alınır, asset silinince ya da serial'ı değişince bırakılır.
+ */
+public interface SerialNoClaims {
+
+    /**
+     * serialNo'yu assetId'ye ayırır. Başka bir asset'e ayrılmışsa o kaydı döner,
+     * zaten assetId'ye ayrılmışsa empty.
+     */
+    Optional<Claim> claim(String serialNo, String assetId);
+
+    /**
+     * previousAssetId'nin kaydını assetId'ye devreder (kayıt hâlâ previousAssetId'deyse)
+     */
+    boolean takeOver(String serialNo, String previousAssetId, String assetId);
+
+    /**
+     * Kayıt assetId'deyse siler
+     */
+    void release(String serialNo, String assetId);
+
+    long count();
+
+    void clear();
+
+    record Claim(String assetId, Instant claimedAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.java.assets.repository.partition;
+
+import com.java.assets.model.Asset;
+
+import java.util.OptionalInt;
+
+/**
+ * serialNo hash'ine göre dağıtım: aynı serialNo her zaman aynı partition'a düşer, bu yüzden
+ * partition'daki unique index global unique'lik için yeterlidir.
+ * Partition sayısı değişirse mevcut asset'ler yeni dağılıma göre taşınmalıdır.
+ */
+public class SerialNoPartitioner implements AssetPartitioner {
+
+    private final int partitions;
+
+    public SerialNoPartitioner(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("At least one partition is required");
+        }
+        this.partitions = partitions;
+    }
+
+    @Override
+    public int partitions() {
+        return partitions;
+    }
+
+    @Override
+    public int partitionOf(Asset asset) {
+        return AssetPartitioner.hash(asset.getSerialNo(), partitions);
+    }
+
+    @Override
+    public boolean routesBy(String field) {
+        return "serialNo".equals(field);
+    }
+
+    @Override
+    public OptionalInt partitionOfSerialNo(String serialNo) {
+        return OptionalInt.of(AssetPartitioner.hash(serialNo, partitions));
+    }
+
+    @Override
+    public OptionalInt partitionOfCategory(String category) {
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,249 @@
+package com.java.assets.service;
+
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eşzamanlı create isteklerini tek unordered bulk insert'te toplar (group commit).
+ *
+ * Her flusher thread kuyruktaki ilk isteği aldıktan sonra en fazla maxWait kadar ya da
+ * maxBatchSize dolana kadar bekler, sonra hepsini tek round trip'te yazar. Bu sırada gelenler
+ * bir sonraki batch'te toplanır. maxWait=0: beklenmez, sadece yazma sürerken biriken istekler birleşir.
+ * flushers: aynı anda yazılabilen batch sayısı; 1 iken düşük eşzamanlılıkta create'ler sıraya girer.
+ *
+ * Duplicate kontrolü tek insert'teki gibi serialNo unique index'indedir; aynı batch içindeki
+ * tekrarlar yazılmadan ayıklanır. Her çağıran kendi sonucunu alır: kaydedilen asset ya da DuplicateKeyException.
+ */
+@Slf4j
+public class AssetCreateBatcher implements SmartLifecycle, MeterBinder {
+
+    // stop() kontrolü için boş kuyrukta bekleme aralığı
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final AssetStore assetRepository;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int flushers;
+    private final LinkedBlockingQueue<PendingCreate> queue = new LinkedBlockingQueue<>();
+
+    private volatile boolean running;
+    private volatile DistributionSummary batchSizes;
+    private List<Thread> flusherThreads;
+
+    public AssetCreateBatcher(AssetStore assetRepository, int maxBatchSize, Duration maxWait, int flushers) {
+        this.assetRepository = assetRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.flushers = flushers;
+    }
+
+    /**
+     * Kapalıyken AssetServiceImpl her create'i kendi insert'iyle yazar
+     */
+    public static AssetCreateBatcher disabled() {
+        return new AssetCreateBatcher(null, 1, Duration.ZERO, 0);
+    }
+
+    public boolean isEnabled() {
+        return assetRepository != null;
+    }
+
+    /**
+     * Asset'i bir sonraki batch'le yazar ve batch bitene kadar bekler.
+     * serialNo zaten varsa (veritabanında ya da aynı batch'te) DuplicateKeyException
+     */
+    public Asset insert(Asset asset) {
+        PendingCreate pending = new PendingCreate(asset);
+        queue.add(pending);
+        // stop() sonrası flusher kuyruğu bir daha boşaltmaz, kendi kaydımızı geri alıp direkt yazarız
+        if (!running && queue.remove(pending)) {
+            return assetRepository.insert(asset);
+        }
+        try {
+            return pending.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        flusherThreads = new ArrayList<>(flushers);
+        for (int i = 0; i < flushers; i++) {
+            Thread thread = new Thread(this::run, "asset-create-batcher-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            flusherThreads.add(thread);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (flusherThreads == null) {
+            return;
+        }
+        // Interrupt yok: yazılmakta olan batch'ler yarıda kesilmesin
+        running = false;
+        try {
+            for (Thread thread : flusherThreads) {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flusherThreads = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusherThreads != null;
+    }
+
+    // Web server'dan sonra durur: kapanışta hâlâ işlenen create'ler batch'le yazılabilsin
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("assets.create.batch.queued", queue, LinkedBlockingQueue::size)
+                .description("Create requests waiting for the next batch")
+                .register(registry);
+        batchSizes = DistributionSummary.builder("assets.create.batch.size")
+                .description("Create requests written per bulk insert")
+                .register(registry);
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running) {
+                PendingCreate first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    collect(batch);
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // stop(): eldekiler ve kuyrukta kalanlar yazılıp çıkılır
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += maxBatchSize) {
+            flush(batch.subList(from, Math.min(batch.size(), from + maxBatchSize)));
+        }
+    }
+
+    // İlk istekten sonra batch dolana ya da maxWait bitene kadar toplar
+    private void collect(List<PendingCreate> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    // Hata ne olursa olsun her çağıran bir sonuç alır, flusher thread'i ölmez
+    void flush(List<PendingCreate> batch) {
+        try {
+            write(batch);
+        } catch (RuntimeException ex) {
+            log.warn("Batched insert of {} assets failed", batch.size(), ex);
+            batch.forEach(pending -> pending.result.completeExceptionally(ex));
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        // 1) Aynı batch'te tekrarlanan serialNo: ilk gelen yazılır, diğerleri 409
+        Set<String> serialNos = new HashSet<>();
+        List<PendingCreate> toInsert = new ArrayList<>(batch.size());
+        // Bulk insert @Version'ı başlatmaz, id'yi de biz veriyoruz ki her çağırana kendi kaydı dönsün
+        Instant now = Instant.now();
+        for (PendingCreate pending : batch) {
+            Asset asset = pending.asset;
+            if (!serialNos.add(asset.getSerialNo())) {
+                pending.result.completeExceptionally(new DuplicateKeyException(
+                        "Duplicate serialNo '" + asset.getSerialNo() + "' in the same batch"));
+                continue;
+            }
+            if (asset.getId() == null) {
+                asset.setId(new ObjectId().toHexString());
+            }
+            asset.setVersion(0L);
+            if (asset.getLastModified() == null) {
+                asset.setLastModified(now);
+            }
+            toInsert.add(pending);
+        }
+        if (batchSizes != null) {
+            batchSizes.record(toInsert.size());
+        }
+
+        // 2) Tek unordered bulk insert - veritabanındaki duplicate'leri unique index yakalar
+        Map<Integer, BulkWriteError> failures = new HashMap<>();
+        for (BulkWriteError error : assetRepository.insertUnordered(toInsert.stream().map(p -> p.asset).toList())) {
+            failures.put(error.getIndex(), error);
+        }
+        for (int i = 0; i < toInsert.size(); i++) {
+            PendingCreate pending = toInsert.get(i);
+            BulkWriteError error = failures.get(i);
+            if (error == null) {
+                pending.result.complete(pending.asset);
+            } else if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                pending.result.completeExceptionally(new DuplicateKeyException(error.getMessage()));
+            } else {
+                pending.result.completeExceptionally(new UncategorizedMongoDbException(error.getMessage(), null));
+            }
+        }
+    }
+
+    static final class PendingCreate {
+
+        final Asset asset;
+        final CompletableFuture<Asset> result = new CompletableFuture<>();
+
+        PendingCreate(Asset asset) {
+            this.asset = asset;
+        }
+    }
+}
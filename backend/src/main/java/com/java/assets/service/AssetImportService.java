@@ -0,0 +1,10 @@
+package com.java.assets.service;
+
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.dto.BulkImportResult;
+
+import java.util.stream.Stream;
+
+public interface AssetImportService {
+    BulkImportResult importAssets(Stream<AssetImportRow> rows);
+}
@@ -0,0 +1,156 @@
+package com.java.assets.service;
+
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.dto.BulkImportResult;
+import com.java.assets.exception.InvalidImportFileException;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.stats.AssetStatsCounters;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetImportServiceImpl implements AssetImportService {
+
+    private final AssetStore assetRepository;
+    private final Validator validator;
+    private final AssetStatsCounters assetStatsCounters;
+    private final SerialNoIndex serialNoIndex;
+
+    @Value("${assets.import.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Override
+    public BulkImportResult importAssets(Stream<AssetImportRow> rows) {
+        log.info("Importing assets in batches of {}", batchSize);
+        BulkImportResult result = new BulkImportResult();
+        List<AssetImportRow> chunk = new ArrayList<>(batchSize);
+        Iterator<AssetImportRow> iterator = rows.iterator();
+        boolean written = false;
+        try {
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= batchSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                    written = true;
+                }
+            }
+        } catch (InvalidImportFileException ex) {
+            // Henüz hiçbir chunk yazılmadıysa 400; yazıldıysa o ana kadarki rapor dosya hatasıyla döner
+            if (!written) {
+                throw ex;
+            }
+            log.warn("Import stopped after {} rows: {}", result.getRows().size() + chunk.size(), ex.getMessage());
+            result.setError(ex.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        log.info("Import finished - created: {}, duplicates: {}, invalid: {}",
+                result.getCreated(), result.getDuplicates(), result.getInvalid());
+        return result;
+    }
+
+    private void importChunk(List<AssetImportRow> chunk, BulkImportResult result) {
+        // 1) Parse + bean validation + import içindeki duplicate'ler
+        Map<String, AssetImportRow> candidates = new LinkedHashMap<>();
+        for (AssetImportRow row : chunk) {
+            Asset asset = row.getAsset();
+            if (row.getError() != null) {
+                result.invalid(row.getRow(), null, row.getError());
+                continue;
+            }
+            String violations = validate(asset);
+            if (violations != null) {
+                result.invalid(row.getRow(), asset.getSerialNo(), violations);
+            } else if (candidates.containsKey(asset.getSerialNo())) {
+                result.duplicate(row.getRow(), asset.getSerialNo(), duplicateMessage(asset.getSerialNo()));
+            } else {
+                candidates.put(asset.getSerialNo(), row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 2) Veritabanında olanlar - chunk başına tek $in sorgusu
+        //    (önceki chunk'lar zaten yazıldığı için chunk'lar arası duplicate'ler de burada yakalanır)
+        Set<String> existing = assetRepository.findSerialNosIn(candidates.keySet()).stream()
+                .map(Asset::getSerialNo)
+                .collect(Collectors.toSet());
+
+        List<AssetImportRow> toInsert = new ArrayList<>(candidates.size());
+        // Bulk insert @Version'ı başlatmaz, delta sync için lastModified de burada verilir
+        Instant now = Instant.now();
+        for (AssetImportRow row : candidates.values()) {
+            String serialNo = row.getAsset().getSerialNo();
+            if (existing.contains(serialNo)) {
+                result.duplicate(row.getRow(), serialNo, duplicateMessage(serialNo));
+            } else {
+                // Import her zaman yeni kayıt oluşturur, id'yi biz veriyoruz ki raporda dönebilelim
+                row.getAsset().setId(new ObjectId().toHexString());
+                row.getAsset().setVersion(0L);
+                row.getAsset().setLastModified(now);
+                toInsert.add(row);
+            }
+        }
+
+        // 3) Unordered bulk insert - yarışta kaçan duplicate'leri unique index yakalar
+        List<Asset> assets = toInsert.stream().map(AssetImportRow::getAsset).toList();
+        Map<Integer, BulkWriteError> failures = new HashMap<>();
+        for (BulkWriteError error : assetRepository.insertUnordered(assets)) {
+            failures.put(error.getIndex(), error);
+        }
+        for (int i = 0; i < toInsert.size(); i++) {
+            AssetImportRow row = toInsert.get(i);
+            Asset asset = row.getAsset();
+            BulkWriteError error = failures.get(i);
+            if (error == null) {
+                result.created(row.getRow(), asset.getSerialNo(), asset.getId());
+                assetStatsCounters.onAdded(asset);
+                serialNoIndex.onAdded(asset);
+            } else if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                result.duplicate(row.getRow(), asset.getSerialNo(), duplicateMessage(asset.getSerialNo()));
+            } else {
+                result.invalid(row.getRow(), asset.getSerialNo(), error.getMessage());
+            }
+        }
+    }
+
+    private String validate(Asset asset) {
+        Set<ConstraintViolation<Asset>> violations = validator.validate(asset);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String duplicateMessage(String serialNo) {
+        return "Asset with serialNo '" + serialNo + "' already exists!";
+    }
+}
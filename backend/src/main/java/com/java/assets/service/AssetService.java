@@ -1,15 +1,41 @@
 package com.java.assets.service;
 
+import com.java.assets.dto.AssetBulkResult;
+import com.java.assets.dto.AssetBulkSelection;
+import com.java.assets.dto.AssetChanges;
+import com.java.assets.dto.AssetCollectionVersion;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.dto.CursorPage;
 import com.java.assets.model.Asset;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface AssetService {
-    List<Asset> getAllAssets();
+    List<Asset> getAllAssets(AssetFields fields);
+    Stream<Asset> streamAllAssets(AssetFields fields);
     Asset getAssetById(String id);
+    Asset getAssetBySerialNo(String serialNo);
     Asset addAsset(Asset asset);
     Asset updateAsset(String id, Asset asset);
+    Asset patchAsset(String id, AssetPatch patch);
     void deleteAsset(String id);
-    Page<Asset> getAssetsPaginated(int page, int size);
+    AssetBulkResult bulkUpdate(AssetBulkSelection selection, AssetPatch patch);
+    AssetBulkResult bulkDelete(AssetBulkSelection selection);
+    Map<String, Boolean> serialNosExist(List<String> serialNos);
+    Page<Asset> getAssetsPaginated(int page, int size, AssetFields fields);
+    CursorPage<Asset> getAssetsByCursor(String cursor, int size, String sortBy, boolean includeTotal, AssetFields fields);
+    AssetStats getStats();
+    Page<Asset> searchAssets(AssetSearchCriteria criteria, String sortBy, String direction, int page, int size, AssetFields fields);
+    Sort searchSort(String sortBy, String direction);
+    Stream<Asset> streamAssets(AssetSearchCriteria criteria, Sort sort);
+    AssetCollectionVersion getCollectionVersion();
+    AssetChanges getChanges(Instant since);
 }
\ No newline at end of file
@@ -1,86 +1,440 @@
 package com.java.assets.service;
+import com.java.assets.cache.AssetCache;
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.dto.AssetBulkResult;
+import com.java.assets.dto.AssetBulkSelection;
+import com.java.assets.dto.AssetChanges;
+import com.java.assets.dto.AssetCollectionVersion;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.dto.CursorPage;
 import com.java.assets.exception.AssetNotFoundException;
 import com.java.assets.exception.DuplicateSerialNoException;
+import com.java.assets.exception.InvalidBulkRequestException;
+import com.java.assets.exception.InvalidSortException;
 import com.java.assets.model.Asset;
-import com.java.assets.repository.AssetRepository;
+import com.java.assets.model.AssetTombstone;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.stats.AssetStatsCounters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AssetServiceImpl implements AssetService {
 
-    private final AssetRepository assetRepository;
+    static final String SORT_BY_ASSIGN_DATE = "assignDate";
+    static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    static final Set<String> SORTABLE_FIELDS = Set.of("name", "serialNo", "assignDate", "category");
+
+    // lastModified yazma isteği başında alınır, commit'i birkaç saniye sonra görünebilir;
+    // /changes aralıkları bu kadar geriden başlatılır ki böyle bir yazma kaçmasın
+    static final Duration CHANGES_OVERLAP = Duration.ofSeconds(5);
+
+    // Toplu güncelleme/silmede tek updateMany/deleteMany'ye giren id sayısı
+    static final int BULK_CHUNK_SIZE = 1000;
+
+    private final AssetStore assetRepository;
+    private final AssetCache assetCache;
+    private final AssetStatsCounters assetStatsCounters;
+    private final SerialNoIndex serialNoIndex;
+    private final AssetCreateBatcher assetCreateBatcher;
 
     @Override
-    public List<Asset> getAllAssets() {
-        log.info("Fetching all assets");
-        return assetRepository.findAll();
+    public List<Asset> getAllAssets(AssetFields fields) {
+        log.debug("Fetching all assets - fields: {}", fields);
+        if (fields.isAll()) {
+            return assetRepository.findAll();
+        }
+        // Unpaged: count sorgusu çalışmaz
+        return assetRepository.search(new AssetSearchCriteria(), Pageable.unpaged(), fields).getContent();
+    }
+
+    @Override
+    public Stream<Asset> streamAllAssets(AssetFields fields) {
+        log.debug("Streaming all assets - fields: {}", fields);
+        if (fields.isAll()) {
+            return assetRepository.streamAllBy();
+        }
+        return assetRepository.streamSearch(new AssetSearchCriteria(), Sort.unsorted(), fields);
     }
 
     @Override
     public Asset getAssetById(String id) {
-        log.info("Fetching asset with id: {}", id);
-        return assetRepository.findById(id)
+        log.debug("Fetching asset with id: {}", id);
+        return assetCache.getById(id, assetRepository::findById)
                 .orElseThrow(() -> new AssetNotFoundException(id));
     }
 
+    @Override
+    public Asset getAssetBySerialNo(String serialNo) {
+        log.debug("Fetching asset with serialNo: {}", serialNo);
+        // Index'te olan serial id ile (cache'ten) okunur. Index'te yoksa ya da eskiyse veritabanına sorulur:
+        // başka bir node'da oluşturulan asset bir sonraki yeniden kuruluma kadar index'te olmayabilir
+        String id = serialNoIndex.isReady() ? serialNoIndex.findId(serialNo) : null;
+        if (id != null) {
+            Optional<Asset> asset = assetCache.getById(id, assetRepository::findById);
+            if (asset.isPresent() && serialNo.equals(asset.get().getSerialNo())) {
+                return asset.get();
+            }
+        }
+        Asset asset = assetCache.getBySerialNo(serialNo, assetRepository::findById, assetRepository::findBySerialNo)
+                .orElseThrow(() -> AssetNotFoundException.bySerialNo(serialNo));
+        if (serialNoIndex.isReady()) {
+            serialNoIndex.onAdded(asset);
+        }
+        return asset;
+    }
+
     @Override
     public Asset addAsset(Asset asset) {
-        log.info("Adding new asset with serialNo: {}", asset.getSerialNo());
-        assetRepository.findBySerialNo(asset.getSerialNo())
-                .ifPresent(existing -> {
-                    throw new DuplicateSerialNoException(
-                            "Asset with serialNo '" + asset.getSerialNo() + "' already exists!"
-                    );
-                });
-        return assetRepository.save(asset);
+        log.debug("Adding new asset with serialNo: {}", asset.getSerialNo());
+        // Duplicate kontrolünü serialNo unique index'i yapar - tek round trip, race yok
+        asset.setLastModified(Instant.now());
+        Asset saved;
+        try {
+            // Coalescing açıksa eşzamanlı create'lerle birlikte tek bulk insert'te yazılır
+            saved = assetCreateBatcher.isEnabled()
+                    ? assetCreateBatcher.insert(asset)
+                    : assetRepository.insert(asset);
+        } catch (DuplicateKeyException ex) {
+            throw duplicateSerialNo(asset.getSerialNo(), ex);
+        } finally {
+            recordWrite();
+        }
+        assetStatsCounters.onAdded(saved);
+        serialNoIndex.onAdded(saved);
+        return saved;
     }
 
     @Override
     public Asset updateAsset(String id, Asset updatedAsset) {
-        log.info("Updating asset with id: {}", id);
-        Asset existing = assetRepository.findById(id)
-                .orElseThrow(() -> new AssetNotFoundException(id));
+        log.debug("Updating asset with id: {}", id);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", updatedAsset.getName());
+        fields.put("serialNo", updatedAsset.getSerialNo());
+        fields.put("assignDate", updatedAsset.getAssignDate());
+        if (updatedAsset.getCategory() != null) {
+            fields.put("category", updatedAsset.getCategory());
+        }
+        return setFields(id, fields);
+    }
 
-        // SerialNo değiştiyse duplicate kontrolü
-        if (!existing.getSerialNo().equals(updatedAsset.getSerialNo())) {
-            assetRepository.findBySerialNo(updatedAsset.getSerialNo())
-                    .ifPresent(found -> {
-                        throw new DuplicateSerialNoException(
-                                "Asset with serialNo '" + updatedAsset.getSerialNo() + "' already exists!"
-                        );
-                    });
+    @Override
+    public Asset patchAsset(String id, AssetPatch patch) {
+        log.debug("Patching asset with id: {}", id);
+        Map<String, Object> fields = patchFields(patch);
+        if (fields.isEmpty()) {
+            return assetRepository.findById(id)
+                    .orElseThrow(() -> new AssetNotFoundException(id));
         }
+        return setFields(id, fields);
+    }
 
-        existing.setName(updatedAsset.getName());
-        existing.setSerialNo(updatedAsset.getSerialNo());
-        existing.setAssignDate(updatedAsset.getAssignDate());
-        if (updatedAsset.getCategory() != null) {
-            existing.setCategory(updatedAsset.getCategory());
+    // Tek findAndModify: yoksa 404, serialNo çakışırsa unique index → 409.
+    // Repository önceki dokümanı döner, güncel hali aynı $set'i uygulayarak elde edilir
+    private Asset setFields(String id, Map<String, Object> fields) {
+        fields.put("lastModified", Instant.now());
+        try {
+            Asset previous = assetRepository.findAndSet(id, fields)
+                    .orElseThrow(() -> new AssetNotFoundException(id));
+            Asset updated = new Asset();
+            BeanUtils.copyProperties(previous, updated);
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(updated);
+            fields.forEach(wrapper::setPropertyValue);
+            updated.setVersion(previous.getVersion() == null ? 1 : previous.getVersion() + 1);
+            assetStatsCounters.onUpdated(previous, updated);
+            serialNoIndex.onSerialNoChanged(id, previous.getSerialNo(), updated.getSerialNo());
+            return updated;
+        } catch (DuplicateKeyException ex) {
+            throw duplicateSerialNo((String) fields.get("serialNo"), ex);
+        } finally {
+            recordWrite();
+            assetCache.evict(id);
         }
+    }
+
+    private static Map<String, Object> patchFields(AssetPatch patch) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (patch.getName() != null) {
+            fields.put("name", patch.getName());
+        }
+        if (patch.getSerialNo() != null) {
+            fields.put("serialNo", patch.getSerialNo());
+        }
+        if (patch.getAssignDate() != null) {
+            fields.put("assignDate", patch.getAssignDate());
+        }
+        if (patch.getCategory() != null) {
+            fields.put("category", patch.getCategory());
+        }
+        return fields;
+    }
 
-        return assetRepository.save(existing);
+    private static DuplicateSerialNoException duplicateSerialNo(String serialNo, Throwable cause) {
+        return new DuplicateSerialNoException(
+                "Asset with serialNo '" + serialNo + "' already exists!", cause);
     }
 
     @Override
     public void deleteAsset(String id) {
-        log.info("Deleting asset with id: {}", id);
-        if (!assetRepository.existsById(id)) {
-            throw new AssetNotFoundException(id);
+        log.debug("Deleting asset with id: {}", id);
+        Asset removed;
+        try {
+            removed = assetRepository.findAndRemove(id)
+                    .orElseThrow(() -> new AssetNotFoundException(id));
+        } finally {
+            recordWrite();
+            assetCache.evict(id);
+        }
+        assetStatsCounters.onDeleted(removed);
+        serialNoIndex.onDeleted(removed);
+    }
+
+    @Override
+    public AssetBulkResult bulkUpdate(AssetBulkSelection selection, AssetPatch patch) {
+        Map<String, Object> fields = patchFields(patch);
+        if (fields.isEmpty()) {
+            throw new InvalidBulkRequestException("At least one field must be set");
+        }
+        if (fields.containsKey("serialNo")) {
+            throw new InvalidBulkRequestException("serialNo is unique and cannot be bulk updated");
+        }
+        List<String> ids = resolveIds(selection);
+        log.debug("Bulk updating {} assets, fields: {}", ids.size(), fields.keySet());
+        Instant now = Instant.now();
+        long matched = 0;
+        long modified = 0;
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            // id listesiyle gelenlerde olmayan id'ler matched'a sayılmaz
+            List<String> existing = selection.getIds() == null ? chunk : assetRepository.findExistingIds(chunk);
+            matched += existing.size();
+            try {
+                modified += existing.isEmpty() ? 0 : assetRepository.updateMany(existing, fields, now);
+            } finally {
+                recordWrite();
+                existing.forEach(assetCache::evict);
+            }
+        }
+        // Tek tek önceki/sonraki değerler okunmadığı için sayaçlar yeniden kurulur
+        assetStatsCounters.invalidate();
+        return new AssetBulkResult(matched, modified);
+    }
+
+    @Override
+    public AssetBulkResult bulkDelete(AssetBulkSelection selection) {
+        List<String> ids = resolveIds(selection);
+        log.debug("Bulk deleting {} assets", ids.size());
+        long matched = 0;
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            // Tombstone sadece gerçekten var olan id'ler için yazılır
+            List<String> existing = selection.getIds() == null ? chunk : assetRepository.findExistingIds(chunk);
+            matched += existing.size();
+            try {
+                deleted += existing.isEmpty() ? 0 : assetRepository.deleteMany(existing);
+            } finally {
+                recordWrite();
+                existing.forEach(assetCache::evict);
+                serialNoIndex.onDeletedIds(existing);
+            }
+        }
+        assetStatsCounters.invalidate();
+        return new AssetBulkResult(matched, deleted);
+    }
+
+    @Override
+    public Map<String, Boolean> serialNosExist(List<String> serialNos) {
+        log.debug("Checking {} serial numbers", serialNos.size());
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        // Index'in "var" cevabı kullanılır; "yok" diyenler veritabanına sorulur (başka bir node'da oluşturulmuş
+        // olabilir). Başka bir node'da silinen serial bir sonraki yeniden kuruluma kadar "var" görünebilir
+        Set<String> existing = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String serialNo : new LinkedHashSet<>(serialNos)) {
+            if (serialNoIndex.isReady() && serialNoIndex.contains(serialNo)) {
+                existing.add(serialNo);
+            } else {
+                unknown.add(serialNo);
+            }
+        }
+        for (int from = 0; from < unknown.size(); from += BULK_CHUNK_SIZE) {
+            assetRepository.findSerialNosIn(unknown.subList(from, Math.min(from + BULK_CHUNK_SIZE, unknown.size())))
+                    .forEach(asset -> existing.add(asset.getSerialNo()));
+        }
+        serialNos.forEach(serialNo -> result.put(serialNo, existing.contains(serialNo)));
+        return result;
+    }
+
+    // id listesi tekilleştirilir; filtre ise tek projection sorgusuyla id'lere çevrilir
+    private List<String> resolveIds(AssetBulkSelection selection) {
+        boolean byIds = selection.getIds() != null;
+        boolean byFilter = selection.getFilter() != null;
+        if (byIds == byFilter) {
+            throw new InvalidBulkRequestException("Exactly one of 'ids' or 'filter' must be given");
+        }
+        if (byIds) {
+            return selection.getIds().stream().filter(Objects::nonNull).distinct().toList();
+        }
+        AssetSearchCriteria filter = selection.getFilter();
+        if (!StringUtils.hasText(filter.getQ()) && !StringUtils.hasText(filter.getCategory())) {
+            throw new InvalidBulkRequestException("Filter must contain 'q' or 'category'");
+        }
+        return assetRepository.findIds(filter);
+    }
+
+    @Override
+    public Page<Asset> getAssetsPaginated(int page, int size, AssetFields fields) {
+        log.debug("Fetching paginated assets - page: {}, size: {}, fields: {}", page, size, fields);
+        if (fields.isAll()) {
+            return assetRepository.findAll(PageRequest.of(page, size));
         }
-        assetRepository.deleteById(id);
+        return assetRepository.search(new AssetSearchCriteria(), PageRequest.of(page, size), fields);
     }
 
     @Override
-    public Page<Asset> getAssetsPaginated(int page, int size) {
-        log.info("Fetching paginated assets - page: {}, size: {}", page, size);
-        return assetRepository.findAll(PageRequest.of(page, size));
+    public CursorPage<Asset> getAssetsByCursor(String cursor, int size, String sortBy, boolean includeTotal,
+                                               AssetFields fields) {
+        log.debug("Fetching assets by cursor - size: {}, sortBy: {}, fields: {}", size, sortBy, fields);
+        boolean byAssignDate = SORT_BY_ASSIGN_DATE.equals(sortBy);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        // Bir fazla kayıt çekilir, böylece hasNext için count gerekmez
+        Sort sort = byAssignDate ? Sort.by("assignDate", "id") : Sort.by("id");
+        Pageable pageable = PageRequest.of(0, limit + 1, sort);
+
+        AssetCursor after = cursor == null || cursor.isBlank() ? null : AssetCursor.decode(cursor, byAssignDate);
+        List<Asset> assets;
+        if (!fields.isAll()) {
+            // Sonraki cursor'ı üretmek için sıralama anahtarı projection'a eklenir
+            assets = assetRepository.findByCursor(after, byAssignDate, pageable,
+                    byAssignDate ? fields.with(SORT_BY_ASSIGN_DATE) : fields);
+        } else if (after == null) {
+            assets = assetRepository.findAllBy(pageable);
+        } else {
+            assets = byAssignDate
+                    ? assetRepository.findAfterAssignDate(after.getAssignDate(), after.getId(), pageable)
+                    : assetRepository.findByIdGreaterThan(after.getId(), pageable);
+        }
+
+        boolean hasNext = assets.size() > limit;
+        List<Asset> content = hasNext ? assets.subList(0, limit) : assets;
+        String nextCursor = hasNext
+                ? AssetCursor.from(content.get(limit - 1), byAssignDate).encode()
+                : null;
+        Long total = includeTotal ? assetRepository.count() : null;
+        return new CursorPage<>(content, nextCursor, hasNext, total);
+    }
+
+    @Override
+    public AssetStats getStats() {
+        log.debug("Fetching asset statistics");
+        LocalDate today = LocalDate.now();
+        if (!assetStatsCounters.isEnabled()) {
+            return assetRepository.aggregateStats(today);
+        }
+        assetStatsCounters.resync(assetRepository::countByAssignDateAndCategory);
+        AssetStats stats = assetStatsCounters.snapshot(today);
+        stats.setLatestAsset(assetRepository.findFirstByOrderByAssignDateDescIdDesc().orElse(null));
+        return stats;
+    }
+
+    @Override
+    public Page<Asset> searchAssets(AssetSearchCriteria criteria, String sortBy, String direction, int page, int size,
+                                    AssetFields fields) {
+        log.debug("Searching assets - q: {}, category: {}, page: {}, size: {}, fields: {}",
+                criteria.getQ(), criteria.getCategory(), page, size, fields);
+        return assetRepository.search(criteria, PageRequest.of(page, size, toSort(sortBy, direction)), fields);
+    }
+
+    @Override
+    public Sort searchSort(String sortBy, String direction) {
+        return toSort(sortBy, direction);
+    }
+
+    @Override
+    public Stream<Asset> streamAssets(AssetSearchCriteria criteria, Sort sort) {
+        log.debug("Streaming assets - q: {}, category: {}", criteria.getQ(), criteria.getCategory());
+        return assetRepository.streamSearch(criteria, sort, AssetFields.all());
+    }
+
+    @Override
+    public AssetCollectionVersion getCollectionVersion() {
+        // İki index lookup + metadata'dan sayı: liste yerine sadece bunlar okunur
+        Instant lastWrite = assetRepository.findFirstByOrderByLastModifiedDesc()
+                .map(Asset::getLastModified)
+                .orElse(null);
+        Instant lastDeletion = assetRepository.findLatestDeletion().orElse(null);
+        Instant lastModified = lastWrite == null || (lastDeletion != null && lastDeletion.isAfter(lastWrite))
+                ? lastDeletion
+                : lastWrite;
+        return new AssetCollectionVersion(assetRepository.estimatedCount(), lastModified,
+                assetRepository.countWrites());
+    }
+
+    // Her yazma / silme commit'inden sonra paylaşılan sayaç artar (koleksiyon ETag'i). lastModified yazmadan önce
+    // alındığı için sonra commit edilen eski damgalı bir yazma max(lastModified)'ı değiştirmeyebilir.
+    // Sayaç yazılamazsa yazmanın kendisi başarılıdır; ETag bir sonraki yazmaya kadar eski kalabilir
+    private void recordWrite() {
+        try {
+            assetRepository.incrementWrites();
+        } catch (RuntimeException ex) {
+            log.warn("Could not increment the collection write counter: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public AssetChanges getChanges(Instant since) {
+        log.debug("Fetching asset changes since: {}", since);
+        Instant until = Instant.now();
+        // since yoksa ya da tombstone'lar TTL ile silinmiş olabilirse delta güvenilir değildir
+        if (since == null || since.isBefore(until.minus(AssetTombstone.RETENTION).plus(CHANGES_OVERLAP))) {
+            return new AssetChanges(since, until, true, List.of(), List.of());
+        }
+        Instant from = since.minus(CHANGES_OVERLAP);
+        List<Asset> upserts = assetRepository.findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(from);
+        List<String> deleted = assetRepository.findTombstonesSince(from).stream()
+                .map(AssetTombstone::getId)
+                .toList();
+        return new AssetChanges(since, until, false, upserts, deleted);
+    }
+
+    private static Sort toSort(String sortBy, String direction) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new InvalidSortException(sortBy);
+        }
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction).orElse(Sort.Direction.ASC);
+        // Eşit anahtarlarda sayfalar kaymasın diye id ile sabitlenir
+        return Sort.by(sortDirection, sortBy).and(Sort.by("id"));
     }
 }
\ No newline at end of file
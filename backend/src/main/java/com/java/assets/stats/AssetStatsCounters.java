@@ -0,0 +1,185 @@
+package com.java.assets.stats;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.model.Asset;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard için incremental sayaçlar (node-local).
+ *
+ * Toplam, kategori başına ve assignDate (gün) başına sayılar tutulur; ay/hafta sayıları
+ * en fazla 31 günlük aralığın toplamıdır, yani istek başına maliyet koleksiyon
+ * boyutundan bağımsızdır. Sayaçlar ilk kullanımda ve resyncInterval'da bir veritabanından
+ * yeniden kurulur; ilk kurulumdan önce gelen yazma olayları yok sayılır.
+ *
+ * Yeniden kurulumu aynı anda tek çağıran yapar. Aggregation okunurken gelen yazma olayları
+ * biriktirilir ve kurulan sayaçlara da uygulanır (kaybolmaz; aggregation'ın zaten gördüğü,
+ * okuma sırasında commit edilen bir yazma bir sonraki kuruluma kadar iki kez sayılabilir).
+ */
+public class AssetStatsCounters {
+
+    private final boolean enabled;
+    private final Duration resyncInterval;
+    private final Clock clock;
+
+    private final TreeMap<LocalDate, Long> byAssignDate = new TreeMap<>();
+    private final Map<String, Long> byCategory = new TreeMap<>();
+    private long total;
+    private Instant lastRebuild;
+    // Yeniden kurulum sürerken gelen değişiklikler; kurulum yoksa null
+    private List<Delta> pending;
+    // Kurulum sürerken invalidate edildi: kurulumdan sonra da yeniden kurulmalı
+    private boolean invalidatedDuringRebuild;
+
+    public AssetStatsCounters(Duration resyncInterval) {
+        this(true, resyncInterval, Clock.systemDefaultZone());
+    }
+
+    AssetStatsCounters(boolean enabled, Duration resyncInterval, Clock clock) {
+        this.enabled = enabled;
+        this.resyncInterval = resyncInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Kapalıyken istatistikler her istekte aggregation ile hesaplanır
+     */
+    public static AssetStatsCounters disabled() {
+        return new AssetStatsCounters(false, Duration.ZERO, Clock.systemDefaultZone());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized boolean needsResync() {
+        return lastRebuild == null
+                || Duration.between(lastRebuild, clock.instant()).compareTo(resyncInterval) >= 0;
+    }
+
+    /**
+     * Gerekiyorsa sayaçları aggregation'ın sonucundan yeniden kurar. Başka bir çağıran kuruyorsa
+     * aggregation tekrar çalıştırılmaz: sayaçlar kuruluysa mevcut değerlerle devam edilir, ilk kurulumsa
+     * bitmesi beklenir.
+     */
+    public void resync(Supplier<List<AssetCountBucket>> aggregation) {
+        synchronized (this) {
+            while (pending != null && lastRebuild == null) {
+                try {
+                    wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (pending != null || !needsResync()) {
+                return;
+            }
+            pending = new ArrayList<>();
+            invalidatedDuringRebuild = false;
+        }
+        List<AssetCountBucket> buckets = null;
+        try {
+            buckets = aggregation.get();
+        } finally {
+            synchronized (this) {
+                if (buckets != null) {
+                    List<Delta> changes = pending;
+                    rebuild(buckets);
+                    changes.forEach(change -> adjust(change.assignDate(), change.category(), change.delta()));
+                    if (invalidatedDuringRebuild) {
+                        lastRebuild = null;
+                    }
+                }
+                pending = null;
+                notifyAll();
+            }
+        }
+    }
+
+    public synchronized void rebuild(List<AssetCountBucket> buckets) {
+        byAssignDate.clear();
+        byCategory.clear();
+        total = 0;
+        for (AssetCountBucket bucket : buckets) {
+            adjust(bucket.getAssignDate(), bucket.getCategory(), bucket.getCount());
+        }
+        lastRebuild = clock.instant();
+    }
+
+    public synchronized void onAdded(Asset asset) {
+        record(asset, 1);
+    }
+
+    public synchronized void onUpdated(Asset before, Asset after) {
+        record(before, -1);
+        record(after, 1);
+    }
+
+    public synchronized void onDeleted(Asset asset) {
+        record(asset, -1);
+    }
+
+    /**
+     * Tek tek izlenmeyen toplu yazmalardan sonra: bir sonraki istekte sayaçlar yeniden kurulur
+     */
+    public synchronized void invalidate() {
+        lastRebuild = null;
+        if (pending != null) {
+            invalidatedDuringRebuild = true;
+        }
+    }
+
+    /**
+     * latestAsset sayaçlardan çıkarılamaz, çağıran taraf doldurur
+     */
+    public synchronized AssetStats snapshot(LocalDate today) {
+        LocalDate monthStart = today.withDayOfMonth(1);
+        long thisMonth = sum(byAssignDate.subMap(monthStart, monthStart.plusMonths(1)));
+        long thisWeek = sum(byAssignDate.tailMap(today.minusDays(7)));
+        return new AssetStats(total, thisMonth, thisWeek, null, new TreeMap<>(byCategory));
+    }
+
+    private boolean isInitialized() {
+        return enabled && lastRebuild != null;
+    }
+
+    // Mevcut sayaçlara ve (kurulum sürüyorsa) kurulacak sayaçlara
+    private void record(Asset asset, long delta) {
+        if (isInitialized()) {
+            adjust(asset.getAssignDate(), asset.getCategory(), delta);
+        }
+        if (pending != null) {
+            pending.add(new Delta(asset.getAssignDate(), asset.getCategory(), delta));
+        }
+    }
+
+    private void adjust(LocalDate assignDate, String category, long delta) {
+        total += delta;
+        if (assignDate != null) {
+            merge(byAssignDate, assignDate, delta);
+        }
+        merge(byCategory, category == null ? AssetStats.DEFAULT_CATEGORY : category, delta);
+    }
+
+    private static <K> void merge(Map<K, Long> counts, K key, long delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static long sum(Map<LocalDate, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private record Delta(LocalDate assignDate, String category, long delta) {
+    }
+}
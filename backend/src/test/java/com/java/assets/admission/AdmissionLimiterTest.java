@@ -0,0 +1,95 @@
+package com.java.assets.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdmissionLimiterTest {
+
+    @Test
+    @DisplayName("tryAcquire → should shed immediately when limit and queue are full")
+    void tryAcquire_shouldShedWhenQueueFull() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1, 1, 0, Duration.ofSeconds(1), 2.0, false);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.getRejectedQueueFull()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tryAcquire → should admit a queued request when a permit is released")
+    void tryAcquire_shouldAdmitQueuedOnRelease() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1, 1, 1, Duration.ofSeconds(10), 2.0, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.tryAcquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (limiter.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(1_000_000);
+
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("tryAcquire → should shed after max queue wait")
+    void tryAcquire_shouldShedAfterQueueTimeout() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1, 1, 1, Duration.ofMillis(20), 2.0, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(limiter.getRejectedTimeout()).isEqualTo(1);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("release → should lower the limit when latency rises and raise it again when it recovers")
+    void release_shouldAdaptLimitToLatency() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(40, 2, 100, 0, Duration.ZERO, 2.0, true);
+        long fast = TimeUnit.MILLISECONDS.toNanos(5);
+        long slow = TimeUnit.MILLISECONDS.toNanos(100);
+
+        runAtFullLoad(limiter, fast, 200);
+        int steady = limiter.getLimit();
+        assertThat(steady).isGreaterThanOrEqualTo(40);
+
+        runAtFullLoad(limiter, slow, 2);
+        int overloaded = limiter.getLimit();
+        assertThat(overloaded).isLessThan(steady / 2);
+
+        runAtFullLoad(limiter, fast, 200);
+        assertThat(limiter.getLimit()).isGreaterThan(overloaded);
+    }
+
+    // Limitin tamamı kullanılırken her iznin latency ile bırakılması
+    private static void runAtFullLoad(AdmissionLimiter limiter, long latencyNanos, int rounds)
+            throws InterruptedException {
+        for (int i = 0; i < rounds; i++) {
+            int permits = 0;
+            while (limiter.tryAcquire()) {
+                permits++;
+            }
+            for (int p = 0; p < permits; p++) {
+                limiter.release(latencyNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.java.assets.aspect;
+
+import com.java.assets.cache.AssetCache;
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.exception.AssetNotFoundException;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.service.AssetService;
+import com.java.assets.service.AssetCreateBatcher;
+import com.java.assets.service.AssetServiceImpl;
+import com.java.assets.stats.AssetStatsCounters;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock
+    private AssetStore assetRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AssetService assetService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                new AssetServiceImpl(assetRepository, AssetCache.disabled(), AssetStatsCounters.disabled(), SerialNoIndex.disabled(),
+                        AssetCreateBatcher.disabled()));
+        proxyFactory.addAspect(new LoggingAspect(meterRegistry));
+        assetService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("service call → should record a timer per method")
+    void serviceCall_shouldRecordTimer() {
+        Asset asset = new Asset("1", "Laptop Dell XPS", "SN001", LocalDate.of(2026, 2, 17), "Computer");
+        when(assetRepository.findById("1")).thenReturn(Optional.of(asset));
+
+        assetService.getAssetById("1");
+        assetService.getAssetById("1");
+
+        Timer timer = meterRegistry.get(LoggingAspect.SERVICE_TIMER)
+                .tag("method", "getAssetById")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("service call → should tag failed calls with the exception type and rethrow")
+    void serviceCall_shouldTagException() {
+        when(assetRepository.findById("404")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> assetService.getAssetById("404"))
+                .isInstanceOf(AssetNotFoundException.class);
+
+        Timer timer = meterRegistry.get(LoggingAspect.SERVICE_TIMER)
+                .tag("method", "getAssetById")
+                .tag("exception", "AssetNotFoundException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LoggingAspect.SERVICE_TIMER).tag("exception", "none").timer().count()).isZero();
+    }
+}
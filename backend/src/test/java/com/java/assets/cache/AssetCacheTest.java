@@ -0,0 +1,143 @@
+package com.java.assets.cache;
+
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.exception.AssetNotFoundException;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.service.AssetCreateBatcher;
+import com.java.assets.service.AssetServiceImpl;
+import com.java.assets.stats.AssetStatsCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetCacheTest {
+
+    @Mock
+    private AssetStore assetRepository;
+
+    private AssetCache assetCache;
+    private AssetServiceImpl assetService;
+
+    private final Asset original = new Asset("1", "Laptop Dell XPS", "SN001", LocalDate.of(2026, 2, 17), "Computer");
+    private final Asset renamed = new Asset("1", "Laptop Dell XPS 15", "SN001", LocalDate.of(2026, 2, 17), "Computer");
+
+    @BeforeEach
+    void setUp() {
+        assetCache = new AssetCache(100, Duration.ofMinutes(10));
+        assetService = new AssetServiceImpl(assetRepository, assetCache, AssetStatsCounters.disabled(), SerialNoIndex.disabled(),
+                AssetCreateBatcher.disabled());
+    }
+
+    @Test
+    @DisplayName("getAssetById → should hit the database once for repeated reads")
+    void getAssetById_shouldReadThrough() {
+        when(assetRepository.findById("1")).thenReturn(Optional.of(original));
+
+        assetService.getAssetById("1");
+        assetService.getAssetById("1");
+
+        verify(assetRepository, times(1)).findById("1");
+        assertThat(assetCache.stats().get(0).getHits()).isEqualTo(1);
+        assertThat(assetCache.stats().get(0).getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("updateAsset → next read should return the updated asset")
+    void updateAsset_shouldNotBeFollowedByStaleRead() {
+        when(assetRepository.findById("1")).thenReturn(Optional.of(original)).thenReturn(Optional.of(renamed));
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Optional.of(renamed));
+
+        assetService.getAssetById("1");
+        assetService.patchAsset("1", new AssetPatch("Laptop Dell XPS 15", null, null, null));
+
+        assertThat(assetService.getAssetById("1").getName()).isEqualTo("Laptop Dell XPS 15");
+    }
+
+    @Test
+    @DisplayName("deleteAsset → next read should be not found, also by serialNo")
+    void deleteAsset_shouldNotBeFollowedByStaleRead() {
+        when(assetRepository.findById("1")).thenReturn(Optional.of(original)).thenReturn(Optional.empty());
+        when(assetRepository.findBySerialNo("SN001")).thenReturn(Optional.of(original)).thenReturn(Optional.empty());
+        when(assetRepository.findAndRemove("1")).thenReturn(Optional.of(original));
+
+        assetService.getAssetBySerialNo("SN001");
+        assetService.getAssetById("1");
+        assetService.deleteAsset("1");
+
+        assertThatThrownBy(() -> assetService.getAssetById("1")).isInstanceOf(AssetNotFoundException.class);
+        assertThatThrownBy(() -> assetService.getAssetBySerialNo("SN001"))
+            .isInstanceOf(AssetNotFoundException.class)
+            .hasMessageContaining("serialNo");
+    }
+
+    @Test
+    @DisplayName("getAssetBySerialNo → should drop the pointer when the serialNo moved to another value")
+    void getAssetBySerialNo_shouldNotReturnAssetWhoseSerialNoChanged() {
+        Asset reSerialed = new Asset("1", "Laptop Dell XPS", "SN999", LocalDate.of(2026, 2, 17), "Computer");
+        when(assetRepository.findBySerialNo("SN001")).thenReturn(Optional.of(original)).thenReturn(Optional.empty());
+        when(assetRepository.findById("1")).thenReturn(Optional.of(reSerialed));
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Optional.of(reSerialed));
+
+        assetService.getAssetBySerialNo("SN001");
+        assetService.patchAsset("1", new AssetPatch(null, "SN999", null, null));
+
+        assertThatThrownBy(() -> assetService.getAssetBySerialNo("SN001"))
+            .isInstanceOf(AssetNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("updateAsset → a read that loaded the old value concurrently must not survive the eviction")
+    void updateAsset_shouldWinOverConcurrentInFlightLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assetRepository.findById("1"))
+            .thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(original);
+            })
+            .thenReturn(Optional.of(renamed));
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Optional.of(renamed));
+
+        CompletableFuture<Asset> slowRead = CompletableFuture.supplyAsync(() -> assetService.getAssetById("1"));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Asset> write = CompletableFuture.supplyAsync(
+            () -> assetService.patchAsset("1", new AssetPatch("Laptop Dell XPS 15", null, null, null)));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(slowRead.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Laptop Dell XPS");
+        write.get(5, TimeUnit.SECONDS);
+        assertThat(assetService.getAssetById("1").getName()).isEqualTo("Laptop Dell XPS 15");
+    }
+
+    @Test
+    @DisplayName("disabled cache → every read should go to the database")
+    void disabledCache_shouldAlwaysLoad() {
+        assetService = new AssetServiceImpl(assetRepository, AssetCache.disabled(), AssetStatsCounters.disabled(), SerialNoIndex.disabled(),
+                AssetCreateBatcher.disabled());
+        when(assetRepository.findById("1")).thenReturn(Optional.of(original));
+
+        assetService.getAssetById("1");
+        assetService.getAssetById("1");
+
+        verify(assetRepository, times(2)).findById("1");
+    }
+}
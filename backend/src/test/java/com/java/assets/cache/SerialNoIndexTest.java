@@ -0,0 +1,127 @@
+package com.java.assets.cache;
+
+import com.java.assets.model.Asset;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SerialNoIndexTest {
+
+    private static Asset asset(String id, String serialNo) {
+        return new Asset(id, "Asset " + serialNo, serialNo, null, null);
+    }
+
+    @Test
+    @DisplayName("findId → should find every serial after growing and removing entries")
+    void findId_shouldTrackWrites() {
+        SerialNoIndex index = new SerialNoIndex(0.01);
+        index.rebuild(0, List.<Asset>of().iterator());
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            String id = new ObjectId().toHexString();
+            ids.add(id);
+            index.onAdded(asset(id, "SN-" + i));
+        }
+        for (int i = 0; i < 50_000; i += 2) {
+            index.onDeleted(asset(ids.get(i), "SN-" + i));
+        }
+        index.onSerialNoChanged(ids.get(1), "SN-1", "SN-1-NEW");
+        index.onDeletedIds(List.of(ids.get(3), ids.get(5)));
+
+        assertThat(index.size()).isEqualTo(25_000 - 2);
+        assertThat(index.findId("SN-0")).isNull();
+        assertThat(index.findId("SN-1")).isNull();
+        assertThat(index.findId("SN-1-NEW")).isEqualTo(ids.get(1));
+        assertThat(index.findId("SN-3")).isNull();
+        for (int i = 7; i < 50_000; i += 2) {
+            assertThat(index.findId("SN-" + i)).isEqualTo(ids.get(i));
+        }
+        assertThat(index.findId("UNKNOWN")).isNull();
+    }
+
+    @Test
+    @DisplayName("onDeletedIds → should remove chunks in place and keep the rest reachable")
+    void onDeletedIds_shouldRemoveInPlace() {
+        SerialNoIndex index = new SerialNoIndex(0.01);
+        List<Asset> assets = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            assets.add(asset(new ObjectId().toHexString(), "SN-" + i));
+        }
+        index.rebuild(assets.size(), assets.iterator());
+        long memory = index.memoryBytes();
+
+        List<String> deleted = new ArrayList<>();
+        for (int i = 0; i < assets.size(); i += 3) {
+            deleted.add(assets.get(i).getId());
+        }
+        for (int from = 0; from < deleted.size(); from += 1000) {
+            index.onDeletedIds(deleted.subList(from, Math.min(from + 1000, deleted.size())));
+        }
+
+        assertThat(index.size()).isEqualTo(assets.size() - deleted.size());
+        assertThat(index.memoryBytes()).isEqualTo(memory);
+        for (int i = 0; i < assets.size(); i++) {
+            assertThat(index.findId("SN-" + i)).isEqualTo(i % 3 == 0 ? null : assets.get(i).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("findId → should keep ids that are not ObjectIds")
+    void findId_shouldKeepNonObjectIds() {
+        SerialNoIndex index = new SerialNoIndex(0.01);
+        index.rebuild(1, List.of(asset("custom-1", "SN1")).iterator());
+
+        assertThat(index.findId("SN1")).isEqualTo("custom-1");
+        index.onDeletedIds(List.of("custom-1"));
+        assertThat(index.contains("SN1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("rebuild → should apply writes that happen during the scan to the new table")
+    void rebuild_shouldReplayConcurrentWrites() {
+        SerialNoIndex index = new SerialNoIndex(0.01);
+        String scanned = new ObjectId().toHexString();
+        String added = new ObjectId().toHexString();
+        Iterator<Asset> scan = List.of(asset(scanned, "SN1"), asset(added, "SN2")).iterator();
+
+        index.rebuild(2, new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return scan.hasNext();
+            }
+
+            @Override
+            public Asset next() {
+                Asset next = scan.next();
+                if (next.getId().equals(scanned)) {
+                    // Tarama SN1'i okuduktan sonra silinir, SN3 eklenir
+                    index.onDeleted(asset(scanned, "SN1"));
+                    index.onAdded(asset(new ObjectId().toHexString(), "SN3"));
+                }
+                return next;
+            }
+        });
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.contains("SN1")).isFalse();
+        assertThat(index.findId("SN2")).isEqualTo(added);
+        assertThat(index.contains("SN3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("disabled → should never become ready")
+    void disabled_shouldIgnoreWrites() {
+        SerialNoIndex index = SerialNoIndex.disabled();
+        index.rebuild(1, List.of(asset(new ObjectId().toHexString(), "SN1")).iterator());
+        index.onAdded(asset(new ObjectId().toHexString(), "SN2"));
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.memoryBytes()).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.java.assets.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.java.assets.cache.AssetCache;
+import com.java.assets.config.MessageConverterConfig;
+import com.java.assets.dto.AssetCollectionVersion;
+import com.java.assets.export.AssetExportWriter;
+import com.java.assets.importer.AssetImportParser;
+import com.java.assets.model.Asset;
+import com.java.assets.service.AssetImportService;
+import com.java.assets.service.AssetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AssetController.class)
+@Import(MessageConverterConfig.class)
+class AssetControllerContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssetService assetService;
+    @MockBean
+    private AssetImportService assetImportService;
+    @MockBean
+    private AssetImportParser assetImportParser;
+    @MockBean
+    private AssetCache assetCache;
+    @MockBean
+    private AssetExportWriter assetExportWriter;
+
+    @BeforeEach
+    void setUp() {
+        when(assetService.getCollectionVersion())
+                .thenReturn(new AssetCollectionVersion(1, Instant.parse("2026-02-17T10:00:00Z"), 1));
+        when(assetService.getAllAssets(any())).thenReturn(List.of(
+                new Asset("1", "Laptop", "SN1", LocalDate.of(2026, 2, 17), "Computer")));
+    }
+
+    @Test
+    @DisplayName("getAllAssets → should answer JSON when no Accept header is sent")
+    void getAllAssets_shouldDefaultToJson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/assets")).andExpect(status().isOk()).andReturn();
+
+        assertThat(MediaType.parseMediaType(result.getResponse().getContentType()))
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        JsonNode body = new ObjectMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get(0).get("serialNo").asText()).isEqualTo("SN1");
+        assertThat(body.get(0).get("assignDate").asText()).isEqualTo("2026-02-17");
+    }
+
+    @Test
+    @DisplayName("getAllAssets → should answer binary CBOR and Smile bodies with the same fields as JSON")
+    void getAllAssets_shouldNegotiateBinaryFormats() throws Exception {
+        assertBinary(CBOR, new ObjectMapper(new CBORFactory()));
+        assertBinary(SMILE, new ObjectMapper(new SmileFactory()));
+    }
+
+    private void assertBinary(MediaType mediaType, ObjectMapper decoder) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/assets").accept(mediaType))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(MediaType.parseMediaType(result.getResponse().getContentType())).isEqualTo(mediaType);
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        byte[] bytes = result.getResponse().getContentAsByteArray();
+        // JSON olarak okunamaz (ilk byte '[' değil) ama kendi formatıyla aynı alanlara çözülür
+        assertThat(bytes[0]).isNotEqualTo((byte) '[');
+        JsonNode body = decoder.readTree(bytes);
+        assertThat(body.get(0).get("serialNo").asText()).isEqualTo("SN1");
+        assertThat(body.get(0).get("assignDate").asText()).isEqualTo("2026-02-17");
+    }
+}
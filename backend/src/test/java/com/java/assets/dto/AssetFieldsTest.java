@@ -0,0 +1,28 @@
+package com.java.assets.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.assets.model.Asset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AssetFieldsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("view → should omit unread fields only for projected responses")
+    void view_shouldOmitNullsOnlyWhenProjected() throws Exception {
+        Asset asset = new Asset("1", "Laptop", "SN1", LocalDate.of(2026, 2, 17), null);
+        AssetFields projection = AssetFields.parse("name");
+
+        String full = objectMapper.writeValueAsString(AssetFields.all().view(asset));
+        String projected = objectMapper.writeValueAsString(projection.view(projection.project(asset)));
+
+        assertThat(full).contains("\"category\":null", "\"version\":null");
+        assertThat(projected).isEqualTo("{\"id\":\"1\",\"name\":\"Laptop\"}");
+    }
+}
@@ -0,0 +1,166 @@
+package com.java.assets.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.assets.model.Asset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AssetEventHubTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    // Sender işleri elle çalıştırılır: yavaş client simülasyonu
+    private final List<Runnable> pending = new ArrayList<>();
+
+    private final AssetEventHub hub =
+            new AssetEventHub(objectMapper, 4, 3, Duration.ofMinutes(1), Duration.ofMillis(20), pending::add, null);
+
+    @Test
+    @DisplayName("publish → should send the same event to every subscriber")
+    void publish_shouldFanOut() {
+        CapturingEmitter first = subscribe(null);
+        CapturingEmitter second = subscribe(null);
+
+        hub.publish("t1", AssetEvent.upsert(new Asset("1", "Laptop", "SN1", LocalDate.of(2026, 2, 1), "Computer")));
+        drain();
+
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+        for (CapturingEmitter emitter : List.of(first, second)) {
+            assertThat(emitter.frames).hasSize(2);
+            assertThat(emitter.frames.get(0)).isEqualTo(":connected\n\n");
+            assertThat(emitter.frames.get(1))
+                    .startsWith("event:upsert\n")
+                    .contains("id:t1\n", "\"serialNo\":\"SN1\"");
+        }
+    }
+
+    @Test
+    @DisplayName("publish → should replace a full buffer with a resync event and continue after it")
+    void publish_shouldResyncSlowSubscriber() {
+        CapturingEmitter slow = subscribe(null);
+
+        for (int i = 0; i < 10; i++) {
+            hub.publish("t" + i, AssetEvent.delete(String.valueOf(i)));
+        }
+        drain();
+
+        // Buffer (4) taştığında bekleyenler atılır; resync'ten sonraki event'ler normal akar
+        assertThat(slow.frames.get(0)).startsWith("event:resync\n");
+        assertThat(slow.frames).hasSizeLessThan(4);
+        assertThat(slow.frames.get(slow.frames.size() - 1)).contains("id:t9\n");
+    }
+
+    @Test
+    @DisplayName("subscribe → should replay events after Last-Event-ID or resync when it is unknown")
+    void subscribe_shouldReplayMissedEvents() {
+        for (int i = 1; i <= 4; i++) {
+            hub.publish("t" + i, AssetEvent.delete(String.valueOf(i)));
+        }
+
+        CapturingEmitter resumed = subscribe("t2");
+        CapturingEmitter expired = subscribe("t1");
+        drain();
+
+        assertThat(resumed.frames).hasSize(3);
+        assertThat(resumed.frames.get(1)).contains("id:t3\n");
+        assertThat(resumed.frames.get(2)).contains("id:t4\n");
+        assertThat(expired.frames).hasSize(2);
+        assertThat(expired.frames.get(1)).startsWith("event:resync\n");
+    }
+
+    @Test
+    @DisplayName("expireStuckWriters → should drop a subscriber whose write exceeds the write timeout")
+    void expireStuckWriters_shouldDropBlockedSubscriber() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter stuck = new BlockingEmitter(writing, release);
+        hub.subscribe(stuck, null);
+        CapturingEmitter healthy = subscribe(null);
+        Runnable stuckDrain = pending.remove(0);
+        drain();
+
+        Thread sender = new Thread(stuckDrain);
+        sender.start();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        hub.expireStuckWriters();
+
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+        assertThat(stuck.failure).isInstanceOf(TimeoutException.class);
+        hub.publish("t1", AssetEvent.delete("1"));
+        drain();
+        assertThat(healthy.frames).hasSize(2);
+
+        release.countDown();
+        sender.join(5000);
+        assertThat(stuck.sent).isEqualTo(1);
+    }
+
+    private CapturingEmitter subscribe(String lastEventId) {
+        CapturingEmitter emitter = new CapturingEmitter();
+        hub.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            pending.remove(0).run();
+        }
+    }
+
+    // Okumayan client: socket'i dolmuş gibi ilk yazmada bloklanır
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch writing;
+        private final CountDownLatch release;
+        private volatile Throwable failure;
+        private volatile int sent;
+
+        private BlockingEmitter(CountDownLatch writing, CountDownLatch release) {
+            this.writing = writing;
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sent++;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure = ex;
+        }
+    }
+
+    private static final class CapturingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.java.assets.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.exception.InvalidExportFormatException;
+import com.java.assets.importer.AssetImportParser;
+import com.java.assets.model.Asset;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AssetExportWriterTest {
+
+    private final AssetExportWriter writer = new AssetExportWriter();
+
+    @Test
+    @DisplayName("writeCsv → should write header and escape quotes and commas")
+    void writeCsv_shouldEscapeValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeCsv(Stream.of(
+                new Asset("1", "Dell, \"XPS\" 13", "SN001", LocalDate.of(2026, 2, 17), "Computer"),
+                new Asset("2", "Mouse", "SN002", null, null)), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,name,serialNo,assignDate,category\r\n"
+                        + "1,\"Dell, \"\"XPS\"\" 13\",SN001,2026-02-17,Computer\r\n"
+                        + "2,Mouse,SN002,,\r\n");
+    }
+
+    @Test
+    @DisplayName("writeXlsx → should write more rows than the in-memory window")
+    void writeXlsx_shouldStreamRowsBeyondWindow() throws Exception {
+        int rows = AssetExportWriter.XLSX_ROW_WINDOW * 3;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeXlsx(IntStream.range(0, rows)
+                .mapToObj(i -> new Asset(String.valueOf(i), "Asset " + i, "SN" + i, LocalDate.of(2026, 2, 17), "Other")),
+                out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Assets");
+            assertThat(sheet.getLastRowNum()).isEqualTo(rows);
+            Row last = sheet.getRow(rows);
+            assertThat(last.getCell(2).getStringCellValue()).isEqualTo("SN" + (rows - 1));
+            assertThat(last.getCell(3).getLocalDateTimeCellValue().toLocalDate()).isEqualTo(LocalDate.of(2026, 2, 17));
+        }
+    }
+
+    @Test
+    @DisplayName("writeCsv → should prefix values that spreadsheets would run as formulas")
+    void writeCsv_shouldNeutralizeFormulas() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeCsv(Stream.of(
+                new Asset("1", "=HYPERLINK(\"x\",\"y\")", "-SN1", null, "@Other"),
+                new Asset("2", "\tTab", "+SN2", null, "\rCR"),
+                new Asset("3", "'=quoted", "SN3", null, "O'Brien")), out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith(
+                "1,\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\",'-SN1,,'@Other\r\n"
+                        + "2,'\tTab,'+SN2,,\"'\rCR\"\r\n"
+                        + "3,''=quoted,SN3,,O'Brien\r\n");
+    }
+
+    @Test
+    @DisplayName("writeCsv → should produce a file that imports back to the same values")
+    void writeCsv_shouldRoundTripThroughImport() throws Exception {
+        List<Asset> assets = List.of(
+                new Asset("1", "=SUM(A1:A2)", "-SN1", LocalDate.of(2026, 2, 17), "@Other"),
+                new Asset("2", "\tTabbed", "'+SN2", null, "O'Brien"),
+                new Asset("3", "Dell, \"XPS\" 13", "SN3", LocalDate.of(2026, 2, 18), null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeCsv(assets.stream(), out);
+
+        AssetImportParser parser = new AssetImportParser(new ObjectMapper().registerModule(new JavaTimeModule()));
+        List<Asset> imported;
+        try (Stream<AssetImportRow> rows = parser.parse(new ByteArrayInputStream(out.toByteArray()),
+                AssetImportParser.TEXT_CSV)) {
+            imported = rows.map(AssetImportRow::getAsset).toList();
+        }
+
+        assertThat(imported).usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+                .containsExactlyElementsOf(assets);
+    }
+
+    @Test
+    @DisplayName("writeXlsx → should continue on a new sheet when a sheet is full")
+    void writeXlsx_shouldRollOverToNewSheet() throws Exception {
+        AssetExportWriter smallSheets = new AssetExportWriter(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        smallSheets.writeXlsx(IntStream.range(0, 7)
+                .mapToObj(i -> new Asset(String.valueOf(i), "Asset " + i, "SN" + i, null, "Other")), out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(3);
+            assertThat(workbook.getSheet("Assets").getLastRowNum()).isEqualTo(3);
+            Sheet last = workbook.getSheet("Assets 3");
+            assertThat(last.getRow(0).getCell(0).getStringCellValue()).isEqualTo("id");
+            assertThat(last.getLastRowNum()).isEqualTo(1);
+            assertThat(last.getRow(1).getCell(2).getStringCellValue()).isEqualTo("SN6");
+        }
+    }
+
+    @Test
+    @DisplayName("acceptsGzip → should honour q-values and wildcards")
+    void acceptsGzip_shouldParseQValues() {
+        assertThat(AssetExportWriter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(AssetExportWriter.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(AssetExportWriter.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(AssetExportWriter.acceptsGzip("gzip; Q=0.0")).isFalse();
+        assertThat(AssetExportWriter.acceptsGzip("*;q=0.1")).isTrue();
+        assertThat(AssetExportWriter.acceptsGzip("identity")).isFalse();
+        assertThat(AssetExportWriter.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ExportFormat.of → should be case-insensitive and reject unknown formats")
+    void exportFormat_shouldParseCaseInsensitive() {
+        assertThat(ExportFormat.of("xlsx")).isEqualTo(ExportFormat.XLSX);
+        assertThatThrownBy(() -> ExportFormat.of("pdf")).isInstanceOf(InvalidExportFormatException.class);
+    }
+}
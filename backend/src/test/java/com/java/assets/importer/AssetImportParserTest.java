@@ -0,0 +1,78 @@
+package com.java.assets.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.exception.InvalidImportFileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AssetImportParserTest {
+
+    private final AssetImportParser parser = new AssetImportParser(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    private List<AssetImportRow> parse(String body, MediaType type) {
+        try (Stream<AssetImportRow> rows = parser.parse(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), type)) {
+            return rows.toList();
+        }
+    }
+
+    @Test
+    @DisplayName("parse → should read JSON array elements and flag unreadable ones")
+    void parse_shouldReadJsonArray() {
+        List<AssetImportRow> rows = parse("""
+                [ {"name":"Laptop","serialNo":"SN1","assignDate":"2026-02-17","category":"Computer"},
+                  {"name":"Bad","serialNo":"SN2","assignDate":"17/02/2026"},
+                  42 ]""", MediaType.APPLICATION_JSON);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getAsset().getAssignDate()).isEqualTo(LocalDate.of(2026, 2, 17));
+        assertThat(rows.get(1).getError()).isNotNull();
+        assertThat(rows.get(2).getError()).isEqualTo("Row is not a JSON object");
+    }
+
+    @Test
+    @DisplayName("parse → should read NDJSON lines")
+    void parse_shouldReadNdjson() {
+        List<AssetImportRow> rows = parse("""
+                {"name":"Laptop","serialNo":"SN1","assignDate":"2026-02-17"}
+
+                {not json
+                """, MediaType.APPLICATION_NDJSON);
+
+        assertThat(rows).extracting(AssetImportRow::getRow).containsExactly(1, 2);
+        assertThat(rows.get(0).getAsset().getSerialNo()).isEqualTo("SN1");
+        assertThat(rows.get(1).getError()).isEqualTo("Malformed JSON line");
+    }
+
+    @Test
+    @DisplayName("parse → should map CSV columns by header with quoted values")
+    void parse_shouldReadCsvByHeader() {
+        List<AssetImportRow> rows = parse("""
+                serialNo,name,assignDate,category
+                SN1,"Dell, ""XPS"" 13",2026-02-17,Computer
+                SN2,Monitor,yesterday,
+                """, AssetImportParser.TEXT_CSV);
+
+        assertThat(rows.get(0).getAsset().getName()).isEqualTo("Dell, \"XPS\" 13");
+        assertThat(rows.get(0).getAsset().getCategory()).isEqualTo("Computer");
+        assertThat(rows.get(1).getError()).contains("yyyy-MM-dd");
+    }
+
+    @Test
+    @DisplayName("parse → should reject CSV without required columns")
+    void parse_shouldRejectCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> parse("name,category\nLaptop,Computer\n", AssetImportParser.TEXT_CSV))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+}
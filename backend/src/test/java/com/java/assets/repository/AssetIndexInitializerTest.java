@@ -0,0 +1,51 @@
+package com.java.assets.repository;
+
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AssetIndexInitializerTest {
+
+    @Test
+    @DisplayName("ensureIndexes → should create the annotated indexes of every document type")
+    void ensureIndexes_shouldCreateAnnotatedIndexes() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        mappingContext.setInitialEntitySet(Set.of(Asset.class, AssetTombstone.class));
+        mappingContext.initialize();
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        IndexOperations assetIndexes = mock(IndexOperations.class);
+        IndexOperations tombstoneIndexes = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps(Asset.class)).thenReturn(assetIndexes);
+        when(mongoTemplate.indexOps(AssetTombstone.class)).thenReturn(tombstoneIndexes);
+
+        AssetIndexInitializer initializer = new AssetIndexInitializer(mongoTemplate, mappingContext, true);
+        assertThat(initializer.health().getStatus()).isEqualTo(Status.DOWN);
+        initializer.ensureIndexes();
+
+        ArgumentCaptor<IndexDefinition> indexes = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(assetIndexes, atLeastOnce()).ensureIndex(indexes.capture());
+        assertThat(indexes.getAllValues())
+            .anySatisfy(index -> {
+                assertThat(index.getIndexKeys()).containsKey("serialNo");
+                assertThat(index.getIndexOptions().getBoolean("unique")).isTrue();
+            })
+            .anySatisfy(index -> assertThat(index.getIndexKeys()).containsKeys("assignDate", "_id"));
+        verify(tombstoneIndexes).ensureIndex(argThat(index -> index.getIndexOptions().containsKey("expireAfterSeconds")));
+        assertThat(initializer.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
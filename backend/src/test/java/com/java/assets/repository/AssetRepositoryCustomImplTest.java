@@ -0,0 +1,83 @@
+package com.java.assets.repository;
+
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.exception.InvalidFieldsException;
+import com.java.assets.model.Asset;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AssetRepositoryCustomImplTest {
+
+    @Test
+    @DisplayName("buildQuery → should match lowercase name or serialNo copies by case-sensitive prefix")
+    void buildQuery_shouldUsePrefixRegexOnLowercaseKeys() {
+        Query query = AssetRepositoryCustomImpl.buildQuery(new AssetSearchCriteria("LAP.", null, false));
+
+        Document filter = query.getQueryObject();
+        List<?> or = filter.get("$or", List.class);
+        assertThat(or).hasSize(2);
+
+        // "i" flag'i olmadan: index'te ^önek aralık taraması
+        Pattern namePattern = (Pattern) ((Document) or.get(0)).get(AssetSearchKeys.NAME);
+        assertThat(namePattern.pattern()).isEqualTo("^" + Pattern.quote("lap."));
+        assertThat(namePattern.flags() & Pattern.CASE_INSENSITIVE).isZero();
+        assertThat(namePattern.matcher(AssetSearchKeys.of("LAP. Dell")).find()).isTrue();
+        assertThat(namePattern.matcher("laptop").find()).isFalse();
+        assertThat(((Document) or.get(1))).containsKey(AssetSearchKeys.SERIAL_NO);
+    }
+
+    @Test
+    @DisplayName("onBeforeSave → should store lowercase copies of name and serialNo")
+    void onBeforeSave_shouldWriteLowercaseKeys() {
+        Document document = new Document();
+        new AssetSearchKeys(List::of).onBeforeSave(
+            new Asset(null, "Dell Laptop", "SN-AbC", LocalDate.of(2024, 3, 15), "Computer"), document, "assets");
+
+        assertThat(document).containsEntry(AssetSearchKeys.NAME, "dell laptop")
+            .containsEntry(AssetSearchKeys.SERIAL_NO, "sn-abc");
+        Update update = new Update();
+        AssetSearchKeys.set(update, Map.of("serialNo", "SN-X"));
+        assertThat(update.getUpdateObject().get("$set", Document.class))
+            .containsEntry(AssetSearchKeys.SERIAL_NO, "sn-x").doesNotContainKey(AssetSearchKeys.NAME);
+    }
+
+    @Test
+    @DisplayName("buildQuery → should combine category filter with text search")
+    void buildQuery_shouldCombineCategoryWithTextSearch() {
+        Query query = AssetRepositoryCustomImpl.buildQuery(new AssetSearchCriteria("dell", "Computer", true));
+
+        Document filter = query.getQueryObject();
+        assertThat(filter.get("category")).isEqualTo("Computer");
+        assertThat(filter.get("$text", Document.class).get("$search")).isEqualTo("dell");
+        assertThat(filter).doesNotContainKey("$or");
+    }
+
+    @Test
+    @DisplayName("buildQuery → should be empty when no filter is given")
+    void buildQuery_shouldBeEmpty_whenNoFilter() {
+        assertThat(AssetRepositoryCustomImpl.buildQuery(new AssetSearchCriteria()).getQueryObject()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("project → should include only the requested fields and always the id")
+    void project_shouldIncludeRequestedFields() {
+        Query query = AssetRepositoryCustomImpl.project(new Query(), AssetFields.parse("name, serialNo"));
+
+        assertThat(query.getFieldsObject()).isEqualTo(new Document("id", 1).append("name", 1).append("serialNo", 1));
+        assertThat(AssetRepositoryCustomImpl.project(new Query(), AssetFields.parse(null)).getFieldsObject()).isEmpty();
+        assertThatThrownBy(() -> AssetFields.parse("name,password"))
+            .isInstanceOf(InvalidFieldsException.class)
+            .hasMessageContaining("password");
+    }
+}
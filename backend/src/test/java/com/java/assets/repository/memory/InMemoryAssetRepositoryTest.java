@@ -0,0 +1,222 @@
+package com.java.assets.repository.memory;
+
+import com.java.assets.cache.AssetCache;
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.dto.CursorPage;
+import com.java.assets.exception.DuplicateSerialNoException;
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import com.java.assets.service.AssetCreateBatcher;
+import com.java.assets.service.AssetServiceImpl;
+import com.java.assets.stats.AssetStatsCounters;
+import com.mongodb.bulk.BulkWriteError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryAssetRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("insert → should reject duplicate serialNo and report bulk duplicates by index")
+    void insert_shouldRejectDuplicateSerialNo() {
+        InMemoryAssetRepository repository = InMemoryAssetRepository.transientStore();
+        Asset saved = repository.insert(asset("Laptop", "SN-1", DAY, "Computer"));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        assertThatThrownBy(() -> repository.insert(asset("Other", "SN-1", DAY, null)))
+            .isInstanceOf(DuplicateKeyException.class)
+            .hasMessageContaining("SN-1");
+
+        List<BulkWriteError> errors = repository.insertUnordered(List.of(
+            asset("A", "SN-2", DAY, null), asset("B", "SN-1", DAY, null), asset("C", "SN-3", DAY, null)));
+
+        assertThat(errors).singleElement().satisfies(error -> {
+            assertThat(error.getIndex()).isEqualTo(1);
+            assertThat(error.getCode()).isEqualTo(11000);
+        });
+        assertThat(repository.count()).isEqualTo(3);
+        assertThat(repository.findBySerialNo("SN-1")).get().extracting(Asset::getName).isEqualTo("Laptop");
+    }
+
+    @Test
+    @DisplayName("search → should page sorted results with filter, projection and total count")
+    void search_shouldPageSortedResults() {
+        InMemoryAssetRepository repository = InMemoryAssetRepository.transientStore();
+        for (int i = 0; i < 7; i++) {
+            repository.insert(asset("Laptop " + i, "LP-" + i, DAY.plusDays(i % 3), "Computer"));
+        }
+        repository.insert(asset("Desk", "DK-1", DAY, "Furniture"));
+        repository.insert(asset("laptop stand", "ST-1", DAY, null));
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria("LAP", "Computer", false);
+        PageRequest secondPage = PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "name").and(Sort.by("id")));
+        Page<Asset> page = repository.search(criteria, secondPage, AssetFields.parse("name"));
+
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getContent()).extracting(Asset::getName).containsExactly("Laptop 3", "Laptop 2", "Laptop 1");
+        assertThat(page.getContent()).allSatisfy(asset -> {
+            assertThat(asset.getId()).isNotNull();
+            assertThat(asset.getSerialNo()).isNull();
+        });
+        assertThat(repository.search(new AssetSearchCriteria("lap", null, false), PageRequest.of(0, 10),
+            AssetFields.all()).getTotalElements()).isEqualTo(8);
+        assertThat(repository.search(new AssetSearchCriteria("stand", null, true), PageRequest.of(0, 10),
+            AssetFields.all()).getContent()).extracting(Asset::getSerialNo).containsExactly("ST-1");
+    }
+
+    @Test
+    @DisplayName("findByCursor → should walk assignDate order without gaps or repeats on ties")
+    void findByCursor_shouldWalkAssignDateOrder() {
+        InMemoryAssetRepository repository = InMemoryAssetRepository.transientStore();
+        for (int i = 0; i < 10; i++) {
+            repository.insert(asset("Asset " + i, "SN-" + i, i % 4 == 0 ? null : DAY.plusDays(i % 3), null));
+        }
+        PageRequest pageable = PageRequest.of(0, 3, Sort.by("assignDate", "id"));
+
+        List<Asset> walked = new ArrayList<>();
+        AssetCursor cursor = null;
+        List<Asset> slice;
+        do {
+            slice = repository.findByCursor(cursor, true, pageable, AssetFields.all());
+            walked.addAll(slice);
+            cursor = slice.isEmpty() ? null : AssetCursor.from(slice.get(slice.size() - 1), true);
+        } while (slice.size() == pageable.getPageSize());
+
+        assertThat(walked).extracting(Asset::getId)
+            .containsExactlyElementsOf(repository.findAll(Sort.by("assignDate", "id")).stream()
+                .map(Asset::getId).toList());
+        assertThat(walked.get(0).getAssignDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("findAndSet → should return the previous document and reject a taken serialNo")
+    void findAndSet_shouldReturnPreviousDocument() {
+        InMemoryAssetRepository repository = InMemoryAssetRepository.transientStore();
+        Asset laptop = repository.insert(asset("Laptop", "SN-1", DAY, "Computer"));
+        repository.insert(asset("Desk", "SN-2", DAY, "Furniture"));
+
+        Asset previous = repository.findAndSet(laptop.getId(), Map.of("name", "Laptop Pro", "serialNo", "SN-9"))
+            .orElseThrow();
+
+        assertThat(previous.getName()).isEqualTo("Laptop");
+        Asset current = repository.findById(laptop.getId()).orElseThrow();
+        assertThat(current.getName()).isEqualTo("Laptop Pro");
+        assertThat(current.getVersion()).isEqualTo(1);
+        assertThat(repository.findBySerialNo("SN-1")).isEmpty();
+        assertThatThrownBy(() -> repository.findAndSet(laptop.getId(), Map.of("serialNo", "SN-2")))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(repository.findAndSet("missing", Map.of("name", "x"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteMany → should remove assets, leave tombstones and keep stats consistent")
+    void deleteMany_shouldLeaveTombstones() {
+        InMemoryAssetRepository repository = InMemoryAssetRepository.transientStore();
+        Asset first = repository.insert(asset("A", "SN-1", DAY, "Computer"));
+        Asset second = repository.insert(asset("B", "SN-2", DAY.minusMonths(1), null));
+        Instant before = Instant.now();
+
+        assertThat(repository.updateMany(List.of(first.getId(), second.getId()), Map.of("category", "Computer"),
+            Instant.now())).isEqualTo(1);
+        assertThat(repository.deleteMany(List.of(first.getId(), "missing"))).isEqualTo(1);
+
+        assertThat(repository.findTombstonesSince(before)).extracting(AssetTombstone::getId)
+            .containsExactlyInAnyOrder(first.getId(), "missing");
+        assertThat(repository.findBySerialNo("SN-1")).isEmpty();
+        AssetStats stats = repository.aggregateStats(DAY);
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getAddedThisMonth()).isZero();
+        assertThat(stats.getByCategory()).containsExactly(Map.entry("Computer", 1L));
+        assertThat(stats.getLatestAsset().getId()).isEqualTo(second.getId());
+    }
+
+    @Test
+    @DisplayName("open → should recover the snapshot plus newer log records and ignore a torn tail")
+    void open_shouldRecoverSnapshotAndLog() throws IOException {
+        String renamedId;
+        try (InMemoryAssetRepository repository = InMemoryAssetRepository.open(directory, false)) {
+            for (int i = 0; i < 50; i++) {
+                repository.insert(asset("Asset " + i, "SN-" + i, DAY, "Computer"));
+            }
+            repository.deleteMany(List.of(repository.findBySerialNo("SN-0").orElseThrow().getId()));
+            repository.checkpoint();
+
+            renamedId = repository.findBySerialNo("SN-1").orElseThrow().getId();
+            repository.findAndSet(renamedId, Map.of("serialNo", "SN-100"));
+            repository.insert(asset("Late", "SN-1", DAY, null));
+            repository.sync();
+        }
+        // Crash sırasında yarıda kalmış bir yazma
+        Path log = AssetWriteLog.list(directory).get(AssetWriteLog.list(directory).size() - 1);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.APPEND)) {
+            byte[] record = AssetRecords.put(asset("Torn", "SN-200", DAY, null));
+            channel.write(ByteBuffer.wrap(record, 0, record.length / 2));
+        }
+
+        try (InMemoryAssetRepository recovered = InMemoryAssetRepository.open(directory, false)) {
+            assertThat(recovered.count()).isEqualTo(50);
+            assertThat(recovered.findBySerialNo("SN-100")).get().extracting(Asset::getId).isEqualTo(renamedId);
+            assertThat(recovered.findBySerialNo("SN-1")).get().extracting(Asset::getName).isEqualTo("Late");
+            assertThat(recovered.findBySerialNo("SN-0")).isEmpty();
+            assertThat(recovered.findBySerialNo("SN-200")).isEmpty();
+            assertThat(recovered.findTombstonesSince(Instant.EPOCH)).hasSize(1);
+            assertThatThrownBy(() -> recovered.insert(asset("Dup", "SN-100", DAY, null)))
+                .isInstanceOf(DuplicateKeyException.class);
+        }
+        assertThat(Files.exists(directory.resolve(AssetSnapshotFile.FILE_NAME))).isTrue();
+    }
+
+    @Test
+    @DisplayName("AssetServiceImpl → should map duplicates and paginate by cursor on the in-memory store")
+    void assetService_shouldWorkOnInMemoryStore() {
+        InMemoryAssetRepository repository = InMemoryAssetRepository.transientStore();
+        AssetServiceImpl service = new AssetServiceImpl(repository, AssetCache.disabled(),
+            AssetStatsCounters.disabled(), SerialNoIndex.disabled(), AssetCreateBatcher.disabled());
+        for (int i = 0; i < 5; i++) {
+            service.addAsset(asset("Asset " + i, "SN-" + i, DAY, null));
+        }
+
+        assertThatThrownBy(() -> service.addAsset(asset("Dup", "SN-3", DAY, null)))
+            .isInstanceOf(DuplicateSerialNoException.class);
+        CursorPage<Asset> first = service.getAssetsByCursor(null, 3, "id", true, AssetFields.all());
+        CursorPage<Asset> second = service.getAssetsByCursor(first.getNextCursor(), 3, "id", false, AssetFields.all());
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    private static Asset asset(String name, String serialNo, LocalDate assignDate, String category) {
+        Asset asset = new Asset(null, name, serialNo, assignDate, category);
+        asset.setLastModified(Instant.now());
+        return asset;
+    }
+}
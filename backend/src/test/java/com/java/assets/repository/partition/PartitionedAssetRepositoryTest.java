@@ -0,0 +1,339 @@
+package com.java.assets.repository.partition;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.model.Asset;
+import com.java.assets.model.AssetTombstone;
+import com.java.assets.repository.memory.InMemoryAssetRepository;
+import com.mongodb.bulk.BulkWriteError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PartitionedAssetRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+    private static final List<String> CATEGORIES = Arrays.asList("Computer", "Furniture", "Phone", null);
+
+    private final List<PartitionedAssetRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(PartitionedAssetRepository::close);
+    }
+
+    @Test
+    @DisplayName("insert → should route each serialNo to one partition and reject duplicates store-wide")
+    void insert_shouldRouteBySerialNo() {
+        List<InMemoryAssetRepository> partitions = stores(3);
+        PartitionedAssetRepository repository = bySerialNo(partitions);
+        for (int i = 0; i < 30; i++) {
+            repository.insert(asset("Asset " + i, "SN-" + i, DAY, "Computer"));
+        }
+
+        SerialNoPartitioner partitioner = new SerialNoPartitioner(3);
+        for (int i = 0; i < 30; i++) {
+            Asset stored = repository.findBySerialNo("SN-" + i).orElseThrow();
+            int home = partitioner.partitionOf(stored);
+            assertThat(partitions.get(home).findById(stored.getId())).isPresent();
+            assertThat(partitions).filteredOn(partition -> partition.existsById(stored.getId())).hasSize(1);
+            assertThat(repository.findById(stored.getId())).get().extracting(Asset::getName).isEqualTo("Asset " + i);
+        }
+        assertThat(partitions).allSatisfy(partition -> assertThat(partition.count()).isPositive());
+        assertThat(repository.count()).isEqualTo(30);
+        assertThatThrownBy(() -> repository.insert(asset("Dup", "SN-7", DAY, "Phone")))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(repository.findSerialNosIn(List.of("SN-1", "SN-2", "missing")))
+            .extracting(Asset::getSerialNo).containsExactlyInAnyOrder("SN-1", "SN-2");
+    }
+
+    @Test
+    @DisplayName("incrementWrites → should count every write once and skip an unreachable partition")
+    void incrementWrites_shouldSumPartitionCounters() {
+        List<InMemoryAssetRepository> partitions = new ArrayList<>(stores(2));
+        InMemoryAssetRepository down = spy(InMemoryAssetRepository.transientStore());
+        doThrow(new IllegalStateException("down")).when(down).incrementWrites();
+        partitions.add(down);
+        PartitionedAssetRepository repository = bySerialNo(partitions);
+
+        for (int i = 0; i < 20; i++) {
+            repository.incrementWrites();
+        }
+
+        assertThat(repository.countWrites()).isEqualTo(20);
+        assertThat(down.countWrites()).isZero();
+    }
+
+    @Test
+    @DisplayName("search → should merge sorted pages, counts, cursors and streams like a single store")
+    void search_shouldMergeLikeSingleStore() {
+        PartitionedAssetRepository repository = bySerialNo(stores(3));
+        InMemoryAssetRepository oracle = InMemoryAssetRepository.transientStore();
+        for (int i = 0; i < 40; i++) {
+            Asset asset = repository.insert(asset("Asset " + (i % 13), "SN-" + i,
+                i % 5 == 0 ? null : DAY.plusDays(i % 7), CATEGORIES.get(i % CATEGORIES.size())));
+            oracle.insert(copy(asset));
+        }
+
+        List<Sort> sorts = List.of(Sort.unsorted(), Sort.by(Sort.Direction.DESC, "name").and(Sort.by("id")),
+            Sort.by("assignDate", "id"), Sort.by(Sort.Direction.DESC, "category", "assignDate").and(Sort.by("id")));
+        List<AssetSearchCriteria> filters = List.of(new AssetSearchCriteria(null, null, false),
+            new AssetSearchCriteria("asset 1", null, false), new AssetSearchCriteria(null, "Computer", false));
+        for (Sort sort : sorts) {
+            for (AssetSearchCriteria criteria : filters) {
+                for (int page = 0; page < 4; page++) {
+                    PageRequest pageable = PageRequest.of(page, 7, sort);
+                    Page<Asset> merged = repository.search(criteria, pageable, AssetFields.parse("name"));
+                    Page<Asset> expected = oracle.search(criteria, pageable, AssetFields.parse("name"));
+
+                    assertThat(merged.getTotalElements()).isEqualTo(expected.getTotalElements());
+                    assertThat(merged.getContent()).extracting(Asset::getId)
+                        .containsExactlyElementsOf(expected.getContent().stream().map(Asset::getId).toList());
+                    assertThat(merged.getContent()).allSatisfy(asset -> assertThat(asset.getAssignDate()).isNull());
+                }
+                try (Stream<Asset> merged = repository.streamSearch(criteria, sort, AssetFields.all());
+                     Stream<Asset> expected = oracle.streamSearch(criteria, sort, AssetFields.all())) {
+                    if (sort.isSorted()) {
+                        assertThat(merged.map(Asset::getId)).containsExactlyElementsOf(
+                            expected.map(Asset::getId).toList());
+                    } else {
+                        assertThat(merged.map(Asset::getId)).containsExactlyInAnyOrderElementsOf(
+                            expected.map(Asset::getId).toList());
+                    }
+                }
+            }
+        }
+
+        PageRequest slice = PageRequest.of(0, 6, Sort.by("assignDate", "id"));
+        List<Asset> walked = new ArrayList<>();
+        List<Asset> next;
+        AssetCursor cursor = null;
+        do {
+            next = repository.findByCursor(cursor, true, slice, AssetFields.parse("name"));
+            walked.addAll(next);
+            cursor = next.isEmpty() ? null : AssetCursor.from(oracle.findById(next.get(next.size() - 1).getId())
+                .orElseThrow(), true);
+        } while (next.size() == slice.getPageSize());
+        assertThat(walked).extracting(Asset::getId).containsExactlyElementsOf(
+            oracle.findAll(Sort.by("assignDate", "id")).stream().map(Asset::getId).toList());
+    }
+
+    @Test
+    @DisplayName("insertUnordered → should report failures at their index in the original batch")
+    void insertUnordered_shouldMapErrorIndexes() {
+        PartitionedAssetRepository repository = bySerialNo(stores(3));
+        repository.insert(asset("Existing", "SN-1", DAY, null));
+
+        List<BulkWriteError> errors = repository.insertUnordered(List.of(
+            asset("A", "SN-2", DAY, null), asset("B", "SN-1", DAY, null), asset("C", "SN-3", DAY, null),
+            asset("D", "SN-2", DAY, null), asset("E", "SN-4", DAY, null)));
+
+        assertThat(errors).extracting(BulkWriteError::getIndex).containsExactly(1, 3);
+        assertThat(errors).allSatisfy(error -> assertThat(error.getCode()).isEqualTo(11000));
+        assertThat(repository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("findAndSet → should move an asset between category partitions and keep serialNo unique via claims")
+    void findAndSet_shouldMoveAcrossCategoryPartitions() {
+        List<InMemoryAssetRepository> partitions = stores(2);
+        InMemorySerialNoClaims claims = new InMemorySerialNoClaims();
+        PartitionedAssetRepository repository = byCategory(partitions, claims, Duration.ofHours(1));
+        Asset laptop = repository.insert(asset("Laptop", "SN-1", DAY, "Computer"));
+        Asset chair = repository.insert(asset("Chair", "SN-2", DAY, "Furniture"));
+
+        assertThatThrownBy(() -> repository.insert(asset("Desk", "SN-1", DAY, "Furniture")))
+            .isInstanceOf(DuplicateKeyException.class);
+
+        Asset previous = repository.findAndSet(laptop.getId(), Map.of("category", "Furniture")).orElseThrow();
+        assertThat(previous.getCategory()).isEqualTo("Computer");
+        assertThat(partitions.get(0).existsById(laptop.getId())).isFalse();
+        assertThat(partitions.get(1).findById(laptop.getId())).get().satisfies(moved -> {
+            assertThat(moved.getCategory()).isEqualTo("Furniture");
+            assertThat(moved.getVersion()).isEqualTo(1);
+        });
+        assertThat(partitions.get(0).findTombstonesSince(Instant.EPOCH)).isEmpty();
+
+        assertThatThrownBy(() -> repository.findAndSet(chair.getId(), Map.of("serialNo", "SN-1")))
+            .isInstanceOf(DuplicateKeyException.class);
+        repository.findAndSet(laptop.getId(), Map.of("serialNo", "SN-9"));
+        repository.insert(asset("Desk", "SN-1", DAY, "Computer"));
+        assertThat(claims.count()).isEqualTo(3);
+
+        assertThat(repository.updateMany(List.of(laptop.getId(), chair.getId()), Map.of("category", "Computer"),
+            Instant.now())).isEqualTo(2);
+        assertThat(partitions.get(0).count()).isEqualTo(3);
+        assertThat(partitions.get(1).count()).isZero();
+
+        repository.findAndRemove(laptop.getId());
+        repository.insert(asset("Monitor", "SN-9", DAY, "Furniture"));
+    }
+
+    @Test
+    @DisplayName("findById → should read only the cached partition and scatter unknown or moved ids")
+    void findById_shouldRouteThroughCache() {
+        List<InMemoryAssetRepository> partitions = Stream.generate(() -> spy(InMemoryAssetRepository.transientStore()))
+            .limit(3).toList();
+        PartitionedAssetRepository repository = bySerialNo(partitions);
+        Asset laptop = repository.insert(asset("Laptop", "SN-1", DAY, "Computer"));
+        int home = new SerialNoPartitioner(3).partitionOf(laptop);
+        Asset legacy = asset("Legacy", "SN-2", DAY, "Computer");
+        legacy.setId("legacy");
+        partitions.get(2).insert(legacy);
+        partitions.forEach(Mockito::clearInvocations);
+
+        assertThat(repository.findById(laptop.getId())).isPresent();
+        assertThat(repository.findAndSet(laptop.getId(), Map.of("name", "Laptop 2"))).isPresent();
+        for (int partition = 0; partition < 3; partition++) {
+            if (partition != home) {
+                verifyNoInteractions(partitions.get(partition));
+            }
+        }
+
+        assertThat(repository.findById("legacy")).isPresent();
+        partitions.forEach(Mockito::clearInvocations);
+        assertThat(repository.findAllById(List.of("legacy", "missing"))).extracting(Asset::getId)
+            .containsExactly("legacy");
+        verify(partitions.get(2)).findAllById(List.of("legacy", "missing"));
+        verify(partitions.get(0)).findAllById(List.of("missing"));
+        verify(partitions.get(1)).findAllById(List.of("missing"));
+
+        // Başka bir node taşıdı: önbellekteki partition'da yok, tekrar tüm partition'lara sorulur
+        partitions.get(2).deleteById("legacy");
+        legacy.setVersion(null);
+        partitions.get(0).insert(legacy);
+        assertThat(repository.findById("legacy")).isPresent();
+        partitions.forEach(Mockito::clearInvocations);
+        assertThat(repository.findById("legacy")).isPresent();
+        verify(partitions.get(1), never()).findById(anyString());
+        verify(partitions.get(2), never()).findById(anyString());
+
+        repository.deleteById(laptop.getId());
+        assertThat(repository.existsById(laptop.getId())).isFalse();
+        assertThat(partitions).allSatisfy(partition -> assertThat(partition.existsById(laptop.getId())).isFalse());
+        Asset sameId = asset("Other", "SN-3", DAY, "Computer");
+        sameId.setId("legacy");
+        assertThatThrownBy(() -> repository.insert(sameId)).isInstanceOf(DuplicateKeyException.class);
+        assertThat(repository.insertUnordered(List.of(sameId))).extracting(BulkWriteError::getCode)
+            .containsExactly(11000);
+    }
+
+    @Test
+    @DisplayName("findAll → should count an asset found in two partitions (mid-move) once in the page total")
+    void findAll_shouldNotCountMovingCopiesTwice() {
+        List<InMemoryAssetRepository> partitions = stores(2);
+        PartitionedAssetRepository repository = bySerialNo(partitions);
+        for (int i = 0; i < 4; i++) {
+            repository.insert(asset("Asset " + i, "SN-" + i, DAY, "Computer"));
+        }
+        Asset moving = repository.findBySerialNo("SN-0").orElseThrow();
+        moving.setVersion(null);
+        partitions.get(1 - new SerialNoPartitioner(2).partitionOf(moving)).insert(moving);
+
+        Page<Asset> page = repository.findAll(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(Asset::getSerialNo).containsExactly("SN-0", "SN-1");
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("insert → should take over a serialNo claim left by a write that never completed")
+    void insert_shouldTakeOverStaleClaim() {
+        InMemorySerialNoClaims claims = new InMemorySerialNoClaims();
+        claims.claim("SN-5", "crashed-before-insert");
+
+        PartitionedAssetRepository guarded = byCategory(stores(2), claims, Duration.ofHours(1));
+        assertThatThrownBy(() -> guarded.insert(asset("Laptop", "SN-5", DAY, "Computer")))
+            .isInstanceOf(DuplicateKeyException.class);
+
+        PartitionedAssetRepository repository = byCategory(stores(2), claims, Duration.ZERO);
+        Asset laptop = repository.insert(asset("Laptop", "SN-5", DAY, "Computer"));
+        assertThat(claims.claim("SN-5", "other")).get().extracting(SerialNoClaims.Claim::assetId)
+            .isEqualTo(laptop.getId());
+    }
+
+    @Test
+    @DisplayName("aggregateStats → should merge stats, buckets and tombstones across partitions")
+    void aggregateStats_shouldMergePartitions() {
+        PartitionedAssetRepository repository = bySerialNo(stores(3));
+        InMemoryAssetRepository oracle = InMemoryAssetRepository.transientStore();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Asset asset = repository.insert(asset("Asset " + i, "SN-" + i, DAY.minusDays(i * 3L),
+                CATEGORIES.get(i % CATEGORIES.size())));
+            oracle.insert(copy(asset));
+            ids.add(asset.getId());
+        }
+        Instant before = Instant.now();
+        assertThat(repository.deleteMany(List.of(ids.get(0), ids.get(5), "missing"))).isEqualTo(2);
+        oracle.deleteMany(List.of(ids.get(0), ids.get(5), "missing"));
+
+        AssetStats stats = repository.aggregateStats(DAY);
+        AssetStats expected = oracle.aggregateStats(DAY);
+        assertThat(stats.getTotal()).isEqualTo(18);
+        assertThat(stats.getAddedThisMonth()).isEqualTo(expected.getAddedThisMonth());
+        assertThat(stats.getAddedThisWeek()).isEqualTo(expected.getAddedThisWeek());
+        assertThat(stats.getByCategory()).isEqualTo(expected.getByCategory());
+        assertThat(stats.getLatestAsset().getId()).isEqualTo(expected.getLatestAsset().getId());
+        assertThat(repository.countByAssignDateAndCategory()).extracting(AssetCountBucket::getCount)
+            .containsExactlyInAnyOrderElementsOf(oracle.countByAssignDateAndCategory().stream()
+                .map(AssetCountBucket::getCount).toList());
+        assertThat(repository.findTombstonesSince(before)).extracting(AssetTombstone::getId)
+            .containsExactlyInAnyOrder(ids.get(0), ids.get(5));
+        assertThat(repository.findExistingIds(List.of(ids.get(1), ids.get(0), ids.get(2))))
+            .containsExactly(ids.get(1), ids.get(2));
+    }
+
+    private PartitionedAssetRepository bySerialNo(List<InMemoryAssetRepository> partitions) {
+        return open(new PartitionedAssetRepository(partitions, new SerialNoPartitioner(partitions.size()), null,
+            1000, 4, Duration.ZERO));
+    }
+
+    private PartitionedAssetRepository byCategory(List<InMemoryAssetRepository> partitions, SerialNoClaims claims,
+                                                  Duration claimGrace) {
+        CategoryPartitioner partitioner = new CategoryPartitioner(partitions.size(),
+            Map.of("Computer", 0, "Furniture", 1));
+        return open(new PartitionedAssetRepository(partitions, partitioner, claims, 1000, 4, claimGrace));
+    }
+
+    private PartitionedAssetRepository open(PartitionedAssetRepository repository) {
+        opened.add(repository);
+        return repository;
+    }
+
+    private static List<InMemoryAssetRepository> stores(int count) {
+        return Stream.generate(InMemoryAssetRepository::transientStore).limit(count).toList();
+    }
+
+    private static Asset asset(String name, String serialNo, LocalDate assignDate, String category) {
+        Asset asset = new Asset(null, name, serialNo, assignDate, category);
+        asset.setLastModified(Instant.now());
+        return asset;
+    }
+
+    private static Asset copy(Asset asset) {
+        return new Asset(asset.getId(), asset.getName(), asset.getSerialNo(), asset.getAssignDate(),
+            asset.getCategory(), asset.getVersion(), asset.getLastModified());
+    }
+}
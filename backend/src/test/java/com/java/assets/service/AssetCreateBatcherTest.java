@@ -0,0 +1,122 @@
+package com.java.assets.service;
+
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetCreateBatcherTest {
+
+    @Mock
+    private AssetStore assetRepository;
+
+    private AssetCreateBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    private static Asset asset(String serialNo) {
+        return new Asset(null, "Asset " + serialNo, serialNo, LocalDate.of(2026, 2, 17), "Computer");
+    }
+
+    private static AssetCreateBatcher.PendingCreate pending(String serialNo) {
+        return new AssetCreateBatcher.PendingCreate(asset(serialNo));
+    }
+
+    @Test
+    @DisplayName("flush → should write one bulk insert and reject duplicates within the batch and in the database")
+    void flush_shouldResolveEveryCaller() {
+        batcher = new AssetCreateBatcher(assetRepository, 10, Duration.ZERO, 1);
+        when(assetRepository.insertUnordered(anyList()))
+                .thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1)));
+        AssetCreateBatcher.PendingCreate first = pending("SN-1");
+        AssetCreateBatcher.PendingCreate existing = pending("SN-EXISTING");
+        AssetCreateBatcher.PendingCreate repeated = pending("SN-1");
+
+        batcher.flush(List.of(first, existing, repeated));
+
+        verify(assetRepository).insertUnordered(argThat(assets -> assets.size() == 2));
+        Asset saved = first.result.join();
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        assertThat(saved.getLastModified()).isNotNull();
+        assertThatThrownBy(existing.result::join).hasCauseInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(repeated.result::join)
+                .hasCauseInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("same batch");
+    }
+
+    @Test
+    @DisplayName("flush → should fail every caller when the bulk insert fails")
+    void flush_shouldFailEveryCaller_whenInsertFails() {
+        batcher = new AssetCreateBatcher(assetRepository, 10, Duration.ZERO, 1);
+        when(assetRepository.insertUnordered(anyList())).thenThrow(new IllegalStateException("connection reset"));
+        AssetCreateBatcher.PendingCreate first = pending("SN-1");
+        AssetCreateBatcher.PendingCreate second = pending("SN-2");
+
+        batcher.flush(List.of(first, second));
+
+        assertThat(first.result).isCompletedExceptionally();
+        assertThat(second.result).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("insert → should coalesce concurrent creates into one bulk insert")
+    void insert_shouldCoalesceConcurrentCreates() throws Exception {
+        batcher = new AssetCreateBatcher(assetRepository, 8, Duration.ofSeconds(5), 1);
+        when(assetRepository.insertUnordered(anyList())).thenReturn(List.of());
+        batcher.start();
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Asset>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Asset asset = asset("SN-" + i);
+                results.add(CompletableFuture.supplyAsync(() -> batcher.insert(asset), callers));
+            }
+            for (CompletableFuture<Asset> result : results) {
+                // maxWait'ten çok önce: batch dolunca beklemeden yazılır
+                assertThat(result.get(2, TimeUnit.SECONDS).getId()).isNotNull();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(assetRepository, times(1)).insertUnordered(argThat(assets -> assets.size() == 8));
+    }
+
+    @Test
+    @DisplayName("insert → should write directly when the batcher is stopped")
+    void insert_shouldWriteDirectly_whenStopped() {
+        batcher = new AssetCreateBatcher(assetRepository, 8, Duration.ofMillis(1), 1);
+        Asset asset = asset("SN-1");
+        when(assetRepository.insert(asset)).thenReturn(asset);
+
+        assertThat(batcher.insert(asset)).isSameAs(asset);
+        verify(assetRepository, never()).insertUnordered(anyList());
+    }
+}
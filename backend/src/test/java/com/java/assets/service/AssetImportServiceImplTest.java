@@ -0,0 +1,134 @@
+package com.java.assets.service;
+
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.dto.AssetImportRow;
+import com.java.assets.dto.BulkImportResult;
+import com.java.assets.exception.InvalidImportFileException;
+import com.java.assets.model.Asset;
+import com.java.assets.repository.AssetStore;
+import com.java.assets.stats.AssetStatsCounters;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.Validation;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssetImportServiceImplTest {
+
+    @Mock
+    private AssetStore assetRepository;
+
+    private AssetImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new AssetImportServiceImpl(assetRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), AssetStatsCounters.disabled(),
+                SerialNoIndex.disabled());
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+    }
+
+    private static AssetImportRow row(int row, String name, String serialNo) {
+        return AssetImportRow.of(row, new Asset(null, name, serialNo, LocalDate.of(2026, 2, 17), "Computer"));
+    }
+
+    @Test
+    @DisplayName("importAssets → should report created, duplicate and invalid rows")
+    void importAssets_shouldReportEveryRow() {
+        when(assetRepository.findSerialNosIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> serials = invocation.getArgument(0);
+            return serials.contains("SN-EXISTING")
+                    ? List.of(new Asset(null, null, "SN-EXISTING", null, null))
+                    : List.of();
+        });
+        when(assetRepository.insertUnordered(anyList())).thenReturn(List.of());
+
+        BulkImportResult result = importService.importAssets(Stream.of(
+                row(1, "Laptop", "SN1"),
+                row(2, "Laptop copy", "SN1"),
+                row(3, "Old monitor", "SN-EXISTING"),
+                row(4, "X", "SN4"),
+                AssetImportRow.invalid(5, "Malformed JSON line"),
+                row(6, "Phone", "SN6")));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getInvalid()).isEqualTo(2);
+        assertThat(result.getRows())
+                .filteredOn(r -> r.getStatus() == BulkImportResult.Status.CREATED)
+                .extracting(BulkImportResult.RowResult::getRow)
+                .containsExactlyInAnyOrder(1, 6);
+        assertThat(result.getRows())
+                .filteredOn(r -> r.getRow() == 4)
+                .singleElement()
+                .satisfies(r -> assertThat(r.getMessage()).contains("name"));
+        // 6 satır, batch 2 → 3 chunk, her biri için en fazla bir $in sorgusu
+        verify(assetRepository, times(3)).findSerialNosIn(anyCollection());
+        verify(assetRepository, never()).insert(any(Asset.class));
+        verify(assetRepository, never()).findBySerialNo(any());
+    }
+
+    @Test
+    @DisplayName("importAssets → should report rows rejected by the unique index as duplicates")
+    void importAssets_shouldMapDuplicateKeyErrors() {
+        when(assetRepository.findSerialNosIn(anyCollection())).thenReturn(List.of());
+        when(assetRepository.insertUnordered(anyList()))
+                .thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1)));
+
+        BulkImportResult result = importService.importAssets(Stream.of(
+                row(1, "Laptop", "SN1"),
+                row(2, "Monitor", "SN2")));
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getRows().get(0).getId()).isNotBlank();
+        assertThat(result.getRows().get(1).getSerialNo()).isEqualTo("SN2");
+        assertThat(result.getRows().get(1).getStatus()).isEqualTo(BulkImportResult.Status.DUPLICATE);
+    }
+
+    @Test
+    @DisplayName("importAssets → should return the rows written so far when the file breaks midway")
+    void importAssets_shouldReportFileErrorAfterWrittenChunks() {
+        when(assetRepository.findSerialNosIn(anyCollection())).thenReturn(List.of());
+        when(assetRepository.insertUnordered(anyList())).thenReturn(List.of());
+
+        BulkImportResult result = importService.importAssets(Stream.concat(
+                Stream.of(row(1, "Laptop", "SN1"), row(2, "Monitor", "SN2"), row(3, "Phone", "SN3")),
+                Stream.<AssetImportRow>generate(() -> {
+                    throw new InvalidImportFileException("Malformed JSON import near row 4");
+                })));
+
+        assertThat(result.getCreated()).isEqualTo(3);
+        assertThat(result.getError()).isEqualTo("Malformed JSON import near row 4");
+        verify(assetRepository, times(2)).insertUnordered(anyList());
+    }
+
+    @Test
+    @DisplayName("importAssets → should fail without writing when the file breaks in the first chunk")
+    void importAssets_shouldRejectFileBrokenBeforeFirstWrite() {
+        Stream<AssetImportRow> rows = Stream.concat(Stream.of(row(1, "Laptop", "SN1")),
+                Stream.<AssetImportRow>generate(() -> {
+                    throw new InvalidImportFileException("Malformed JSON import near row 2");
+                }));
+
+        assertThatThrownBy(() -> importService.importAssets(rows)).isInstanceOf(InvalidImportFileException.class);
+        verify(assetRepository, never()).insertUnordered(anyList());
+    }
+}
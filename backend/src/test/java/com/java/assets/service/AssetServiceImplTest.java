@@ -1,29 +1,77 @@
 package com.java.assets.service;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
+import com.java.assets.cache.AssetCache;
+import com.java.assets.cache.SerialNoIndex;
+import com.java.assets.stats.AssetStatsCounters;
+import com.java.assets.dto.AssetBulkResult;
+import com.java.assets.dto.AssetBulkSelection;
+import com.java.assets.dto.AssetChanges;
+import com.java.assets.dto.AssetCollectionVersion;
+import com.java.assets.dto.AssetCursor;
+import com.java.assets.dto.AssetFields;
+import com.java.assets.dto.AssetPatch;
+import com.java.assets.dto.AssetSearchCriteria;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.dto.CursorPage;
 import com.java.assets.exception.AssetNotFoundException;
 import com.java.assets.exception.DuplicateSerialNoException;
+import com.java.assets.exception.InvalidBulkRequestException;
+import com.java.assets.exception.InvalidCursorException;
+import com.java.assets.exception.InvalidSortException;
 import com.java.assets.model.Asset;
-import com.java.assets.repository.AssetRepository;
+import com.java.assets.model.AssetTombstone;
+import com.java.assets.repository.AssetStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AssetServiceImplTest {
 
     @Mock
-    private AssetRepository assetRepository;
+    private AssetStore assetRepository;
+
+    @Spy
+    private AssetCache assetCache = AssetCache.disabled();
+
+    @Spy
+    private AssetStatsCounters assetStatsCounters = AssetStatsCounters.disabled();
+
+    @Spy
+    private SerialNoIndex serialNoIndex = SerialNoIndex.disabled();
+
+    @Spy
+    private AssetCreateBatcher assetCreateBatcher = AssetCreateBatcher.disabled();
 
     @InjectMocks
     private AssetServiceImpl assetService;
@@ -46,13 +94,24 @@ class AssetServiceImplTest {
     void getAllAssets_shouldReturnAllAssets() {
         when(assetRepository.findAll()).thenReturn(List.of(testAsset));
 
-        List<Asset> result = assetService.getAllAssets();
+        List<Asset> result = assetService.getAllAssets(AssetFields.all());
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Laptop Dell XPS");
         verify(assetRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("streamAllAssets → should return repository cursor stream")
+    void streamAllAssets_shouldReturnRepositoryStream() {
+        when(assetRepository.streamAllBy()).thenReturn(Stream.of(testAsset));
+
+        try (Stream<Asset> result = assetService.streamAllAssets(AssetFields.all())) {
+            assertThat(result).containsExactly(testAsset);
+        }
+        verify(assetRepository, never()).findAll();
+    }
+
     @Test
     @DisplayName("getAssetById → should return asset when found")
     void getAssetById_shouldReturnAsset_whenFound() {
@@ -77,25 +136,40 @@ class AssetServiceImplTest {
     @Test
     @DisplayName("addAsset → should save and return asset")
     void addAsset_shouldSaveAndReturnAsset() {
-        when(assetRepository.findBySerialNo("SN001")).thenReturn(Optional.empty());
-        when(assetRepository.save(any(Asset.class))).thenReturn(testAsset);
+        when(assetRepository.insert(any(Asset.class))).thenReturn(testAsset);
 
         Asset result = assetService.addAsset(testAsset);
 
         assertThat(result.getSerialNo()).isEqualTo("SN001");
-        verify(assetRepository, times(1)).save(any(Asset.class));
+        verify(assetRepository, times(1)).insert(any(Asset.class));
+        verify(assetRepository, never()).findBySerialNo(any());
     }
 
     @Test
     @DisplayName("addAsset → should throw exception when serialNo exists")
     void addAsset_shouldThrowException_whenSerialNoExists() {
-        when(assetRepository.findBySerialNo("SN001")).thenReturn(Optional.of(testAsset));
+        when(assetRepository.insert(any(Asset.class)))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
 
         assertThatThrownBy(() -> assetService.addAsset(testAsset))
             .isInstanceOf(DuplicateSerialNoException.class)
             .hasMessageContaining("SN001");
 
-        verify(assetRepository, never()).save(any());
+        verify(assetRepository, times(1)).insert(any(Asset.class));
+    }
+
+    @Test
+    @DisplayName("addAsset → should go through the create batcher when coalescing is enabled")
+    void addAsset_shouldUseCreateBatcher_whenEnabled() {
+        AssetCreateBatcher batcher = mock(AssetCreateBatcher.class);
+        when(batcher.isEnabled()).thenReturn(true);
+        when(batcher.insert(testAsset)).thenThrow(new DuplicateKeyException("Duplicate serialNo 'SN001' in the same batch"));
+        assetService = new AssetServiceImpl(assetRepository, assetCache, assetStatsCounters, serialNoIndex, batcher);
+
+        assertThatThrownBy(() -> assetService.addAsset(testAsset))
+            .isInstanceOf(DuplicateSerialNoException.class)
+            .hasMessageContaining("SN001");
+        verify(assetRepository, never()).insert(any(Asset.class));
     }
 
     @Test
@@ -104,43 +178,373 @@ class AssetServiceImplTest {
         Asset updatedAsset = new Asset("1", "Updated Laptop", "SN001",
             LocalDate.of(2026, 2, 17), "Computer");
 
-        when(assetRepository.findById("1")).thenReturn(Optional.of(testAsset));
-        when(assetRepository.save(any(Asset.class))).thenReturn(updatedAsset);
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Optional.of(updatedAsset));
 
         Asset result = assetService.updateAsset("1", updatedAsset);
 
         assertThat(result.getName()).isEqualTo("Updated Laptop");
-        verify(assetRepository, times(1)).save(any(Asset.class));
+        verify(assetRepository, times(1)).findAndSet(eq("1"), anyMap());
+        verify(assetRepository, never()).findById(any());
+        verify(assetRepository, never()).insert(any(Asset.class));
     }
 
     @Test
     @DisplayName("updateAsset → should throw exception when not found")
     void updateAsset_shouldThrowException_whenNotFound() {
-        when(assetRepository.findById("999")).thenReturn(Optional.empty());
+        when(assetRepository.findAndSet(eq("999"), anyMap())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> assetService.updateAsset("999", testAsset))
             .isInstanceOf(AssetNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("updateAsset → should throw exception when new serialNo exists")
+    void updateAsset_shouldThrowException_whenSerialNoExists() {
+        Asset updatedAsset = new Asset("1", "Laptop", "SN002", LocalDate.of(2026, 2, 17), null);
+        when(assetRepository.findAndSet(eq("1"), anyMap()))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        assertThatThrownBy(() -> assetService.updateAsset("1", updatedAsset))
+            .isInstanceOf(DuplicateSerialNoException.class)
+            .hasMessageContaining("SN002");
+    }
+
+    @Test
+    @DisplayName("patchAsset → should $set only the fields present in the patch (plus lastModified)")
+    void patchAsset_shouldSetOnlyPresentFields() {
+        when(assetRepository.findAndSet(eq("1"), argThat(fields -> fields.keySet().equals(Set.of("category", "lastModified"))
+                && "Monitor".equals(fields.get("category")))))
+            .thenReturn(Optional.of(testAsset));
+
+        Asset result = assetService.patchAsset("1", new AssetPatch(null, null, null, "Monitor"));
+
+        assertThat(result.getCategory()).isEqualTo("Monitor");
+        assertThat(result.getName()).isEqualTo("Laptop Dell XPS");
+        assertThat(result.getVersion()).isEqualTo(1L);
+        assertThat(result.getLastModified()).isNotNull();
+        assertThat(testAsset.getCategory()).isEqualTo("Computer");
+    }
+
+    @Test
+    @DisplayName("patchAsset → should throw exception when not found")
+    void patchAsset_shouldThrowException_whenNotFound() {
+        when(assetRepository.findById("999")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> assetService.patchAsset("999", new AssetPatch()))
+            .isInstanceOf(AssetNotFoundException.class);
+
+        verify(assetRepository, never()).findAndSet(any(), any());
+    }
+
     @Test
     @DisplayName("deleteAsset → should delete successfully")
     void deleteAsset_shouldDeleteSuccessfully() {
-        when(assetRepository.existsById("1")).thenReturn(true);
-        doNothing().when(assetRepository).deleteById("1");
+        when(assetRepository.findAndRemove("1")).thenReturn(Optional.of(testAsset));
 
         assetService.deleteAsset("1");
 
-        verify(assetRepository, times(1)).deleteById("1");
+        verify(assetRepository, times(1)).findAndRemove("1");
+        verify(assetRepository, never()).existsById(any());
     }
 
     @Test
     @DisplayName("deleteAsset → should throw exception when not found")
     void deleteAsset_shouldThrowException_whenNotFound() {
-        when(assetRepository.existsById("999")).thenReturn(false);
+        when(assetRepository.findAndRemove("999")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> assetService.deleteAsset("999"))
             .isInstanceOf(AssetNotFoundException.class);
 
         verify(assetRepository, never()).deleteById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getAssetsByCursor → should return first slice with next cursor")
+    void getAssetsByCursor_shouldReturnFirstSliceWithNextCursor() {
+        Asset second = new Asset("2", "Monitor LG", "SN002", LocalDate.of(2026, 2, 18), "Monitor");
+        when(assetRepository.findAllBy(any(Pageable.class))).thenReturn(List.of(testAsset, second));
+
+        CursorPage<Asset> result = assetService.getAssetsByCursor(null, 1, "id", false, AssetFields.all());
+
+        assertThat(result.getContent()).containsExactly(testAsset);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(AssetCursor.decode(result.getNextCursor(), false).getId()).isEqualTo("1");
+        assertThat(result.getTotalElements()).isNull();
+        verify(assetRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("getAssetsByCursor → should continue after assignDate + id cursor")
+    void getAssetsByCursor_shouldContinueAfterAssignDateCursor() {
+        String cursor = AssetCursor.from(testAsset, true).encode();
+        when(assetRepository.findAfterAssignDate(eq(testAsset.getAssignDate()), eq("1"), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(assetRepository.count()).thenReturn(1L);
+
+        CursorPage<Asset> result = assetService.getAssetsByCursor(cursor, 10, "assignDate", true, AssetFields.all());
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("getAssetsByCursor → should reject cursor of another sort key")
+    void getAssetsByCursor_shouldRejectMismatchedCursor() {
+        String idCursor = AssetCursor.from(testAsset, false).encode();
+
+        assertThatThrownBy(() -> assetService.getAssetsByCursor(idCursor, 10, "assignDate", false, AssetFields.all()))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> assetService.getAssetsByCursor("not-a-cursor!", 10, "id", false, AssetFields.all()))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("searchAssets → should delegate to repository with sort and id tie-breaker")
+    void searchAssets_shouldDelegateWithSort() {
+        AssetSearchCriteria criteria = new AssetSearchCriteria("lap", "Computer", false);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(assetRepository.search(eq(criteria), pageable.capture(), eq(AssetFields.all())))
+            .thenReturn(new PageImpl<>(List.of(testAsset)));
+
+        Page<Asset> result = assetService.searchAssets(criteria, "assignDate", "desc", 2, 5, AssetFields.all());
+
+        assertThat(result.getContent()).containsExactly(testAsset);
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(5);
+        assertThat(pageable.getValue().getSort())
+            .isEqualTo(Sort.by(Sort.Direction.DESC, "assignDate").and(Sort.by("id")));
+    }
+
+    @Test
+    @DisplayName("searchAssets → should reject unsupported sort field")
+    void searchAssets_shouldRejectUnsupportedSortField() {
+        assertThatThrownBy(() -> assetService.searchAssets(new AssetSearchCriteria(), "password", "asc", 0, 10, AssetFields.all()))
+            .isInstanceOf(InvalidSortException.class)
+            .hasMessageContaining("password");
+
+        verify(assetRepository, never()).search(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getStats → should use the aggregation when incremental counters are off")
+    void getStats_shouldUseAggregation_whenCountersDisabled() {
+        AssetStats stats = new AssetStats(1, 1, 0, testAsset, Map.of("Computer", 1L));
+        when(assetRepository.aggregateStats(any(LocalDate.class))).thenReturn(stats);
+
+        assertThat(assetService.getStats()).isSameAs(stats);
+        verify(assetRepository, never()).countByAssignDateAndCategory();
+    }
+
+    @Test
+    @DisplayName("getChanges → should return upserts and tombstones since the overlap-adjusted point")
+    void getChanges_shouldReturnUpsertsAndDeletes() {
+        Instant since = Instant.now().minusSeconds(60);
+        Instant from = since.minus(AssetServiceImpl.CHANGES_OVERLAP);
+        when(assetRepository.findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(from)).thenReturn(List.of(testAsset));
+        when(assetRepository.findTombstonesSince(from)).thenReturn(List.of(new AssetTombstone("2", since.plusSeconds(1))));
+
+        AssetChanges changes = assetService.getChanges(since);
+
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getUpserts()).containsExactly(testAsset);
+        assertThat(changes.getDeleted()).containsExactly("2");
+        assertThat(changes.getUntil()).isAfter(since);
+    }
+
+    @Test
+    @DisplayName("getChanges → should ask for a full resync when since is missing or older than tombstone retention")
+    void getChanges_shouldRequireFullResync() {
+        assertThat(assetService.getChanges(null).isFullResync()).isTrue();
+        assertThat(assetService.getChanges(Instant.now().minus(AssetTombstone.RETENTION)).isFullResync()).isTrue();
+
+        verify(assetRepository, never()).findByLastModifiedGreaterThanEqualOrderByLastModifiedAsc(any());
+    }
+
+    @Test
+    @DisplayName("getCollectionVersion → should change when an asset is deleted")
+    void getCollectionVersion_shouldReflectDeletes() {
+        Instant written = Instant.parse("2026-02-17T10:00:00Z");
+        testAsset.setLastModified(written);
+        when(assetRepository.findFirstByOrderByLastModifiedDesc()).thenReturn(Optional.of(testAsset));
+        when(assetRepository.estimatedCount()).thenReturn(2L, 1L);
+        when(assetRepository.findLatestDeletion()).thenReturn(Optional.empty())
+            .thenReturn(Optional.of(written.plusSeconds(5)));
+
+        AssetCollectionVersion before = assetService.getCollectionVersion();
+        AssetCollectionVersion after = assetService.getCollectionVersion();
+
+        assertThat(before.getLastModified()).isEqualTo(written);
+        assertThat(after.getLastModified()).isEqualTo(written.plusSeconds(5));
+        assertThat(after.toETag()).isNotEqualTo(before.toETag());
+        verify(assetRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("getCollectionVersion → should change after a write even when count and lastModified do not")
+    void getCollectionVersion_shouldReflectLateCommittedWrites() {
+        // Önce damgalanıp sonra commit edilen yazma: max(lastModified) ve sayı aynı kalır
+        testAsset.setLastModified(Instant.parse("2026-02-17T10:00:00Z"));
+        when(assetRepository.findFirstByOrderByLastModifiedDesc()).thenReturn(Optional.of(testAsset));
+        when(assetRepository.estimatedCount()).thenReturn(1L);
+        when(assetRepository.findLatestDeletion()).thenReturn(Optional.empty());
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Optional.of(testAsset));
+        when(assetRepository.countWrites()).thenReturn(4L).thenReturn(5L);
+
+        AssetCollectionVersion before = assetService.getCollectionVersion();
+        assetService.patchAsset("1", new AssetPatch("Renamed", null, null, null));
+        AssetCollectionVersion after = assetService.getCollectionVersion();
+
+        // Sayaç paylaşılan store'da artırılır: tüm node'lar aynı ETag'i görür
+        verify(assetRepository).incrementWrites();
+        assertThat(after.getLastModified()).isEqualTo(before.getLastModified());
+        assertThat(after.toETag()).isNotEqualTo(before.toETag());
+    }
+
+    @Test
+    @DisplayName("patchAsset → should still succeed when the write counter cannot be incremented")
+    void patchAsset_shouldTolerateCounterFailure() {
+        when(assetRepository.findAndSet(eq("1"), anyMap())).thenReturn(Optional.of(testAsset));
+        doThrow(new DataAccessResourceFailureException("down")).when(assetRepository).incrementWrites();
+
+        assertThat(assetService.patchAsset("1", new AssetPatch("Renamed", null, null, null))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("bulkDelete → should delete existing ids in chunks and report matched/deleted counts")
+    void bulkDelete_shouldDeleteInChunks() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < AssetServiceImpl.BULK_CHUNK_SIZE + 1; i++) {
+            ids.add("id" + i);
+        }
+        ids.add("id0");
+        when(assetRepository.findExistingIds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(assetRepository.deleteMany(anyList())).thenAnswer(invocation -> (long) invocation.<List<?>>getArgument(0).size());
+
+        AssetBulkResult result = assetService.bulkDelete(new AssetBulkSelection(ids, null));
+
+        assertThat(result.getMatched()).isEqualTo(AssetServiceImpl.BULK_CHUNK_SIZE + 1);
+        assertThat(result.getModified()).isEqualTo(AssetServiceImpl.BULK_CHUNK_SIZE + 1);
+        verify(assetRepository, times(2)).deleteMany(anyList());
+        verify(assetStatsCounters).invalidate();
+    }
+
+    @Test
+    @DisplayName("bulkUpdate → should resolve a filter to ids and run a single updateMany")
+    void bulkUpdate_shouldUpdateByFilter() {
+        AssetSearchCriteria filter = new AssetSearchCriteria(null, "Computer", false);
+        when(assetRepository.findIds(filter)).thenReturn(List.of("1", "2", "3"));
+        when(assetRepository.updateMany(eq(List.of("1", "2", "3")), eq(Map.of("category", "Retired")), any()))
+                .thenReturn(2L);
+
+        AssetBulkResult result = assetService.bulkUpdate(new AssetBulkSelection(null, filter),
+                new AssetPatch(null, null, null, "Retired"));
+
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getModified()).isEqualTo(2);
+        verify(assetRepository, never()).findExistingIds(anyList());
+        verify(assetCache).evict("3");
+    }
+
+    @Test
+    @DisplayName("bulkUpdate/bulkDelete → should reject ambiguous selections, empty filters and serialNo updates")
+    void bulkOperations_shouldRejectInvalidRequests() {
+        AssetPatch retire = new AssetPatch(null, null, null, "Retired");
+
+        assertThatThrownBy(() -> assetService.bulkDelete(new AssetBulkSelection(null, null)))
+                .isInstanceOf(InvalidBulkRequestException.class);
+        assertThatThrownBy(() -> assetService.bulkDelete(
+                new AssetBulkSelection(List.of("1"), new AssetSearchCriteria(null, "Computer", false))))
+                .isInstanceOf(InvalidBulkRequestException.class);
+        assertThatThrownBy(() -> assetService.bulkDelete(
+                new AssetBulkSelection(null, new AssetSearchCriteria(" ", null, false))))
+                .isInstanceOf(InvalidBulkRequestException.class);
+        assertThatThrownBy(() -> assetService.bulkUpdate(
+                new AssetBulkSelection(List.of("1"), null), new AssetPatch(null, "SN9", null, null)))
+                .isInstanceOf(InvalidBulkRequestException.class);
+        assertThatThrownBy(() -> assetService.bulkUpdate(new AssetBulkSelection(List.of("1"), null), new AssetPatch()))
+                .isInstanceOf(InvalidBulkRequestException.class);
+
+        verify(assetRepository, never()).updateMany(any(), any(), any());
+        verify(assetRepository, never()).deleteMany(any());
+    }
+
+    @Test
+    @DisplayName("getAllAssets → should read only the requested fields when fields are given")
+    void getAllAssets_shouldUseProjection() {
+        AssetFields fields = AssetFields.parse("name,serialNo");
+        when(assetRepository.search(any(AssetSearchCriteria.class), eq(Pageable.unpaged()), eq(fields)))
+            .thenReturn(new PageImpl<>(List.of(testAsset)));
+
+        assertThat(assetService.getAllAssets(fields)).containsExactly(testAsset);
+        verify(assetRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("getAssetsByCursor → should keep the sort key in the projection for the next cursor")
+    void getAssetsByCursor_shouldProjectSortKey() {
+        Asset second = new Asset("2", "Monitor", "SN002", LocalDate.of(2026, 2, 18), "Monitor");
+        when(assetRepository.findByCursor(isNull(), eq(true), any(Pageable.class), any(AssetFields.class)))
+            .thenReturn(List.of(testAsset, second));
+
+        CursorPage<Asset> result = assetService.getAssetsByCursor(null, 1, "assignDate", false,
+            AssetFields.parse("name"));
+
+        ArgumentCaptor<AssetFields> fields = ArgumentCaptor.forClass(AssetFields.class);
+        verify(assetRepository).findByCursor(isNull(), eq(true), any(Pageable.class), fields.capture());
+        assertThat(fields.getValue().getNames()).containsExactly("id", "name", "assignDate");
+        assertThat(result.getNextCursor()).isEqualTo(AssetCursor.from(testAsset, true).encode());
+        verify(assetRepository, never()).findAllBy(any());
+    }
+
+    @Test
+    @DisplayName("getAssetBySerialNo → should read indexed serials by id and ask the database on an index miss")
+    void getAssetBySerialNo_shouldUseSerialIndex_whenReady() {
+        String id = new ObjectId().toHexString();
+        testAsset.setId(id);
+        SerialNoIndex index = new SerialNoIndex(0.01);
+        index.rebuild(1, List.of(testAsset).iterator());
+        assetService = new AssetServiceImpl(assetRepository, assetCache, assetStatsCounters, index,
+            AssetCreateBatcher.disabled());
+        when(assetRepository.findById(id)).thenReturn(Optional.of(testAsset));
+        Asset elsewhere = new Asset(new ObjectId().toHexString(), "Monitor", "SN002", LocalDate.now(), "Monitor");
+        when(assetRepository.findBySerialNo("SN002")).thenReturn(Optional.of(elsewhere));
+        when(assetRepository.findBySerialNo("SN404")).thenReturn(Optional.empty());
+
+        assertThat(assetService.getAssetBySerialNo("SN001")).isSameAs(testAsset);
+        verify(assetRepository, never()).findBySerialNo("SN001");
+        // Başka bir node'da oluşturulmuş, index henüz yeniden kurulmamış
+        assertThat(assetService.getAssetBySerialNo("SN002")).isSameAs(elsewhere);
+        assertThat(index.findId("SN002")).isEqualTo(elsewhere.getId());
+        assertThatThrownBy(() -> assetService.getAssetBySerialNo("SN404"))
+            .isInstanceOf(AssetNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("serialNosExist → should take hits from the index and ask the database about the rest")
+    void serialNosExist_shouldCheckIndexMissesInDatabase() {
+        SerialNoIndex index = new SerialNoIndex(0.01);
+        testAsset.setId(new ObjectId().toHexString());
+        index.rebuild(1, List.of(testAsset).iterator());
+        assetService = new AssetServiceImpl(assetRepository, assetCache, assetStatsCounters, index,
+            AssetCreateBatcher.disabled());
+        Asset elsewhere = new Asset(new ObjectId().toHexString(), "Monitor", "SN002", LocalDate.now(), "Monitor");
+        when(assetRepository.findSerialNosIn(List.of("SN002", "SN404"))).thenReturn(List.of(elsewhere));
+
+        Map<String, Boolean> result = assetService.serialNosExist(List.of("SN001", "SN002", "SN404"));
+
+        assertThat(result).containsExactly(Map.entry("SN001", true), Map.entry("SN002", true),
+            Map.entry("SN404", false));
+    }
+
+    @Test
+    @DisplayName("serialNosExist → should query the database in request order when the index is off")
+    void serialNosExist_shouldQueryDatabase_whenIndexDisabled() {
+        when(assetRepository.findSerialNosIn(List.of("SN404", "SN001"))).thenReturn(List.of(testAsset));
+
+        Map<String, Boolean> result = assetService.serialNosExist(List.of("SN404", "SN001", "SN404"));
+
+        assertThat(result).containsExactly(Map.entry("SN404", false), Map.entry("SN001", true));
+    }
+}
@@ -0,0 +1,138 @@
+package com.java.assets.stats;
+
+import com.java.assets.dto.AssetCountBucket;
+import com.java.assets.dto.AssetStats;
+import com.java.assets.model.Asset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AssetStatsCountersTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 17);
+
+    private final AssetStatsCounters counters = new AssetStatsCounters(true, Duration.ofMinutes(5),
+            Clock.fixed(Instant.parse("2026-02-17T10:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("snapshot → should count month and week windows from rebuilt buckets")
+    void snapshot_shouldCountWindows() {
+        counters.rebuild(List.of(
+                new AssetCountBucket(LocalDate.of(2026, 1, 31), "Computer", 2),
+                new AssetCountBucket(LocalDate.of(2026, 2, 1), "Monitor", 1),
+                new AssetCountBucket(LocalDate.of(2026, 2, 15), null, 3)));
+
+        AssetStats stats = counters.snapshot(TODAY);
+
+        assertThat(stats.getTotal()).isEqualTo(6);
+        assertThat(stats.getAddedThisMonth()).isEqualTo(4);
+        assertThat(stats.getAddedThisWeek()).isEqualTo(3);
+        assertThat(stats.getByCategory()).isEqualTo(Map.of("Computer", 2L, "Monitor", 1L, "Other", 3L));
+    }
+
+    @Test
+    @DisplayName("onAdded/onUpdated/onDeleted → should move counts between buckets")
+    void writeEvents_shouldAdjustCounters() {
+        counters.rebuild(List.of());
+        Asset laptop = new Asset("1", "Laptop", "SN1", TODAY, "Computer");
+        Asset moved = new Asset("1", "Laptop", "SN1", LocalDate.of(2025, 12, 1), "Monitor");
+
+        counters.onAdded(laptop);
+        assertThat(counters.snapshot(TODAY).getAddedThisWeek()).isEqualTo(1);
+
+        counters.onUpdated(laptop, moved);
+        AssetStats afterUpdate = counters.snapshot(TODAY);
+        assertThat(afterUpdate.getTotal()).isEqualTo(1);
+        assertThat(afterUpdate.getAddedThisMonth()).isZero();
+        assertThat(afterUpdate.getByCategory()).isEqualTo(Map.of("Monitor", 1L));
+
+        counters.onDeleted(moved);
+        assertThat(counters.snapshot(TODAY).getTotal()).isZero();
+        assertThat(counters.snapshot(TODAY).getByCategory()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("write events before the first rebuild → should be ignored")
+    void writeEvents_shouldBeIgnored_beforeRebuild() {
+        assertThat(counters.needsResync()).isTrue();
+
+        counters.onAdded(new Asset("1", "Laptop", "SN1", TODAY, "Computer"));
+        counters.rebuild(List.of());
+
+        assertThat(counters.snapshot(TODAY).getTotal()).isZero();
+        assertThat(counters.needsResync()).isFalse();
+    }
+
+    @Test
+    @DisplayName("resync → should replay write events that arrive while the aggregation runs")
+    void resync_shouldReplayWritesDuringAggregation() {
+        Asset laptop = new Asset("1", "Laptop", "SN1", TODAY, "Computer");
+        Asset chair = new Asset("2", "Chair", "SN2", TODAY, "Furniture");
+
+        counters.resync(() -> {
+            counters.onAdded(laptop);
+            counters.onAdded(chair);
+            counters.onDeleted(chair);
+            return List.of(new AssetCountBucket(TODAY, "Computer", 2));
+        });
+
+        assertThat(counters.snapshot(TODAY).getTotal()).isEqualTo(3);
+        assertThat(counters.snapshot(TODAY).getByCategory()).isEqualTo(Map.of("Computer", 3L));
+
+        counters.invalidate();
+        counters.resync(() -> {
+            counters.invalidate();
+            return List.of();
+        });
+        assertThat(counters.needsResync()).isTrue();
+    }
+
+    @Test
+    @DisplayName("resync → should run a single aggregation for concurrent callers")
+    void resync_shouldRunOnceForConcurrentCallers() throws Exception {
+        AtomicInteger aggregations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> counters.resync(() -> {
+            aggregations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return List.of(new AssetCountBucket(TODAY, "Computer", 5));
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> {
+            counters.resync(() -> {
+                aggregations.incrementAndGet();
+                return List.of();
+            });
+            return counters.snapshot(TODAY).getTotal();
+        });
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(5);
+        assertThat(aggregations).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
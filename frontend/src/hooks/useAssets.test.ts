@@ -81,4 +81,26 @@ describe('useAssets', () => {
     expect(result.current.formErrors.name).toBeTruthy();
     expect(mockAssetService.addAsset).not.toHaveBeenCalled();
   });
-});
\ No newline at end of file
+
+  test('should refresh with deltas from /changes instead of reloading everything', async () => {
+    const newAsset = { ...mockAsset, id: '2', name: 'Monitor LG', serialNo: 'SN002' };
+    mockAssetService.getAllAssets.mockResolvedValue([mockAsset]);
+    mockAssetService.getChanges
+      .mockResolvedValueOnce({ since: null, until: 'T1', fullResync: true, upserts: [], deleted: [] })
+      .mockResolvedValueOnce({ since: 'T1', until: 'T2', fullResync: false, upserts: [newAsset], deleted: ['1'] });
+    mockAssetService.deleteAsset.mockResolvedValue(undefined);
+    window.confirm = jest.fn(() => true);
+
+    const { result } = renderHook(() => useAssets());
+    await act(async () => {
+      await new Promise(resolve => setTimeout(resolve, 0));
+    });
+    await act(async () => {
+      await result.current.handleDelete('1');
+    });
+
+    expect(mockAssetService.getAllAssets).toHaveBeenCalledTimes(1);
+    expect(mockAssetService.getChanges).toHaveBeenLastCalledWith('T1');
+    expect(result.current.assets).toEqual([newAsset]);
+  });
+});
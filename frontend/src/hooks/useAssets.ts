@@ -1,5 +1,5 @@
-import { useState, useEffect, useCallback } from 'react';
-import { Asset, AssetCategory } from '../types/Asset';
+import { useState, useEffect, useCallback, useRef } from 'react';
+import { Asset, AssetCategory, AssetChanges } from '../types/Asset';
 import { assetService } from '../services/assetService';
 import { toast } from 'react-toastify';
 
@@ -10,6 +10,20 @@ const INITIAL_FORM: Asset = {
   category: AssetCategory.OTHER,
 };
 
+// Önce silinenler çıkarılır, sonra upsert'ler id'ye göre yerinde güncellenir ya da sona eklenir
+const applyChanges = (current: Asset[], changes: AssetChanges): Asset[] => {
+  const deleted = new Set(changes.deleted);
+  const upserts = new Map<string | undefined, Asset>(changes.upserts.map(asset => [asset.id, asset]));
+  const merged = current
+    .filter(asset => !deleted.has(asset.id!))
+    .map(asset => upserts.get(asset.id) ?? asset);
+  const existing = new Set(merged.map(asset => asset.id));
+  changes.upserts.forEach(asset => {
+    if (!existing.has(asset.id)) merged.push(asset);
+  });
+  return merged;
+};
+
 export const useAssets = () => {
   const [assets, setAssets] = useState<Asset[]>([]);
   const [formData, setFormData] = useState<Asset>(INITIAL_FORM);
@@ -17,11 +31,23 @@ export const useAssets = () => {
   const [loading, setLoading] = useState(false);
   const [formErrors, setFormErrors] = useState<Partial<Record<keyof Asset, string>>>({});
 
+  const sinceRef = useRef<string | null>(null);
+
   const fetchAssets = useCallback(async () => {
     setLoading(true);
     try {
-      const data = await assetService.getAllAssets();
-      setAssets(data);
+      const changes = sinceRef.current ? await assetService.getChanges(sinceRef.current) : undefined;
+      if (changes && !changes.fullResync) {
+        // Sadece değişenler gelir
+        setAssets(current => applyChanges(current, changes));
+        sinceRef.current = changes.until;
+      } else {
+        // İlk yükleme: until listeden ÖNCE alınır, aradaki yazmalar bir sonraki delta'da gelir
+        const marker = await assetService.getChanges();
+        const data = await assetService.getAllAssets();
+        setAssets(data);
+        sinceRef.current = marker?.until ?? null;
+      }
     } catch (error) {
       toast.error('Failed to fetch assets ❌');
     } finally {
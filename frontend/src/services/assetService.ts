@@ -1,5 +1,5 @@
 import axiosInstance from './axiosInstance';
-import { Asset } from '../types/Asset';
+import { Asset, AssetChanges } from '../types/Asset';
 
 export const assetService = {
 
@@ -8,6 +8,12 @@ export const assetService = {
     return response.data;
   },
 
+  // Delta sync - since verilmezse sadece until döner (fullResync)
+  getChanges: async (since?: string): Promise<AssetChanges> => {
+    const response = await axiosInstance.get('/changes', { params: since ? { since } : {} });
+    return response.data;
+  },
+
   getAssetById: async (id: string): Promise<Asset> => {
     const response = await axiosInstance.get(`/${id}`);
     return response.data;
@@ -13,6 +13,16 @@ export interface Asset {
   serialNo: string;
   assignDate: string;
   category: AssetCategory;
+  version?: number;
+  lastModified?: string;
+}
+
+export interface AssetChanges {
+  since: string | null;
+  until: string;
+  fullResync: boolean;
+  upserts: Asset[];
+  deleted: string[];
 }
 
 export interface CategoryConfig {